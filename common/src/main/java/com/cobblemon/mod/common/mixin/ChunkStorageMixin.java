@@ -42,6 +42,9 @@ public class ChunkStorageMixin {
     public CompoundTag cobblemon$doChunkFix(
         CompoundTag vanillaFixed
     ) {
+        if (!CobblemonSchemas.needsFixing(vanillaFixed, "block_entities")) {
+            return vanillaFixed;
+        }
         int curVersion = vanillaFixed.contains(VERSION_KEY) ? vanillaFixed.getInt(VERSION_KEY) : 0;
         return DataFixTypes.CHUNK.update(CobblemonSchemas.getDATA_FIXER(), vanillaFixed, curVersion, CobblemonSchemas.DATA_VERSION);
     }
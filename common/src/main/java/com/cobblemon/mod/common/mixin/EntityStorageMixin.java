@@ -32,6 +32,10 @@ public class EntityStorageMixin {
     public CompoundTag cobblemon$doEntityFix(
         CompoundTag vanillaFixed
     ) {
+        if (!CobblemonSchemas.needsFixing(vanillaFixed, "Entities")) {
+            vanillaFixed.put(VERSION_KEY, IntTag.valueOf(CobblemonSchemas.DATA_VERSION));
+            return vanillaFixed;
+        }
         int curVersion = vanillaFixed.contains(VERSION_KEY) ? vanillaFixed.getInt(VERSION_KEY) : 0;
         CompoundTag newTag =  DataFixTypes.ENTITY_CHUNK.update(CobblemonSchemas.getDATA_FIXER(), vanillaFixed, curVersion, CobblemonSchemas.DATA_VERSION);
         newTag.put(VERSION_KEY, IntTag.valueOf(CobblemonSchemas.DATA_VERSION));
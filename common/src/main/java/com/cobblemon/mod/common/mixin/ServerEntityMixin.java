@@ -12,6 +12,8 @@ import com.cobblemon.mod.common.CobblemonNetwork;
 import com.cobblemon.mod.common.OrientationControllable;
 import com.cobblemon.mod.common.api.net.NetworkPacket;
 import com.cobblemon.mod.common.api.orientation.OrientationController;
+import com.cobblemon.mod.common.api.riding.behaviour.ActiveRidingContext;
+import com.cobblemon.mod.common.api.riding.behaviour.RidingBehaviourState;
 import com.cobblemon.mod.common.duck.PlayerDuck;
 import com.cobblemon.mod.common.entity.pokemon.PokemonEntity;
 import com.cobblemon.mod.common.mixin.accessor.ChunkMapAccessor;
@@ -21,12 +23,14 @@ import com.cobblemon.mod.common.net.messages.client.orientation.ClientboundUpdat
 import com.cobblemon.mod.common.net.messages.client.pokemon.update.ClientboundUpdateRidingStatePacket;
 import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 import net.minecraft.network.protocol.Packet;
+import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.level.ChunkMap;
 import net.minecraft.server.level.ServerEntity;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.server.network.ServerPlayerConnection;
 import net.minecraft.world.entity.Entity;
+import org.jetbrains.annotations.Nullable;
 import org.joml.Matrix3f;
 import org.joml.Vector3f;
 import org.spongepowered.asm.mixin.Final;
@@ -53,6 +57,12 @@ public abstract class ServerEntityMixin {
     private Matrix3f cobblemon$lastSentOrientation;
     @Unique
     private boolean cobblemon$lastSentActive;
+    @Unique
+    private @Nullable RidingBehaviourState cobblemon$lastSentRidingState;
+    @Unique
+    private @Nullable ResourceLocation cobblemon$lastSentRidingBehaviour;
+    @Unique
+    private int cobblemon$ticksSinceFullRidingSync;
 
     @Inject(method = "sendChanges", at = @At("TAIL"))
     private void cobblemon$sendChanges(CallbackInfo ci) {
@@ -62,16 +72,44 @@ public abstract class ServerEntityMixin {
     }
 
     private void cobblemon$sendRidingStateChanges() {
-        if (!(this.entity instanceof PokemonEntity pokemonEntity)) return;
-        if (pokemonEntity.getRidingController() == null) return;
-        var ridingController = pokemonEntity.getRidingController();
-        if (ridingController.getContext() == null) return;
-        var context = ridingController.getContext();
-        var ridingBehaviour = context.getBehaviour();
+        var context = cobblemon$getRidingContext();
+        if (context == null) {
+            cobblemon$lastSentRidingState = null;
+            return;
+        }
         var ridingState = context.getState();
-        var previousRidingState = pokemonEntity.getPreviousRidingState();
-        if (previousRidingState != null && !ridingState.shouldSync(previousRidingState)) return;
-        cobblemon$broadcast(new ClientboundUpdateRidingStatePacket(pokemonEntity.getId(), ridingBehaviour, ridingState, null));
+        var previous = cobblemon$lastSentRidingState;
+        if (!context.getBehaviour().equals(cobblemon$lastSentRidingBehaviour) || ++cobblemon$ticksSinceFullRidingSync >= RidingBehaviourState.FULL_SYNC_TICKS) {
+            previous = null;
+        }
+        // Comparing against what was last sent rather than last tick means slow drift still gets sent eventually.
+        if (previous != null && !ridingState.shouldSync(previous)) return;
+        byte[] changes = ridingState.encodeChanges(previous);
+        cobblemon$broadcast(new ClientboundUpdateRidingStatePacket(entity.getId(), context.getBehaviour(), changes));
+        if (previous == null) {
+            previous = ridingState.copy();
+            cobblemon$ticksSinceFullRidingSync = 0;
+        }
+        // Applying the same changes the watchers will keeps this matching what they have, quantization included.
+        previous.decodeChanges(changes);
+        cobblemon$lastSentRidingState = previous;
+        cobblemon$lastSentRidingBehaviour = context.getBehaviour();
+    }
+
+    @Inject(method = "addPairing", at = @At("TAIL"))
+    private void cobblemon$sendFullRidingState(ServerPlayer player, CallbackInfo ci) {
+        var context = cobblemon$getRidingContext();
+        if (context == null) return;
+        var changes = context.getState().encodeChanges(null);
+        CobblemonNetwork.INSTANCE.sendPacketToPlayer(player, new ClientboundUpdateRidingStatePacket(entity.getId(), context.getBehaviour(), changes));
+    }
+
+    @Unique
+    private @Nullable ActiveRidingContext cobblemon$getRidingContext() {
+        if (!(this.entity instanceof PokemonEntity pokemonEntity)) return null;
+        var ridingController = pokemonEntity.getRidingController();
+        if (ridingController == null) return null;
+        return ridingController.getContext();
     }
 
     private void cobblemon$sendOrientationChanges() {
@@ -49,10 +49,13 @@ import com.cobblemon.mod.common.api.stats.CobblemonStats
 import com.cobblemon.mod.common.api.storage.PokemonStoreManager
 import com.cobblemon.mod.common.api.storage.adapter.conversions.ReforgedConversion
 import com.cobblemon.mod.common.api.storage.adapter.database.MongoDBStoreAdapter
+import com.cobblemon.mod.common.api.storage.adapter.database.SQLiteDatabase
+import com.cobblemon.mod.common.api.storage.adapter.database.SQLiteStoreAdapter
 import com.cobblemon.mod.common.api.storage.adapter.flatfile.FileStoreAdapter
 import com.cobblemon.mod.common.api.storage.adapter.flatfile.JSONStoreAdapter
 import com.cobblemon.mod.common.api.storage.adapter.flatfile.NBTStoreAdapter
 import com.cobblemon.mod.common.api.storage.factory.FileBackedPokemonStoreFactory
+import com.cobblemon.mod.common.api.storage.factory.PokemonStoreJournal
 import com.cobblemon.mod.common.api.storage.molang.NbtMoLangDataStoreFactory
 import com.cobblemon.mod.common.api.storage.pc.PCStore
 import com.cobblemon.mod.common.api.storage.pc.link.PCLinkManager
@@ -60,8 +63,10 @@ import com.cobblemon.mod.common.api.storage.player.PlayerInstancedDataStoreManag
 import com.cobblemon.mod.common.api.storage.player.PlayerInstancedDataStoreTypes
 import com.cobblemon.mod.common.api.storage.player.adapter.DexDataMongoBackend
 import com.cobblemon.mod.common.api.storage.player.adapter.DexDataNbtBackend
+import com.cobblemon.mod.common.api.storage.player.adapter.DexDataSQLiteBackend
 import com.cobblemon.mod.common.api.storage.player.adapter.PlayerDataJsonBackend
 import com.cobblemon.mod.common.api.storage.player.adapter.PlayerDataMongoBackend
+import com.cobblemon.mod.common.api.storage.player.adapter.PlayerDataSQLiteBackend
 import com.cobblemon.mod.common.api.storage.player.factory.CachedPlayerDataStoreFactory
 import com.cobblemon.mod.common.api.tags.CobblemonEntityTypeTags
 import com.cobblemon.mod.common.api.tags.CobblemonItemTags
@@ -153,6 +158,8 @@ object Cobblemon {
     var storage = PokemonStoreManager()
     var molangData = NbtMoLangDataStoreFactory
     lateinit var playerDataManager: PlayerInstancedDataStoreManager
+    /** The embedded database used when [CobblemonConfig.storageFormat] is sqlite, closed when the server stops. */
+    var sqliteDatabase: SQLiteDatabase? = null
     lateinit var starterConfig: StarterConfig
     val dataProvider: DataProvider = CobblemonDataProvider
     var permissionValidator: PermissionValidator by Delegates.observable(LaxPermissionValidator().also { it.initialize() }) { _, _, newValue -> newValue.initialize() }
@@ -351,19 +358,20 @@ object Cobblemon {
                     val generalJsonFactory = CachedPlayerDataStoreFactory(PlayerDataJsonBackend())
                     generalJsonFactory.setup(server)
 
-                    val pokedexNbtFactory = CachedPlayerDataStoreFactory(DexDataNbtBackend())
+                    val pokedexNbtFactory = CachedPlayerDataStoreFactory(DexDataNbtBackend(), saveOnlyDirty = true)
                     pokedexNbtFactory.setup(server)
 
                     playerDataManager.setFactory(generalJsonFactory, PlayerInstancedDataStoreTypes.GENERAL)
                     playerDataManager.setFactory(pokedexNbtFactory, PlayerInstancedDataStoreTypes.POKEDEX)
 
                     if (config.storageFormat == "nbt") {
-                        NBTStoreAdapter(pokemonStoreRoot.absolutePath, useNestedFolders = true, folderPerClass = true)
+                        NBTStoreAdapter(pokemonStoreRoot.absolutePath, useNestedFolders = true, folderPerClass = true, compressed = config.compressPokemonStores)
                     } else {
                         JSONStoreAdapter(
                             pokemonStoreRoot.absolutePath,
                             useNestedFolders = true,
-                            folderPerClass = true
+                            folderPerClass = true,
+                            compressed = config.compressPokemonStores
                         )
                     }
                 }
@@ -379,7 +387,7 @@ object Cobblemon {
                         val generalMongoFactory = CachedPlayerDataStoreFactory(PlayerDataMongoBackend(mongoClient, config.mongoDBDatabaseName, "PlayerDataCollection"))
                         generalMongoFactory.setup(server)
 
-                        val pokedexMongoFactory = CachedPlayerDataStoreFactory(DexDataMongoBackend(mongoClient, config.mongoDBDatabaseName, "PokeDexCollection"))
+                        val pokedexMongoFactory = CachedPlayerDataStoreFactory(DexDataMongoBackend(mongoClient, config.mongoDBDatabaseName, "PokeDexCollection"), saveOnlyDirty = true)
                         pokedexMongoFactory.setup(server)
 
                         playerDataManager.setFactory(generalMongoFactory, PlayerInstancedDataStoreTypes.GENERAL)
@@ -392,6 +400,20 @@ object Cobblemon {
 
                 }
 
+                "sqlite" -> {
+                    val database = SQLiteDatabase(server.getWorldPath(LevelResource.ROOT).resolve(config.sqliteFileName))
+                    sqliteDatabase = database
+
+                    val generalSQLiteFactory = CachedPlayerDataStoreFactory(PlayerDataSQLiteBackend(database))
+                    generalSQLiteFactory.setup(server)
+
+                    val pokedexSQLiteFactory = CachedPlayerDataStoreFactory(DexDataSQLiteBackend(database), saveOnlyDirty = true)
+                    pokedexSQLiteFactory.setup(server)
+
+                    playerDataManager.setFactory(generalSQLiteFactory, PlayerInstancedDataStoreTypes.GENERAL)
+                    playerDataManager.setFactory(pokedexSQLiteFactory, PlayerInstancedDataStoreTypes.POKEDEX)
+                    SQLiteStoreAdapter(database, pokemonStoreRoot.absolutePath)
+                }
 
                 else -> throw IllegalArgumentException("Unsupported storageFormat: ${config.storageFormat}")
             }
@@ -402,7 +424,8 @@ object Cobblemon {
                 factory = FileBackedPokemonStoreFactory(
                     adapter = storeAdapter,
                     createIfMissing = true,
-                    pcConstructor = { uuid -> PCStore(uuid).also { it.resize(config.defaultBoxCount) } }
+                    pcConstructor = { uuid -> PCStore(uuid).also { it.resize(config.defaultBoxCount) } },
+                    journal = if (config.journalPokemonStores) PokemonStoreJournal(pokemonStoreRoot.toPath().resolve("journal")) else null
                 )
             )
         }
@@ -412,6 +435,8 @@ object Cobblemon {
             playerDataManager.saveAllStores()
             playerDataManager.saveExecutor.shutdown()
             playerDataManager.saveExecutor.awaitTermination(30L, TimeUnit.SECONDS)
+            sqliteDatabase?.close()
+            sqliteDatabase = null
         }
         PlatformEvents.SERVER_STARTED.subscribe { event ->
             bestSpawner.onServerStarted(event.server)
@@ -19,6 +19,7 @@ import com.cobblemon.mod.common.api.molang.ExpressionLike
 import com.cobblemon.mod.common.api.npc.configuration.MoLangConfigVariable
 import com.cobblemon.mod.common.api.reactive.SimpleObservable
 import com.cobblemon.mod.common.net.messages.client.data.BehaviourSyncPacket
+import com.cobblemon.mod.common.net.messages.client.data.DataRegistrySyncPacket
 import com.cobblemon.mod.common.util.adapters.ActivityAdapter
 import com.cobblemon.mod.common.util.adapters.BehaviourConfigAdapter
 import com.cobblemon.mod.common.util.adapters.ExpressionAdapter
@@ -84,7 +85,7 @@ object CobblemonBehaviours : JsonDataRegistry<CobblemonBehaviour> {
     val behaviours = mutableMapOf<ResourceLocation, CobblemonBehaviour>()
 
     override fun sync(player: ServerPlayer) {
-        player.sendPacket(BehaviourSyncPacket(behaviours.filter { it.value.visible }))
+        player.sendPacket(DataRegistrySyncPacket.shared(this) { BehaviourSyncPacket(behaviours.filter { it.value.visible }) })
     }
 
     override fun reload(manager: ResourceManager) {
@@ -19,6 +19,7 @@ import com.cobblemon.mod.common.api.molang.MoLangFunctions.setup
 import com.cobblemon.mod.common.api.reactive.SimpleObservable
 import com.cobblemon.mod.common.api.scripting.CobblemonScripts
 import com.cobblemon.mod.common.net.messages.client.data.CallbackRegistrySyncPacket
+import com.cobblemon.mod.common.net.messages.client.data.DataRegistrySyncPacket
 import com.cobblemon.mod.common.util.asExpressionLike
 import com.cobblemon.mod.common.util.cobblemonResource
 import com.cobblemon.mod.common.util.endsWith
@@ -42,7 +43,7 @@ object CobblemonCallbacks : DataRegistry {
     override val observable = SimpleObservable<CobblemonCallbacks>()
     override val type = PackType.SERVER_DATA
     override fun sync(player: ServerPlayer) {
-        player.sendPacket(CallbackRegistrySyncPacket(clientCallbacks.entries))
+        player.sendPacket(DataRegistrySyncPacket.shared(this) { CallbackRegistrySyncPacket(clientCallbacks.entries) })
     }
 
     val runtime by lazy { MoLangRuntime().setup() } // Lazy for if someone adds to generalFunctions in MoLangFunctions
@@ -13,6 +13,7 @@ import com.cobblemon.mod.common.api.data.JsonDataRegistry
 import com.cobblemon.mod.common.api.pokemon.PokemonProperties
 import com.cobblemon.mod.common.api.reactive.SimpleObservable
 import com.cobblemon.mod.common.net.messages.client.data.CosmeticItemAssignmentSyncPacket
+import com.cobblemon.mod.common.net.messages.client.data.DataRegistrySyncPacket
 import com.cobblemon.mod.common.pokemon.Pokemon
 import com.cobblemon.mod.common.pokemon.cosmetic.CosmeticItemAssignment
 import com.cobblemon.mod.common.util.adapters.IdentifierAdapter
@@ -53,7 +54,7 @@ object CobblemonCosmeticItems : JsonDataRegistry<CosmeticItemAssignment> {
     }
 
     override fun sync(player: ServerPlayer) {
-        CosmeticItemAssignmentSyncPacket(cosmeticItems).sendToPlayer(player)
+        DataRegistrySyncPacket.shared(this) { CosmeticItemAssignmentSyncPacket(cosmeticItems) }.sendToPlayer(player)
     }
 
     @JvmStatic
@@ -13,6 +13,7 @@ import com.cobblemon.mod.common.api.data.DataRegistry
 import com.cobblemon.mod.common.api.reactive.SimpleObservable
 import com.cobblemon.mod.common.battles.runner.ShowdownService
 import com.cobblemon.mod.common.net.messages.client.data.AbilityRegistrySyncPacket
+import com.cobblemon.mod.common.net.messages.client.data.DataRegistrySyncPacket
 import com.cobblemon.mod.common.pokemon.abilities.HiddenAbilityType
 import com.cobblemon.mod.common.util.cobblemonResource
 import net.minecraft.resources.ResourceLocation
@@ -67,7 +68,7 @@ object Abilities : DataRegistry {
     }
 
     override fun sync(player: ServerPlayer) {
-        AbilityRegistrySyncPacket(all()).sendToPlayer(player)
+        DataRegistrySyncPacket.shared(this) { AbilityRegistrySyncPacket(all()) }.sendToPlayer(player)
     }
 
     @JvmStatic
@@ -47,6 +47,8 @@ import com.cobblemon.mod.common.entity.PlatformType
 import com.cobblemon.mod.common.entity.npc.NPCBattleActor
 import com.cobblemon.mod.common.entity.npc.NPCEntity
 import com.cobblemon.mod.common.entity.pokemon.PokemonEntity
+import com.cobblemon.mod.common.net.BattlePacketBundler
+import com.cobblemon.mod.common.net.PacketBroadcaster
 import com.cobblemon.mod.common.net.messages.client.battle.BattleEndPacket
 import com.cobblemon.mod.common.net.messages.client.battle.BattleMessagePacket
 import com.cobblemon.mod.common.pokemon.evolution.progress.DefeatEvolutionProgress
@@ -347,8 +349,10 @@ open class PokemonBattle(
     }
 
     fun sendUpdate(packet: NetworkPacket<*>) {
-        actors.forEach { it.sendUpdate(packet) }
-        sendSpectatorUpdate(packet)
+        PacketBroadcaster.sharing(packet) {
+            actors.forEach { it.sendUpdate(packet) }
+            sendSpectatorUpdate(packet)
+        }
     }
 
     /**
@@ -360,22 +364,34 @@ open class PokemonBattle(
      * @param spectatorsAsAlly If the spectators receive the [allyPacket] or the [opponentPacket], default is false.
      */
     fun sendSidedUpdate(source: BattleActor, allyPacket: NetworkPacket<*>, opponentPacket: NetworkPacket<*>, spectatorsAsAlly: Boolean = false) {
-        source.getSide().actors.forEach { it.sendUpdate(allyPacket) }
-        source.getSide().getOppositeSide().actors.forEach { it.sendUpdate(opponentPacket) }
-        sendSpectatorUpdate(if (spectatorsAsAlly) allyPacket else opponentPacket)
+        PacketBroadcaster.sharing(allyPacket, opponentPacket) {
+            source.getSide().actors.forEach { it.sendUpdate(allyPacket) }
+            source.getSide().getOppositeSide().actors.forEach { it.sendUpdate(opponentPacket) }
+            sendSpectatorUpdate(if (spectatorsAsAlly) allyPacket else opponentPacket)
+        }
     }
 
     fun sendToActors(packet: NetworkPacket<*>) {
-        CobblemonNetwork.sendPacketToPlayers(actors.flatMap { it.getPlayerUUIDs().mapNotNull { it.getPlayer() } }, packet)
+        PacketBroadcaster.sharing(packet) {
+            for (side in sides) {
+                for (actor in side.actors) {
+                    actor.getPlayerUUIDs().forEach { uuid -> uuid.getPlayer()?.let { CobblemonNetwork.sendPacketToPlayer(it, packet) } }
+                }
+            }
+        }
     }
 
     fun sendSplitUpdate(privateActor: BattleActor, publicPacket: NetworkPacket<*>, privatePacket: NetworkPacket<*>) {
-        actors.forEach {  it.sendUpdate(if (it == privateActor) privatePacket else publicPacket) }
-        sendSpectatorUpdate(publicPacket)
+        PacketBroadcaster.sharing(publicPacket) {
+            actors.forEach { it.sendUpdate(if (it == privateActor) privatePacket else publicPacket) }
+            sendSpectatorUpdate(publicPacket)
+        }
     }
 
     fun sendSpectatorUpdate(packet: NetworkPacket<*>) {
-        CobblemonNetwork.sendPacketToPlayers(spectators.mapNotNull { it.getPlayer() }, packet)
+        PacketBroadcaster.sharing(packet) {
+            spectators.forEach { uuid -> uuid.getPlayer()?.let { CobblemonNetwork.sendPacketToPlayer(it, packet) } }
+        }
     }
 
     fun dispatch(dispatcher: () -> DispatchResult) {
@@ -442,14 +458,16 @@ open class PokemonBattle(
 
     fun tick() {
         try {
-            while (dispatchResult.canProceed()) {
-                val dispatch = dispatches.poll() ?: break
-                dispatchResult = dispatch(this)
-            }
+            BattlePacketBundler.bundling {
+                while (dispatchResult.canProceed()) {
+                    val dispatch = dispatches.poll() ?: break
+                    dispatchResult = dispatch(this)
+                }
 
-            if (dispatches.isEmpty()) {
-                afterDispatches.toList().forEach { it() }
-                afterDispatches.clear()
+                if (dispatches.isEmpty()) {
+                    afterDispatches.toList().forEach { it() }
+                    afterDispatches.clear()
+                }
             }
         } catch (e: Exception) {
             LOGGER.error("Exception while ticking a battle. Saving battle log.", e)
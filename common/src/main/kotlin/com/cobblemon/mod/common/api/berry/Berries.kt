@@ -16,6 +16,7 @@ import com.cobblemon.mod.common.api.pokemon.stats.Stat
 import com.cobblemon.mod.common.api.pokemon.status.Status
 import com.cobblemon.mod.common.api.reactive.SimpleObservable
 import com.cobblemon.mod.common.net.messages.client.data.BerryRegistrySyncPacket
+import com.cobblemon.mod.common.net.messages.client.data.DataRegistrySyncPacket
 import com.cobblemon.mod.common.pokemon.adapters.CobblemonStatTypeAdapter
 import com.cobblemon.mod.common.util.adapters.*
 import com.cobblemon.mod.common.util.cobblemonResource
@@ -82,7 +83,7 @@ object Berries : JsonDataRegistry<Berry> {
     }
 
     override fun sync(player: ServerPlayer) {
-        BerryRegistrySyncPacket(this.all()).sendToPlayer(player)
+        DataRegistrySyncPacket.shared(this) { BerryRegistrySyncPacket(this.all()) }.sendToPlayer(player)
     }
 
     @JvmStatic
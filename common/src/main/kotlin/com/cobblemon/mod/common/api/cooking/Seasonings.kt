@@ -19,6 +19,7 @@ import com.cobblemon.mod.common.api.fishing.SpawnBaitUtils
 import com.cobblemon.mod.common.api.reactive.SimpleObservable
 import com.cobblemon.mod.common.item.components.FoodComponent
 import com.cobblemon.mod.common.net.messages.client.cooking.SeasoningRegistrySyncPacket
+import com.cobblemon.mod.common.net.messages.client.data.DataRegistrySyncPacket
 import com.cobblemon.mod.common.util.adapters.IdentifierAdapter
 import com.cobblemon.mod.common.util.adapters.ItemLikeConditionAdapter
 import com.cobblemon.mod.common.util.cobblemonResource
@@ -47,7 +48,7 @@ object Seasonings : JsonDataRegistry<Seasoning> {
     val seasonings = mutableListOf<Seasoning>()
 
     override fun sync(player: ServerPlayer) {
-        SeasoningRegistrySyncPacket(seasonings.toList()).sendToPlayer(player)
+        DataRegistrySyncPacket.shared(this) { SeasoningRegistrySyncPacket(seasonings.toList()) }.sendToPlayer(player)
     }
 
     override fun reload(data: Map<ResourceLocation, Seasoning>) {
@@ -10,6 +10,7 @@ package com.cobblemon.mod.common.api.fishing
 
 import com.cobblemon.mod.common.api.data.JsonDataRegistry
 import com.cobblemon.mod.common.api.reactive.SimpleObservable
+import com.cobblemon.mod.common.net.messages.client.data.DataRegistrySyncPacket
 import com.cobblemon.mod.common.net.messages.client.data.PokeRodRegistrySyncPacket
 import com.cobblemon.mod.common.util.adapters.IdentifierAdapter
 import com.cobblemon.mod.common.util.cobblemonResource
@@ -50,7 +51,7 @@ object PokeRods : JsonDataRegistry<PokeRod> {
     }
 
     override fun sync(player: ServerPlayer) {
-        PokeRodRegistrySyncPacket(rods.values).sendToPlayer(player)
+        DataRegistrySyncPacket.shared(this) { PokeRodRegistrySyncPacket(rods.values) }.sendToPlayer(player)
     }
 
     /**
@@ -14,6 +14,7 @@ import com.cobblemon.mod.common.api.conditional.RegistryLikeIdentifierCondition
 import com.cobblemon.mod.common.api.cooking.Seasonings
 import com.cobblemon.mod.common.api.data.JsonDataRegistry
 import com.cobblemon.mod.common.api.reactive.SimpleObservable
+import com.cobblemon.mod.common.net.messages.client.data.DataRegistrySyncPacket
 import com.cobblemon.mod.common.net.messages.client.data.SpawnBaitRegistrySyncPacket
 import com.cobblemon.mod.common.util.adapters.IdentifierAdapter
 import com.cobblemon.mod.common.util.adapters.ItemLikeConditionAdapter
@@ -43,7 +44,7 @@ object SpawnBaitEffects : JsonDataRegistry<SpawnBait> {
     private val effectsMap = mutableMapOf<ResourceLocation, SpawnBait>()
 
     override fun sync(player: ServerPlayer) {
-        SpawnBaitRegistrySyncPacket(this.effectsMap.toMap()).sendToPlayer(player)
+        DataRegistrySyncPacket.shared(this) { SpawnBaitRegistrySyncPacket(this.effectsMap.toMap()) }.sendToPlayer(player)
     }
 
     override fun reload(data: Map<ResourceLocation, SpawnBait>) {
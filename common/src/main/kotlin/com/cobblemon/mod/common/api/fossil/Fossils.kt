@@ -13,6 +13,7 @@ import com.cobblemon.mod.common.api.conditional.RegistryLikeCondition
 import com.cobblemon.mod.common.api.data.JsonDataRegistry
 import com.cobblemon.mod.common.api.pokemon.PokemonProperties
 import com.cobblemon.mod.common.api.reactive.SimpleObservable
+import com.cobblemon.mod.common.net.messages.client.data.DataRegistrySyncPacket
 import com.cobblemon.mod.common.net.messages.client.data.FossilRegistrySyncPacket
 import com.cobblemon.mod.common.pokemon.evolution.adapters.LegacyItemConditionWrapperAdapter
 import com.cobblemon.mod.common.util.adapters.IdentifierAdapter
@@ -63,7 +64,7 @@ object Fossils: JsonDataRegistry<Fossil> {
     }
 
     override fun sync(player: ServerPlayer) {
-        FossilRegistrySyncPacket(this.all()).sendToPlayer(player)
+        DataRegistrySyncPacket.shared(this) { FossilRegistrySyncPacket(this.all()) }.sendToPlayer(player)
     }
 
     /**
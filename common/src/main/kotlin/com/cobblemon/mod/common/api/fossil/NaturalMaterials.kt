@@ -10,6 +10,7 @@ package com.cobblemon.mod.common.api.fossil
 
 import com.cobblemon.mod.common.api.data.JsonDataRegistry
 import com.cobblemon.mod.common.api.reactive.SimpleObservable
+import com.cobblemon.mod.common.net.messages.client.data.DataRegistrySyncPacket
 import com.cobblemon.mod.common.net.messages.client.data.NaturalMaterialRegistrySyncPacket
 import com.cobblemon.mod.common.registry.ItemTagCondition
 import com.cobblemon.mod.common.util.adapters.IdentifierAdapter
@@ -40,7 +41,7 @@ object NaturalMaterials : JsonDataRegistry<List<NaturalMaterial>>{
     private val itemMap = mutableMapOf<ResourceLocation, NaturalMaterial>()
     private val tagMap = mutableMapOf<ItemTagCondition, NaturalMaterial>()
     override fun sync(player: ServerPlayer) {
-        NaturalMaterialRegistrySyncPacket(this.itemMap.values.toList() + this.tagMap.values.toList()).sendToPlayer(player)
+        DataRegistrySyncPacket.shared(this) { NaturalMaterialRegistrySyncPacket(this.itemMap.values.toList() + this.tagMap.values.toList()) }.sendToPlayer(player)
     }
 
     override fun reload(data: Map<ResourceLocation, List<NaturalMaterial>>) {
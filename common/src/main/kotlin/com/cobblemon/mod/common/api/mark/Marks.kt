@@ -11,6 +11,7 @@ package com.cobblemon.mod.common.api.mark
 import com.cobblemon.mod.common.Cobblemon
 import com.cobblemon.mod.common.api.data.JsonDataRegistry
 import com.cobblemon.mod.common.api.reactive.SimpleObservable
+import com.cobblemon.mod.common.net.messages.client.data.DataRegistrySyncPacket
 import com.cobblemon.mod.common.net.messages.client.data.MarkRegistrySyncPacket
 import com.cobblemon.mod.common.util.adapters.IdentifierAdapter
 import com.cobblemon.mod.common.util.cobblemonResource
@@ -50,7 +51,7 @@ object Marks: JsonDataRegistry<Mark> {
     }
 
     override fun sync(player: ServerPlayer) {
-        MarkRegistrySyncPacket(this.all()).sendToPlayer(player)
+        DataRegistrySyncPacket.shared(this) { MarkRegistrySyncPacket(this.all()) }.sendToPlayer(player)
     }
 
     /**
@@ -47,10 +47,12 @@ import com.cobblemon.mod.common.api.npc.partyproviders.SimplePartyProvider
 import com.cobblemon.mod.common.api.pokedex.AbstractPokedexManager
 import com.cobblemon.mod.common.api.pokedex.CaughtCount
 import com.cobblemon.mod.common.api.pokedex.CaughtPercent
+import com.cobblemon.mod.common.api.pokedex.FormDexRecord
 import com.cobblemon.mod.common.api.pokedex.PokedexEntryProgress
 import com.cobblemon.mod.common.api.pokedex.PokedexManager
 import com.cobblemon.mod.common.api.pokedex.SeenCount
 import com.cobblemon.mod.common.api.pokedex.SeenPercent
+import com.cobblemon.mod.common.api.pokedex.SpeciesDexRecord
 import com.cobblemon.mod.common.api.pokemon.PokemonProperties
 import com.cobblemon.mod.common.api.pokemon.evolution.Evolution
 import com.cobblemon.mod.common.api.pokemon.experience.SidemodExperienceSource
@@ -709,7 +711,9 @@ object MoLangFunctions {
                 }
                 map.put("set_battle_theme") { params ->
                     val soundId = params.getString(0).asResource()
-                    Cobblemon.playerDataManager.getGenericData(player).battleTheme = soundId
+                    val playerData = Cobblemon.playerDataManager.getGenericData(player)
+                    playerData.battleTheme = soundId
+                    playerData.markDirty()
                     return@put DoubleValue.ONE
                 }
                 map.put("battle_music") { params ->
@@ -2217,6 +2221,9 @@ object MoLangFunctions {
                 return@put DoubleValue.ONE
             }
             map.put("get_box_count") { _ -> DoubleValue(pc.boxes.size.toDouble()) }
+            map.put("search") { params ->
+                pc.search(PokemonProperties.parse(params.getString(0))).asArrayValue { it.struct }
+            }
             map.put("has_unlocked_wallpaper") { params ->
                 val wallpaper = params.getString(0).asIdentifierDefaultingNamespace()
                 return@put DoubleValue(pc.unlockedWallpapers.contains(wallpaper))
@@ -2371,6 +2378,37 @@ object MoLangFunctions {
         }
     )
 
+    val speciesDexRecordFunctions: MutableList<(SpeciesDexRecord) -> HashMap<String, java.util.function.Function<MoParams, Any>>> = mutableListOf(
+        { record ->
+            val map = hashMapOf<String, java.util.function.Function<MoParams, Any>>()
+            map.put("get_form_record") { params ->
+                record.getFormRecord(params.getString(0))?.struct ?: QueryStruct(hashMapOf())
+            }
+            map.put("get_or_create_form_record") { params ->
+                record.getOrCreateFormRecord(params.getString(0)).struct
+            }
+            map.put("add_aspect") { params ->
+                record.addAspect(params.getString(0))
+            }
+            map.put("has_knowledge") { params ->
+                val knowledge = params.getString(0)
+                DoubleValue(PokedexEntryProgress.entries.any { it.name.equals(knowledge, ignoreCase = true) && record.hasFormWithKnowledge(it) })
+            }
+            map.put("is_caught") { DoubleValue(record.hasAtLeast(PokedexEntryProgress.CAUGHT)) }
+            map
+        }
+    )
+
+    val formDexRecordFunctions: MutableList<(FormDexRecord) -> HashMap<String, java.util.function.Function<MoParams, Any>>> = mutableListOf(
+        { record ->
+            val map = hashMapOf<String, java.util.function.Function<MoParams, Any>>()
+            map.put("data") { record.getOrCreateData() }
+            map.put("knowledge") { StringValue(record.knowledge.name) }
+            map.put("has_seen_gender") { params -> DoubleValue(record.hasSeenGender(Gender.valueOf(params.getString(0).uppercase()))) }
+            map
+        }
+    )
+
     val speciesFunctions: MutableList<(Species) -> HashMap<String, java.util.function.Function<MoParams, Any>>> = mutableListOf(
         { species ->
             val map = hashMapOf<String, java.util.function.Function<MoParams, Any>>()
@@ -2702,6 +2740,16 @@ object MoLangFunctions {
         return this
     }
 
+    fun QueryStruct.addSpeciesDexRecordFunctions(record: SpeciesDexRecord): QueryStruct {
+        speciesDexRecordFunctions.forEach { functions.putAll(it.invoke(record)) }
+        return this
+    }
+
+    fun QueryStruct.addFormDexRecordFunctions(record: FormDexRecord): QueryStruct {
+        formDexRecordFunctions.forEach { functions.putAll(it.invoke(record)) }
+        return this
+    }
+
     fun QueryStruct.addSpeciesFunctions(species: Species): QueryStruct {
         val addedFunctions = speciesFunctions
             .flatMap { it.invoke(species).entries }
@@ -16,6 +16,7 @@ import com.cobblemon.mod.common.api.reactive.SimpleObservable
 import com.cobblemon.mod.common.api.types.ElementalTypes
 import com.cobblemon.mod.common.battles.MoveTarget
 import com.cobblemon.mod.common.battles.runner.ShowdownService
+import com.cobblemon.mod.common.net.messages.client.data.DataRegistrySyncPacket
 import com.cobblemon.mod.common.net.messages.client.data.MovesRegistrySyncPacket
 import com.cobblemon.mod.common.util.asIdentifierDefaultingNamespace
 import com.cobblemon.mod.common.util.cobblemonResource
@@ -39,11 +40,14 @@ object Moves : DataRegistry {
 
     private val allMoves = mutableMapOf<String, MoveTemplate>()
     private val idMapping = mutableMapOf<Int, MoveTemplate>()
+    /** Numerical IDs that more than one move has, so [idMapping] only holds one of them. */
+    private val sharedNumericalIds = hashSetOf<Int>()
     internal val moveScripts = mutableMapOf<String, String>() // moveId to JavaScript
 
     override fun reload(manager: ResourceManager) {
         this.allMoves.clear()
         this.idMapping.clear()
+        this.sharedNumericalIds.clear()
         this.moveScripts.clear()
 
         ShowdownService.service.resetRegistryData("move")
@@ -103,13 +107,16 @@ object Moves : DataRegistry {
     }
 
     override fun sync(player: ServerPlayer) {
-        MovesRegistrySyncPacket(all()).sendToPlayer(player)
+        DataRegistrySyncPacket.shared(this) { MovesRegistrySyncPacket(all()) }.sendToPlayer(player)
     }
 
     @JvmStatic
     fun getByName(name: String) = allMoves[name.lowercase()]
     @JvmStatic
     fun getByNumericalId(id: Int) = idMapping[id]
+    /** Whether [getByNumericalId] finds the given move no matter what order the moves were registered in. */
+    @JvmStatic
+    fun hasUniqueNumericalId(move: MoveTemplate) = move.num !in sharedNumericalIds && idMapping[move.num] === move
     @JvmStatic
     fun getByNameOrDummy(name: String) = allMoves[name.lowercase()] ?: MoveTemplate.dummy(name.lowercase())
     @JvmStatic
@@ -127,7 +134,11 @@ object Moves : DataRegistry {
 
     private fun register(move: MoveTemplate) {
         this.allMoves[move.name] = move
-        this.idMapping[move.num] = move
+        this.idMapping.put(move.num, move)?.let { previous ->
+            if (previous.name != move.name) {
+                this.sharedNumericalIds += move.num
+            }
+        }
     }
 
 }
\ No newline at end of file
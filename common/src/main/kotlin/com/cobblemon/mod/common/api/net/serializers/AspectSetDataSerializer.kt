@@ -0,0 +1,36 @@
+/*
+ * Copyright (C) 2023 Cobblemon Contributors
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.cobblemon.mod.common.api.net.serializers
+
+import com.cobblemon.mod.common.net.AspectDictionary
+import com.cobblemon.mod.common.util.cobblemonResource
+import net.minecraft.network.RegistryFriendlyByteBuf
+import net.minecraft.network.codec.StreamCodec
+import net.minecraft.network.syncher.EntityDataSerializer
+
+/**
+ * An [EntityDataSerializer] for sets of aspects that writes them using their IDs in the [AspectDictionary].
+ *
+ * Entity data values are copied on the server thread as they're packed into a packet, so that's where any new
+ * aspects are given IDs, before the packet is sent.
+ *
+ * @since October 19th, 2026
+ */
+object AspectSetDataSerializer : EntityDataSerializer<Set<String>> {
+    val ID = cobblemonResource("aspect_set")
+    fun write(buffer: RegistryFriendlyByteBuf, set: Set<String>) = AspectDictionary.write(buffer, set)
+    fun read(buffer: RegistryFriendlyByteBuf): Set<String> = AspectDictionary.read(buffer)
+
+    override fun copy(set: Set<String>): Set<String> {
+        AspectDictionary.intern(set)
+        return set.toSet()
+    }
+
+    override fun codec(): StreamCodec<in RegistryFriendlyByteBuf, Set<String>> = StreamCodec.of(::write, ::read)
+}
@@ -28,6 +28,7 @@ import com.cobblemon.mod.common.api.npc.variation.WeightedAspect
 import com.cobblemon.mod.common.api.pokemon.PokemonProperties
 import com.cobblemon.mod.common.api.reactive.SimpleObservable
 import com.cobblemon.mod.common.api.spawning.TimeRange
+import com.cobblemon.mod.common.net.messages.client.data.DataRegistrySyncPacket
 import com.cobblemon.mod.common.net.messages.client.data.NPCRegistrySyncPacket
 import com.cobblemon.mod.common.pokemon.Species
 import com.cobblemon.mod.common.util.adapters.*
@@ -157,6 +158,6 @@ object NPCClasses : JsonDataRegistry<NPCClass> {
     }
 
     override fun sync(player: ServerPlayer) {
-        NPCRegistrySyncPacket(npcClassesByIdentifier.values.toList()).sendToPlayer(player)
+        DataRegistrySyncPacket.shared(this) { NPCRegistrySyncPacket(npcClassesByIdentifier.values.toList()) }.sendToPlayer(player)
     }
 }
\ No newline at end of file
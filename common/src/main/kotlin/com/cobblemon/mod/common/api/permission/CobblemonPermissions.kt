@@ -143,6 +143,10 @@ object CobblemonPermissions {
     val CHANGE_BOX_COUNT = this.create("${COMMAND_PREFIX}boxcount", PermissionLevel.CHEAT_COMMANDS_AND_COMMAND_BLOCKS)
     @JvmStatic
     val SPECTATE_BATTLE = this.create("${COMMAND_PREFIX}spectatebattle", PermissionLevel.ALL_COMMANDS)
+    @JvmStatic
+    val SCAN_STORES = this.create("${COMMAND_PREFIX}scanstores", PermissionLevel.ALL_COMMANDS)
+    @JvmStatic
+    val NET_STATS = this.create("${COMMAND_PREFIX}netstats", PermissionLevel.ALL_COMMANDS)
 
     @JvmStatic
     val SEE_HIDDEN_NPCS = this.create("seehiddennpcs", PermissionLevel.CHEAT_COMMANDS_AND_COMMAND_BLOCKS)
@@ -28,19 +28,24 @@ abstract class AbstractPokedexManager {
         .addPokedexFunctions(this)
 
     fun deleteSpeciesRecord(speciesId: ResourceLocation) {
-        speciesRecords.remove(speciesId)
+        val removed = speciesRecords.remove(speciesId) ?: return
+        updateCalculatedValues(speciesId, removed.getKnowledge(), PokedexEntryProgress.NONE)
         markDirty()
     }
 
     fun deleteFormRecord(speciesId: ResourceLocation, formName: String) {
         val speciesRecord = speciesRecords[speciesId] ?: return
+        val previousKnowledge = speciesRecord.getKnowledge()
         speciesRecord.deleteFormRecord(formName)
 
         if (speciesRecord.isFormRecordsEmpty) {
-            deleteSpeciesRecord(speciesId)
+            speciesRecords.remove(speciesId)
+            updateCalculatedValues(speciesId, previousKnowledge, PokedexEntryProgress.NONE)
+            markDirty()
             return
         }
 
+        updateCalculatedValues(speciesId, previousKnowledge, speciesRecord.getKnowledge())
         markDirty()
     }
 
@@ -110,7 +115,7 @@ abstract class AbstractPokedexManager {
             return PokedexLearnedInformation.NONE
         }
 
-        if (pokedexEntityData.pokemon.aspects.any { !speciesRecord.hasAspect(it) } || pokedexEntityData.pokemon.gender !in formRecord.getGenders() || !formRecord.hasSeenShinyState(pokedexEntityData.pokemon.shiny)) {
+        if (pokedexEntityData.pokemon.aspects.any { !speciesRecord.hasAspect(it) } || !formRecord.hasSeenGender(pokedexEntityData.pokemon.gender) || !formRecord.hasSeenShinyState(pokedexEntityData.pokemon.shiny)) {
             return PokedexLearnedInformation.VARIATION
         }
         return PokedexLearnedInformation.NONE
@@ -132,9 +137,9 @@ abstract class AbstractPokedexManager {
         return speciesRecords[speciesId]?.getKnowledge() ?: PokedexEntryProgress.NONE
     }
 
-    open fun onSpeciesRecordUpdated(speciesDexRecord: SpeciesDexRecord) {
+    open fun onSpeciesRecordUpdated(speciesDexRecord: SpeciesDexRecord, previousKnowledge: PokedexEntryProgress) {
         // Save stuff and packet updates
-        clearCalculatedValues()
+        updateCalculatedValues(speciesDexRecord.id, previousKnowledge, speciesDexRecord.getKnowledge())
     }
 
     fun clearCalculatedValues() {
@@ -142,13 +147,44 @@ abstract class AbstractPokedexManager {
         globalCalculatedValues.clear()
     }
 
+    /**
+     * Brings the calculated values up to date after one species record changed. Calculators that can apply the change
+     * directly do so, and anything else is dropped to be calculated again the next time it's requested.
+     */
+    @Suppress("UNCHECKED_CAST")
+    fun updateCalculatedValues(speciesId: ResourceLocation, previousKnowledge: PokedexEntryProgress, newKnowledge: PokedexEntryProgress) {
+        val globalIterator = globalCalculatedValues.entries.iterator()
+        while (globalIterator.hasNext()) {
+            val entry = globalIterator.next()
+            val updated = (entry.key as GlobalPokedexValueCalculator<Any>).update(entry.value, previousKnowledge, newKnowledge)
+            if (updated != null) entry.setValue(updated) else globalIterator.remove()
+        }
+
+        val dexIterator = dexCalculatedValues.entries.iterator()
+        while (dexIterator.hasNext()) {
+            val (dexId, values) = dexIterator.next()
+            val dex = Dexes.getEntryMap(dexId)
+            if (dex == null) {
+                dexIterator.remove()
+                continue
+            }
+            val speciesEntries = Dexes.getSpeciesEntryCount(dexId, speciesId)
+            val valueIterator = values.entries.iterator()
+            while (valueIterator.hasNext()) {
+                val entry = valueIterator.next()
+                val updated = (entry.key as PokedexValueCalculator<Any>).update(entry.value, dex, speciesEntries, previousKnowledge, newKnowledge)
+                if (updated != null) entry.setValue(updated) else valueIterator.remove()
+            }
+        }
+    }
+
     fun <T : Any> getDexCalculatedValue(dex: ResourceLocation, calculatedPokedexValue: PokedexValueCalculator<T>): T {
         val existingValue = dexCalculatedValues[dex]?.get(calculatedPokedexValue) as? T
         if (existingValue != null) {
             return existingValue
         } else {
             val vals = dexCalculatedValues.getOrPut(dex) { mutableMapOf() }
-            val newValue = calculatedPokedexValue.calculate(this, Dexes.dexEntryMap[dex]!!.getEntries().associateBy { it.id })
+            val newValue = calculatedPokedexValue.calculate(this, Dexes.getEntryMap(dex)!!)
             vals[calculatedPokedexValue] = newValue
             return newValue
         }
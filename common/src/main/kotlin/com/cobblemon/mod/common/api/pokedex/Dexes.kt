@@ -10,7 +10,10 @@ package com.cobblemon.mod.common.api.pokedex
 
 import com.cobblemon.mod.common.api.data.JsonDataRegistry
 import com.cobblemon.mod.common.api.pokedex.def.PokedexDef
+import com.cobblemon.mod.common.api.pokedex.entry.DexEntries
+import com.cobblemon.mod.common.api.pokedex.entry.PokedexEntry
 import com.cobblemon.mod.common.api.reactive.SimpleObservable
+import com.cobblemon.mod.common.net.messages.client.data.DataRegistrySyncPacket
 import com.cobblemon.mod.common.net.messages.client.data.PokedexDexSyncPacket
 import com.cobblemon.mod.common.util.adapters.CodecBackedAdapter
 import com.cobblemon.mod.common.util.adapters.IdentifierAdapter
@@ -18,6 +21,7 @@ import com.cobblemon.mod.common.util.cobblemonResource
 import com.google.gson.Gson
 import com.google.gson.GsonBuilder
 import com.google.gson.reflect.TypeToken
+import java.util.concurrent.ConcurrentHashMap
 import net.minecraft.resources.ResourceLocation
 import net.minecraft.server.level.ServerPlayer
 import net.minecraft.server.packs.PackType
@@ -40,13 +44,39 @@ object Dexes : JsonDataRegistry<PokedexDef> {
     //Maps a dex id to its PokedexDef
     val dexEntryMap = linkedMapOf<ResourceLocation, PokedexDef>()
 
+    /** Each dex's entries keyed by entry id, built the first time they're needed after a reload. */
+    private val entryMaps = ConcurrentHashMap<ResourceLocation, Map<ResourceLocation, PokedexEntry>>()
+    /** For each dex, how many of its entries are for each species. */
+    private val speciesEntryCounts = ConcurrentHashMap<ResourceLocation, Map<ResourceLocation, Int>>()
+
+    init {
+        // Dexes resolve their entries through DexEntries, so a reload of either makes the cached maps stale.
+        DexEntries.observable.subscribe { clearEntryMaps() }
+    }
+
+    fun getEntryMap(dexId: ResourceLocation): Map<ResourceLocation, PokedexEntry>? {
+        val def = dexEntryMap[dexId] ?: return null
+        return entryMaps.computeIfAbsent(dexId) { def.getEntries().associateBy { it.id } }
+    }
+
+    fun getSpeciesEntryCount(dexId: ResourceLocation, speciesId: ResourceLocation): Int {
+        val entries = getEntryMap(dexId) ?: return 0
+        return speciesEntryCounts.computeIfAbsent(dexId) { entries.values.groupingBy { it.speciesId }.eachCount() }[speciesId] ?: 0
+    }
+
+    private fun clearEntryMaps() {
+        entryMaps.clear()
+        speciesEntryCounts.clear()
+    }
+
     override fun reload(data: Map<ResourceLocation, PokedexDef>) {
         dexEntryMap.clear()
+        clearEntryMaps()
         data.entries.sortedBy { it.value.sortOrder }.forEach { (id, def) -> dexEntryMap[id] = def }
         observable.emit(this)
     }
 
     override fun sync(player: ServerPlayer) {
-        PokedexDexSyncPacket(dexEntryMap.values).sendToPlayer(player)
+        DataRegistrySyncPacket.shared(this) { PokedexDexSyncPacket(dexEntryMap.values) }.sendToPlayer(player)
     }
 }
\ No newline at end of file
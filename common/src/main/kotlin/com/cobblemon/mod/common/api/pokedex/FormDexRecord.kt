@@ -10,22 +10,18 @@ package com.cobblemon.mod.common.api.pokedex
 
 import com.bedrockk.molang.runtime.struct.QueryStruct
 import com.bedrockk.molang.runtime.struct.VariableStruct
-import com.bedrockk.molang.runtime.value.StringValue
 import com.cobblemon.mod.common.api.events.CobblemonEvents
 import com.cobblemon.mod.common.api.events.pokemon.PokedexDataChangedEvent
+import com.cobblemon.mod.common.api.molang.MoLangFunctions
+import com.cobblemon.mod.common.api.molang.MoLangFunctions.addFormDexRecordFunctions
 import com.cobblemon.mod.common.api.pokemon.PokemonSpecies
 import com.cobblemon.mod.common.pokedex.scanner.PokedexEntityData
 import com.cobblemon.mod.common.pokemon.Gender
 import com.cobblemon.mod.common.pokemon.Pokemon
-import com.cobblemon.mod.common.util.readEnumConstant
-import com.cobblemon.mod.common.util.readString
-import com.cobblemon.mod.common.util.writeEnumConstant
-import com.cobblemon.mod.common.util.writeString
-import com.google.common.collect.Sets
-import com.mojang.datafixers.util.Either
 import com.mojang.serialization.Codec
 import com.mojang.serialization.codecs.ListCodec
 import com.mojang.serialization.codecs.RecordCodecBuilder
+import java.util.EnumSet
 import net.minecraft.network.RegistryFriendlyByteBuf
 
 /**
@@ -37,33 +33,47 @@ import net.minecraft.network.RegistryFriendlyByteBuf
  */
 class FormDexRecord {
     companion object {
-        val CODEC: Codec<FormDexRecord> = RecordCodecBuilder.create { instance ->
+        private const val NORMAL_BIT = 1 shl 3
+        private const val SHINY_BIT = 1 shl 4
+        private const val KNOWLEDGE_SHIFT = 5
+        private const val KNOWLEDGE_MASK = 0b11 shl KNOWLEDGE_SHIFT
+
+        /** The format written by older versions, only read now so that existing dexes still load. */
+        private val LEGACY_CODEC: Codec<FormDexRecord> = RecordCodecBuilder.create { instance ->
             instance.group(
-                ListCodec(Codec.STRING, 0, 3).fieldOf("genders").forGetter { it.genders.map { it.name } },
-                ListCodec(Codec.STRING, 0, 2).fieldOf("seenShinyStates").forGetter { it.seenShinyStates.toList() },
+                ListCodec(Codec.STRING, 0, 3).fieldOf("genders").forGetter { it.getGenders().map { it.name } },
+                ListCodec(Codec.STRING, 0, 2).fieldOf("seenShinyStates").forGetter { it.getSeenShinyStates().toList() },
                 Codec.STRING.fieldOf("knowledge").forGetter { it.knowledge.name }
             ).apply(instance) { genders, seenShinyStates, knowledge ->
                 FormDexRecord().also {
-                    it.genders.addAll(genders.map(Gender::valueOf))
-                    it.seenShinyStates.addAll(seenShinyStates)
+                    genders.forEach { gender -> it.addGender(Gender.valueOf(gender)) }
+                    seenShinyStates.forEach { state -> it.addShinyState(state == "shiny") }
                     it.knowledge = PokedexEntryProgress.valueOf(knowledge)
                 }
             }
         }
-    }
 
-    /** The genders that the dex is aware of. */
-    private val genders: MutableSet<Gender> = mutableSetOf()
+        val CODEC: Codec<FormDexRecord> = Codec.withAlternative(
+            Codec.INT.xmap({ flags -> FormDexRecord().also { it.flags = flags } }, { it.flags }),
+            LEGACY_CODEC
+        )
+    }
 
-    /** Shiny states could be shiny or non-shiny - on the off chance they only saw the shiny, they shouldn't know what the normal looks like. */
-    private val seenShinyStates =
-        mutableSetOf<String>() // consider: radiants in the future (radiants should just be a resource pack tbh)
+    /**
+     * Everything this record knows, packed into one int. The low three bits are the seen genders by ordinal, then
+     * one bit each for having seen the normal and the shiny, then two bits for the [knowledge] ordinal.
+     */
+    private var flags = 0
 
     /** The current awareness of the form that the dex has. */
-    var knowledge = PokedexEntryProgress.NONE
-        private set
+    var knowledge: PokedexEntryProgress
+        get() = PokedexEntryProgress.entries[(flags and KNOWLEDGE_MASK) shr KNOWLEDGE_SHIFT]
+        private set(value) {
+            flags = (flags and KNOWLEDGE_MASK.inv()) or (value.ordinal shl KNOWLEDGE_SHIFT)
+        }
 
-    private val data = VariableStruct() // Could use this for various other properties maybe, consider this a draft
+    /** Only created if a script actually uses it, consider this a draft. */
+    private var data: VariableStruct? = null
 
     @Transient
     lateinit var speciesDexRecord: SpeciesDexRecord
@@ -71,23 +81,18 @@ class FormDexRecord {
     @Transient
     lateinit var formName: String
 
-    @Transient
-    lateinit var struct: QueryStruct
+    /** Built on request from the shared [MoLangFunctions.formDexRecordFunctions] rather than kept on every record. */
+    val struct: QueryStruct
+        get() = QueryStruct(hashMapOf()).addFormDexRecordFunctions(this)
 
     fun initialize(speciesDexRecord: SpeciesDexRecord, formName: String) {
         this.speciesDexRecord = speciesDexRecord
-        this.formName = formName
-        struct = QueryStruct(hashMapOf())
-            .addFunction("data") { data }
-            .addFunction("knowledge") { StringValue(knowledge.name) }
-            .addFunction("has_seen_gender") { params -> genders.contains(Gender.valueOf(params.getString(0).uppercase())) }
+        this.formName = PokedexIds.intern(formName)
     }
 
-    fun clone() = FormDexRecord().also {
-        it.genders.addAll(genders)
-        it.seenShinyStates.addAll(seenShinyStates)
-        it.knowledge = knowledge
-    }
+    fun getOrCreateData() = data ?: VariableStruct().also { data = it }
+
+    fun clone() = FormDexRecord().also { it.flags = flags }
 
     fun encountered(pokedexEntityData: PokedexEntityData) {
         if (wouldBeDifferent(pokedexEntityData, PokedexEntryProgress.ENCOUNTERED)) {
@@ -106,16 +111,31 @@ class FormDexRecord {
         }
     }
 
-    fun getGenders(): Set<Gender> = genders
-    fun hasSeenShinyState(shiny: Boolean): Boolean = seenShinyStates.contains(if (shiny) "shiny" else "normal")
-    fun getSeenShinyStates(): Set<String> = seenShinyStates
+    fun getGenders(): Set<Gender> = Gender.entries.filterTo(EnumSet.noneOf(Gender::class.java), ::hasSeenGender)
+    fun hasSeenGender(gender: Gender) = flags and (1 shl gender.ordinal) != 0
+    fun hasSeenShinyState(shiny: Boolean): Boolean = flags and (if (shiny) SHINY_BIT else NORMAL_BIT) != 0
+    fun getSeenShinyStates(): Set<String> {
+        val states = mutableSetOf<String>()
+        if (hasSeenShinyState(false)) states.add("normal")
+        if (hasSeenShinyState(true)) states.add("shiny")
+        return states
+    }
+
+    private fun addGender(gender: Gender) {
+        flags = flags or (1 shl gender.ordinal)
+    }
+
+    private fun addShinyState(shiny: Boolean) {
+        flags = flags or (if (shiny) SHINY_BIT else NORMAL_BIT)
+    }
 
     //Used when granting all entries in dex, should figure out better way
     fun addAllShinyStatesAndGenders() {
         val form = PokemonSpecies.getByIdentifier(speciesDexRecord.id)?.getFormByName(formName)
-        genders.addAll(form?.possibleGenders ?: listOf(Gender.MALE, Gender.FEMALE))
+        (form?.possibleGenders ?: listOf(Gender.MALE, Gender.FEMALE)).forEach(::addGender)
 
-        seenShinyStates.addAll(listOf("shiny", "normal"))
+        addShinyState(false)
+        addShinyState(true)
         speciesDexRecord.onFormRecordUpdated(this)
     }
 
@@ -134,8 +154,8 @@ class FormDexRecord {
                     this
                 ),
                 ifSucceeded = {
-                    genders.add(pokedexEntityData.pokemon.gender)
-                    seenShinyStates.add(if (pokedexEntityData.pokemon.shiny) "shiny" else "normal")
+                    addGender(pokedexEntityData.pokemon.gender)
+                    addShinyState(pokedexEntityData.pokemon.shiny)
                     if (knowledge.ordinal > this.knowledge.ordinal) {
                         this.knowledge = knowledge
                     }
@@ -155,24 +175,17 @@ class FormDexRecord {
     }
 
     fun wouldBeDifferent(pokedexEntityData: PokedexEntityData, knowledge: PokedexEntryProgress): Boolean {
-        return pokedexEntityData.pokemon.gender !in genders
-                || (pokedexEntityData.pokemon.shiny && "shiny" !in seenShinyStates)
-                || (!pokedexEntityData.pokemon.shiny && "normal" !in seenShinyStates)
+        return !hasSeenGender(pokedexEntityData.pokemon.gender)
+                || !hasSeenShinyState(pokedexEntityData.pokemon.shiny)
                 || knowledge.ordinal > this.knowledge.ordinal
                 || speciesDexRecord.wouldBeDifferent(pokedexEntityData)
     }
 
     fun encode(buffer: RegistryFriendlyByteBuf) {
-        buffer.writeCollection(genders) { _, it -> buffer.writeEnumConstant(it) }
-        buffer.writeCollection(seenShinyStates) { _, it -> buffer.writeString(it) }
-        buffer.writeEnumConstant(knowledge)
+        buffer.writeByte(flags)
     }
 
     fun decode(buffer: RegistryFriendlyByteBuf) {
-        genders.clear()
-        seenShinyStates.clear()
-        genders.addAll(buffer.readCollection(Sets::newHashSetWithExpectedSize) { buffer.readEnumConstant(Gender::class.java) })
-        seenShinyStates.addAll(buffer.readCollection(Sets::newHashSetWithExpectedSize) { buffer.readString() })
-        knowledge = buffer.readEnumConstant(PokedexEntryProgress::class.java)
+        flags = buffer.readUnsignedByte().toInt()
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright (C) 2023 Cobblemon Contributors
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.cobblemon.mod.common.api.pokedex
+
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap
+
+/**
+ * Interns the aspect and form names that show up in Pokédex records. Every player's dex has the same few thousand
+ * names in it, so records hold aspects as small sets of these ids and form names as the one shared string instance.
+ *
+ * The ids only mean anything for the lifetime of the process. They are never saved or sent over the network.
+ *
+ * @since October 19th, 2026
+ */
+object PokedexIds {
+    private val ids = Object2IntOpenHashMap<String>().also { it.defaultReturnValue(-1) }
+    private val names = mutableListOf<String>()
+
+    /** Gets the id for the given name, assigning it one if it's never been seen before. */
+    @Synchronized
+    fun idOf(name: String): Int {
+        val existing = ids.getInt(name)
+        if (existing != -1) {
+            return existing
+        }
+        val id = names.size
+        names.add(name)
+        ids.put(name, id)
+        return id
+    }
+
+    /** Gets the id for the given name, or -1 if it has never been interned. */
+    @Synchronized
+    fun find(name: String) = ids.getInt(name)
+
+    @Synchronized
+    fun nameOf(id: Int) = names[id]
+
+    /** Returns the shared instance of the given name. */
+    fun intern(name: String) = nameOf(idOf(name))
+}
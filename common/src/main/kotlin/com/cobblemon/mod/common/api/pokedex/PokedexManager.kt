@@ -8,6 +8,7 @@
 
 package com.cobblemon.mod.common.api.pokedex
 
+import com.cobblemon.mod.common.Cobblemon
 import com.cobblemon.mod.common.CobblemonNetwork.sendPacket
 import com.cobblemon.mod.common.api.storage.player.InstancedPlayerData
 import com.cobblemon.mod.common.api.storage.player.PlayerInstancedDataStoreTypes
@@ -52,14 +53,16 @@ class PokedexManager(
     }
 
     override fun markDirty() {
+        Cobblemon.playerDataManager.markDirty(this, PlayerInstancedDataStoreTypes.POKEDEX)
     }
 
     override fun initialize() {
         speciesRecords.entries.forEach { (key, value) -> value.initialize(this, key) }
     }
 
-    override fun onSpeciesRecordUpdated(speciesDexRecord: SpeciesDexRecord) {
-        super.onSpeciesRecordUpdated(speciesDexRecord)
+    override fun onSpeciesRecordUpdated(speciesDexRecord: SpeciesDexRecord, previousKnowledge: PokedexEntryProgress) {
+        super.onSpeciesRecordUpdated(speciesDexRecord, previousKnowledge)
+        markDirty()
         uuid.getPlayer()?.sendPacket(
             SetClientPlayerDataPacket(
                 type = PlayerInstancedDataStoreTypes.POKEDEX,
@@ -10,24 +10,50 @@ package com.cobblemon.mod.common.api.pokedex
 
 import com.cobblemon.mod.common.api.pokedex.entry.DexEntries
 import com.cobblemon.mod.common.api.pokedex.entry.PokedexEntry
+import kotlin.math.roundToInt
 import net.minecraft.resources.ResourceLocation
 
 /**
- * Interface that serves for various calculations can be done around Pokédex. The output of these gets cached and invalidated when the Pokédex of a user updates.
+ * Interface that serves for various calculations can be done around Pokédex. The output of these gets cached and updated when the Pokédex of a user updates.
  * As opposed to the [GlobalPokedexValueCalculator] this interface is always called on a specific dex definition (e.g. galar, kanto)
  */
 interface PokedexValueCalculator<T> {
     val outputIsPercentage: Boolean
     fun calculate(dexManager: AbstractPokedexManager, dex: Map<ResourceLocation, PokedexEntry>): T
+
+    /**
+     * Updates a previously calculated [value] after one species went from [previous] to [current] knowledge, where
+     * [speciesEntries] is how many of the [dex] entries are for that species. Returning null means the value gets
+     * calculated from scratch the next time it's requested, which is the default.
+     */
+    fun update(value: T, dex: Map<ResourceLocation, PokedexEntry>, speciesEntries: Int, previous: PokedexEntryProgress, current: PokedexEntryProgress): T? = null
 }
 
 /**
- * Interface that serves for various calculations can be done around Pokédex. The output of these gets cached and invalidated when the Pokédex of a user updates.
+ * Interface that serves for various calculations can be done around Pokédex. The output of these gets cached and updated when the Pokédex of a user updates.
  * The calculation of this interface is aimed to consider all available Pokédex entries and is not limited or filtered to a particular dex
  */
 interface GlobalPokedexValueCalculator<T> {
     val outputIsPercentage: Boolean
     fun calculate(dexManager: AbstractPokedexManager): T
+
+    /**
+     * Updates a previously calculated [value] after one species went from [previous] to [current] knowledge.
+     * Returning null means the value gets calculated from scratch the next time it's requested, which is the default.
+     */
+    fun update(value: T, previous: PokedexEntryProgress, current: PokedexEntryProgress): T? = null
+}
+
+private fun seenDelta(previous: PokedexEntryProgress, current: PokedexEntryProgress) =
+    (if (current != PokedexEntryProgress.NONE) 1 else 0) - (if (previous != PokedexEntryProgress.NONE) 1 else 0)
+
+private fun caughtDelta(previous: PokedexEntryProgress, current: PokedexEntryProgress) =
+    (if (current == PokedexEntryProgress.CAUGHT) 1 else 0) - (if (previous == PokedexEntryProgress.CAUGHT) 1 else 0)
+
+/** Moves a percentage of [total] by [delta], going back through the whole count so that rounding never accumulates. */
+private fun shiftPercent(percent: Float, total: Int, delta: Int): Float {
+    if (total == 0) return percent
+    return ((percent * total / 100F).roundToInt() + delta).toFloat() / total * 100F
 }
 
 /**
@@ -40,7 +66,13 @@ object CaughtCount : PokedexValueCalculator<Int>, GlobalPokedexValueCalculator<I
     }
 
     override fun calculate(dexManager: AbstractPokedexManager, dex: Map<ResourceLocation, PokedexEntry>): Int {
-        return dex.entries.map { it.value }.count { dexManager.getKnowledgeForSpecies(it.speciesId) == PokedexEntryProgress.CAUGHT }
+        return dex.values.count { dexManager.getKnowledgeForSpecies(it.speciesId) == PokedexEntryProgress.CAUGHT }
+    }
+
+    override fun update(value: Int, previous: PokedexEntryProgress, current: PokedexEntryProgress) = value + caughtDelta(previous, current)
+
+    override fun update(value: Int, dex: Map<ResourceLocation, PokedexEntry>, speciesEntries: Int, previous: PokedexEntryProgress, current: PokedexEntryProgress): Int {
+        return value + caughtDelta(previous, current) * speciesEntries
     }
 }
 
@@ -54,7 +86,13 @@ object SeenCount : PokedexValueCalculator<Int>, GlobalPokedexValueCalculator<Int
     }
 
     override fun calculate(dexManager: AbstractPokedexManager, dex: Map<ResourceLocation, PokedexEntry>): Int {
-        return dex.entries.map { it.value }.count { dexManager.getKnowledgeForSpecies(it.speciesId) != PokedexEntryProgress.NONE }
+        return dex.values.count { dexManager.getKnowledgeForSpecies(it.speciesId) != PokedexEntryProgress.NONE }
+    }
+
+    override fun update(value: Int, previous: PokedexEntryProgress, current: PokedexEntryProgress) = value + seenDelta(previous, current)
+
+    override fun update(value: Int, dex: Map<ResourceLocation, PokedexEntry>, speciesEntries: Int, previous: PokedexEntryProgress, current: PokedexEntryProgress): Int {
+        return value + seenDelta(previous, current) * speciesEntries
     }
 }
 
@@ -65,11 +103,19 @@ object SeenPercent : PokedexValueCalculator<Float>, GlobalPokedexValueCalculator
     override val outputIsPercentage = true
 
     override fun calculate(dexManager: AbstractPokedexManager): Float {
-        return dexManager.speciesRecords.values.count { it.getKnowledge() != PokedexEntryProgress.NONE }.toFloat() / DexEntries.entries.values.map { it.speciesId }.toSet().size * 100F
+        return dexManager.speciesRecords.values.count { it.getKnowledge() != PokedexEntryProgress.NONE }.toFloat() / DexEntries.speciesCount * 100F
     }
 
     override fun calculate(dexManager: AbstractPokedexManager, dex: Map<ResourceLocation, PokedexEntry>): Float {
-        return dex.entries.map { it.value }.count { dexManager.getKnowledgeForSpecies(it.speciesId) != PokedexEntryProgress.NONE }.toFloat() / dex.entries.size * 100F
+        return dex.values.count { dexManager.getKnowledgeForSpecies(it.speciesId) != PokedexEntryProgress.NONE }.toFloat() / dex.size * 100F
+    }
+
+    override fun update(value: Float, previous: PokedexEntryProgress, current: PokedexEntryProgress): Float {
+        return shiftPercent(value, DexEntries.speciesCount, seenDelta(previous, current))
+    }
+
+    override fun update(value: Float, dex: Map<ResourceLocation, PokedexEntry>, speciesEntries: Int, previous: PokedexEntryProgress, current: PokedexEntryProgress): Float {
+        return shiftPercent(value, dex.size, seenDelta(previous, current) * speciesEntries)
     }
 }
 
@@ -80,10 +126,18 @@ object CaughtPercent : PokedexValueCalculator<Float>, GlobalPokedexValueCalculat
     override val outputIsPercentage = true
 
     override fun calculate(dexManager: AbstractPokedexManager): Float {
-        return dexManager.speciesRecords.values.count { it.getKnowledge() == PokedexEntryProgress.CAUGHT }.toFloat() / DexEntries.entries.values.map { it.speciesId }.toSet().size * 100F
+        return dexManager.speciesRecords.values.count { it.getKnowledge() == PokedexEntryProgress.CAUGHT }.toFloat() / DexEntries.speciesCount * 100F
     }
 
     override fun calculate(dexManager: AbstractPokedexManager, dex: Map<ResourceLocation, PokedexEntry>): Float {
-        return dex.entries.map { it.value }.count { dexManager.getKnowledgeForSpecies(it.speciesId) == PokedexEntryProgress.CAUGHT }.toFloat() / dex.entries.size * 100F
+        return dex.values.count { dexManager.getKnowledgeForSpecies(it.speciesId) == PokedexEntryProgress.CAUGHT }.toFloat() / dex.size * 100F
     }
-}
\ No newline at end of file
+
+    override fun update(value: Float, previous: PokedexEntryProgress, current: PokedexEntryProgress): Float {
+        return shiftPercent(value, DexEntries.speciesCount, caughtDelta(previous, current))
+    }
+
+    override fun update(value: Float, dex: Map<ResourceLocation, PokedexEntry>, speciesEntries: Int, previous: PokedexEntryProgress, current: PokedexEntryProgress): Float {
+        return shiftPercent(value, dex.size, caughtDelta(previous, current) * speciesEntries)
+    }
+}
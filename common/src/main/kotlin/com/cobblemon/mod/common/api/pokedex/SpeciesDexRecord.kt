@@ -9,17 +9,19 @@
 package com.cobblemon.mod.common.api.pokedex
 
 import com.bedrockk.molang.runtime.struct.QueryStruct
-import com.bedrockk.molang.runtime.value.DoubleValue
+import com.cobblemon.mod.common.api.molang.MoLangFunctions
+import com.cobblemon.mod.common.api.molang.MoLangFunctions.addSpeciesDexRecordFunctions
 import com.cobblemon.mod.common.api.molang.MoLangFunctions.addStandardFunctions
 import com.cobblemon.mod.common.pokedex.scanner.PokedexEntityData
 import com.cobblemon.mod.common.pokemon.Pokemon
 import com.cobblemon.mod.common.util.readString
 import com.cobblemon.mod.common.util.writeString
-import com.google.common.collect.Sets
 import com.mojang.serialization.Codec
 import com.mojang.serialization.codecs.ListCodec
 import com.mojang.serialization.codecs.PrimitiveCodec
 import com.mojang.serialization.codecs.RecordCodecBuilder
+import it.unimi.dsi.fastutil.ints.IntArraySet
+import it.unimi.dsi.fastutil.objects.Object2ObjectArrayMap
 import net.minecraft.network.RegistryFriendlyByteBuf
 import net.minecraft.resources.ResourceLocation
 
@@ -35,12 +37,12 @@ class SpeciesDexRecord {
     companion object {
         val CODEC: Codec<SpeciesDexRecord> = RecordCodecBuilder.create { instance ->
             instance.group(
-                ListCodec(PrimitiveCodec.STRING, 0, 512).fieldOf("aspects").forGetter { it.aspects.toList() },
+                ListCodec(PrimitiveCodec.STRING, 0, 512).optionalFieldOf("aspects", listOf()).forGetter { it.getAspects().toList() },
                 Codec.unboundedMap(Codec.STRING, FormDexRecord.CODEC).fieldOf("formRecords").forGetter { it.formRecords }
             ).apply(instance) { aspects, formRecords ->
                 SpeciesDexRecord().also {
-                    it.aspects.addAll(aspects)
-                    it.formRecords.putAll(formRecords)
+                    it.addAspects(aspects)
+                    formRecords.forEach { (formName, formRecord) -> it.formRecords[PokedexIds.intern(formName)] = formRecord }
                 }
             }
         }
@@ -48,69 +50,60 @@ class SpeciesDexRecord {
 
     @Transient
     lateinit var id: ResourceLocation
-    private val aspects: MutableSet<String> = mutableSetOf()
-    private val formRecords: MutableMap<String, FormDexRecord> = mutableMapOf()
+    /** The [PokedexIds] of the known aspects. Most species only ever have a handful so an array set is the smallest fit. */
+    private val aspects = IntArraySet(0)
+    private val formRecords: MutableMap<String, FormDexRecord> = Object2ObjectArrayMap(1)
     val isFormRecordsEmpty: Boolean
         get() = formRecords.isEmpty()
 
     fun describe(): String {
-        return "SpeciesDexRecord(aspects=$aspects, formRecords=$formRecords)"
+        return "SpeciesDexRecord(aspects=${getAspects()}, formRecords=$formRecords)"
     }
 
-    @Transient
-    val struct = QueryStruct(hashMapOf()).addStandardFunctions()
-        .addFunction("get_form_record") { params ->
-            val formName = params.getString(0)
-            formRecords[formName]?.struct ?: QueryStruct(hashMapOf())
-        }
-        .addFunction("get_or_create_form_record") { params ->
-            getOrCreateFormRecord(params.getString(0)).struct
-        }
-        .addFunction("add_aspect") { params ->
-            val aspect = params.getString(0)
-            aspects.add(aspect)
-        }
-        .addFunction("has_knowledge") { params ->
-            val knowledge = params.getString(0)
-            DoubleValue(formRecords.values.any { it.knowledge.name.equals(knowledge.toString(), ignoreCase = true) })
-        }
-        .addFunction("is_caught") { params ->
-            DoubleValue(formRecords.values.any { it.knowledge.name.equals("CAUGHT", ignoreCase = true) })
-        }
-        // more, also worth moving to something like MoLangFunctions.kt so it's easier to API in more values
+    /** Built on request from the shared [MoLangFunctions.speciesDexRecordFunctions] rather than kept on every record. */
+    val struct: QueryStruct
+        get() = QueryStruct(hashMapOf()).addStandardFunctions().addSpeciesDexRecordFunctions(this)
 
     @Transient
     lateinit var pokedexManager: AbstractPokedexManager
 
+    /** The knowledge as of the last update, so the manager can update its calculated values by the difference. */
+    private var lastKnowledge = PokedexEntryProgress.NONE
+
     fun initialize(pokedexManager: AbstractPokedexManager, id: ResourceLocation) {
         this.id = id
         this.pokedexManager = pokedexManager
         this.formRecords.forEach { it.value.initialize(this, it.key) }
+        this.lastKnowledge = getKnowledge()
     }
 
     fun onFormRecordUpdated(formDexRecord: FormDexRecord) {
-        pokedexManager.onSpeciesRecordUpdated(this)
+        val previousKnowledge = lastKnowledge
+        lastKnowledge = getKnowledge()
+        pokedexManager.onSpeciesRecordUpdated(this, previousKnowledge)
     }
 
     fun addInformation(pokemon: Pokemon, knowledge: PokedexEntryProgress) {
-        aspects.addAll(pokemon.aspects)
+        addAspects(pokemon.aspects)
     }
 
     fun addInformation(pokedexEntityData: PokedexEntityData, knowledge: PokedexEntryProgress) {
-        aspects.addAll(pokedexEntityData.pokemon.aspects)
+        addAspects(pokedexEntityData.pokemon.aspects)
     }
 
-    fun addAspects(addedAspects: Set<String>) {
-        aspects.addAll(addedAspects)
+    fun addAspect(aspect: String) = aspects.add(PokedexIds.idOf(aspect))
+
+    fun addAspects(addedAspects: Collection<String>) {
+        addedAspects.forEach(::addAspect)
     }
 
     /** Returns true if the given Pokémon contains new information. Internal because it's only to be called from [FormDexRecord.wouldBeDifferent]. */
-    internal fun wouldBeDifferent(pokemon: Pokemon) = pokemon.aspects.any { it !in aspects }
+    internal fun wouldBeDifferent(pokemon: Pokemon) = pokemon.aspects.any { !hasAspect(it) }
 
-    internal fun wouldBeDifferent(pokedexEntityData: PokedexEntityData) = pokedexEntityData.pokemon.aspects.any { it !in aspects }
+    internal fun wouldBeDifferent(pokedexEntityData: PokedexEntityData) = pokedexEntityData.pokemon.aspects.any { !hasAspect(it) }
 
     fun getOrCreateFormRecord(formName: String): FormDexRecord {
-        return formRecords.getOrPut(formName.lowercase()) {
+        return formRecords.getOrPut(PokedexIds.intern(formName.lowercase())) {
             val record = FormDexRecord()
             record.initialize(this, formName)
             // Some more stuff eventually
@@ -124,6 +117,7 @@ class SpeciesDexRecord {
 
     fun deleteFormRecord(formName: String) {
         formRecords.remove(formName)
+        lastKnowledge = getKnowledge()
     }
 
     fun clone() = SpeciesDexRecord().also {
@@ -131,15 +125,19 @@ class SpeciesDexRecord {
         it.formRecords.putAll(formRecords.mapValues { it.value.clone() })
     }
 
-    fun getAspects(): Set<String> = this.aspects
-    fun hasAspect(aspect: String) = aspect in aspects
+    fun getAspects(): Set<String> = aspects.mapTo(mutableSetOf(), PokedexIds::nameOf)
+    fun hasAspect(aspect: String) = PokedexIds.find(aspect).let { it != -1 && it in aspects }
     fun getKnowledge() = formRecords.values.maxOfOrNull { it.knowledge } ?: PokedexEntryProgress.NONE
+    fun hasFormWithKnowledge(knowledge: PokedexEntryProgress) = formRecords.values.any { it.knowledge == knowledge }
     fun hasAtLeast(knowledge: PokedexEntryProgress) = getKnowledge().ordinal >= knowledge.ordinal
     fun hasSeenForm(formName: String) = formRecords.entries.any { it.key.equals(formName, ignoreCase = true) && it.value.knowledge != PokedexEntryProgress.NONE }
 
     fun encode(buffer: RegistryFriendlyByteBuf) {
-        buffer.writeCollection(aspects) { _, it -> buffer.writeString(it) }
-        buffer.writeInt(formRecords.size)
+        buffer.writeVarInt(aspects.size)
+        for (aspect in aspects) {
+            buffer.writeString(PokedexIds.nameOf(aspect))
+        }
+        buffer.writeVarInt(formRecords.size)
         for ((formName, formRecord) in formRecords) {
             buffer.writeString(formName)
             formRecord.encode(buffer)
@@ -148,14 +146,13 @@ class SpeciesDexRecord {
 
     fun decode(buffer: RegistryFriendlyByteBuf) {
         aspects.clear()
-        aspects.addAll(buffer.readCollection(Sets::newHashSetWithExpectedSize) { buffer.readString() })
+        repeat(buffer.readVarInt()) { addAspect(buffer.readString()) }
         formRecords.clear()
-        val numForms = buffer.readInt()
-        for (i in 0 until numForms) {
-            val formName = buffer.readString()
+        repeat(buffer.readVarInt()) {
+            val formName = PokedexIds.intern(buffer.readString())
             val formRecord = FormDexRecord()
             formRecord.decode(buffer)
             formRecords[formName] = formRecord
         }
     }
-}
\ No newline at end of file
+}
@@ -11,6 +11,7 @@ package com.cobblemon.mod.common.api.pokedex.entry
 import com.cobblemon.mod.common.api.data.JsonDataRegistry
 import com.cobblemon.mod.common.api.molang.ExpressionLike
 import com.cobblemon.mod.common.api.reactive.SimpleObservable
+import com.cobblemon.mod.common.net.messages.client.data.DataRegistrySyncPacket
 import com.cobblemon.mod.common.net.messages.client.data.DexEntrySyncPacket
 import com.cobblemon.mod.common.util.adapters.ExpressionLikeAdapter
 import com.cobblemon.mod.common.util.adapters.IdentifierAdapter
@@ -38,6 +39,10 @@ object DexEntries : JsonDataRegistry<PokedexEntry> {
 
     val entries = mutableMapOf<ResourceLocation, PokedexEntry>()
 
+    /** How many distinct species have entries, which the global completion percentages are relative to. */
+    var speciesCount = 0
+        private set
+
     override fun reload(data: Map<ResourceLocation, PokedexEntry>) {
         data.forEach { _, entry ->
             entries[entry.id] = entry
@@ -50,12 +55,13 @@ object DexEntries : JsonDataRegistry<PokedexEntry> {
                 }
             }
         }
+        speciesCount = entries.values.mapTo(mutableSetOf()) { it.speciesId }.size
         observable.emit(this)
     }
 
     override val observable = SimpleObservable<DexEntries>()
 
     override fun sync(player: ServerPlayer) {
-        DexEntrySyncPacket(entries.values).sendToPlayer(player)
+        DataRegistrySyncPacket.shared(this) { DexEntrySyncPacket(entries.values) }.sendToPlayer(player)
     }
 }
\ No newline at end of file
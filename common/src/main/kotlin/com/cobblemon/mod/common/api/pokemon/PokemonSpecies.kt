@@ -43,6 +43,7 @@ import com.cobblemon.mod.common.api.riding.sound.RideSoundSettingsList
 import com.cobblemon.mod.common.api.spawning.TimeRange
 import com.cobblemon.mod.common.api.types.ElementalType
 import com.cobblemon.mod.common.api.types.adapters.ElementalTypeAdapter
+import com.cobblemon.mod.common.net.messages.client.data.DataRegistrySyncPacket
 import com.cobblemon.mod.common.net.messages.client.data.SpeciesRegistrySyncPacket
 import com.cobblemon.mod.common.pokemon.FormData
 import com.cobblemon.mod.common.pokemon.Species
@@ -142,6 +143,8 @@ object PokemonSpecies : JsonDataRegistry<Species> {
 
     private val speciesByIdentifier = hashMapOf<ResourceLocation, Species>()
     private val speciesByDex = HashBasedTable.create<String, Int, Species>()
+    /** Pokédex numbers within a namespace that more than one species has, so [speciesByDex] only holds one of them. */
+    private val sharedDexNumbers = hashSetOf<Pair<String, Int>>()
 
     @JvmStatic
     val species: Collection<Species>
@@ -184,6 +187,19 @@ object PokemonSpecies : JsonDataRegistry<Species> {
     @JvmStatic
     fun getByPokedexNumber(ndex: Int, namespace: String = Cobblemon.MODID) = this.speciesByDex.get(namespace, ndex)
 
+    /**
+     * Checks if the [Species] is the only one in its namespace with its [Species.nationalPokedexNumber], meaning that
+     * [getByPokedexNumber] finds it no matter what order the species were loaded in.
+     *
+     * @param species The [Species] being queried.
+     * @return If the Pokédex number identifies the species on its own.
+     */
+    @JvmStatic
+    fun hasUniquePokedexNumber(species: Species): Boolean {
+        val namespace = species.resourceIdentifier.namespace
+        return (namespace to species.nationalPokedexNumber) !in this.sharedDexNumbers && this.speciesByDex.get(namespace, species.nationalPokedexNumber) === species
+    }
+
     /**
      * Finds a [Species] by its unique [ResourceLocation].
      *
@@ -237,10 +253,17 @@ object PokemonSpecies : JsonDataRegistry<Species> {
             }
             this.speciesByDex.put(species.resourceIdentifier.namespace, species.nationalPokedexNumber, species)
         }
+        this.sharedDexNumbers.clear()
+        this.speciesByIdentifier.values
+            .groupingBy { it.resourceIdentifier.namespace to it.nationalPokedexNumber }
+            .eachCount()
+            .filterValues { it > 1 }
+            .keys
+            .forEach(this.sharedDexNumbers::add)
     }
 
     override fun sync(player: ServerPlayer) {
-        SpeciesRegistrySyncPacket(species.toList()).sendToPlayer(player)
+        DataRegistrySyncPacket.shared(this) { SpeciesRegistrySyncPacket(species.toList()) }.sendToPlayer(player)
     }
 
     /**
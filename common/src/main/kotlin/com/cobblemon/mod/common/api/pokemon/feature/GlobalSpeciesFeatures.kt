@@ -14,6 +14,7 @@ import com.cobblemon.mod.common.api.pokemon.aspect.AspectProvider
 import com.cobblemon.mod.common.api.properties.CustomPokemonProperty
 import com.cobblemon.mod.common.api.properties.CustomPokemonPropertyType
 import com.cobblemon.mod.common.api.reactive.SimpleObservable
+import com.cobblemon.mod.common.net.messages.client.data.DataRegistrySyncPacket
 import com.cobblemon.mod.common.net.messages.client.data.GlobalSpeciesFeatureSyncPacket
 import com.cobblemon.mod.common.pokemon.Pokemon
 import com.cobblemon.mod.common.util.adapters.IdentifierAdapter
@@ -54,7 +55,7 @@ object GlobalSpeciesFeatures : JsonDataRegistry<SpeciesFeatureProvider<*>> {
     override val resourcePath: String = "global_species_features"
 
     override fun sync(player: ServerPlayer) {
-        player.sendPacket(GlobalSpeciesFeatureSyncPacket(codeFeatures + resourceFeatures))
+        player.sendPacket(DataRegistrySyncPacket.shared(this) { GlobalSpeciesFeatureSyncPacket(codeFeatures + resourceFeatures) })
     }
 
     override fun reload(data: Map<ResourceLocation, SpeciesFeatureProvider<*>>) {
@@ -85,6 +86,7 @@ object GlobalSpeciesFeatures : JsonDataRegistry<SpeciesFeatureProvider<*>> {
             CustomPokemonProperty.register(provider)
         }
         mapping[name] = provider
+        DataRegistrySyncPacket.invalidateShared(this)
     }
 
     @JvmStatic
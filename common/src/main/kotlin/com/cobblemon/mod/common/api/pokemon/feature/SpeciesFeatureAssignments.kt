@@ -12,6 +12,7 @@ import com.cobblemon.mod.common.CobblemonNetwork.sendPacket
 import com.cobblemon.mod.common.api.data.JsonDataRegistry
 import com.cobblemon.mod.common.api.pokemon.PokemonSpecies
 import com.cobblemon.mod.common.api.reactive.SimpleObservable
+import com.cobblemon.mod.common.net.messages.client.data.DataRegistrySyncPacket
 import com.cobblemon.mod.common.net.messages.client.data.SpeciesFeatureAssignmentSyncPacket
 import com.cobblemon.mod.common.pokemon.Species
 import com.cobblemon.mod.common.util.asIdentifierDefaultingNamespace
@@ -44,7 +45,7 @@ object SpeciesFeatureAssignments : JsonDataRegistry<SpeciesFeatureAssignment> {
     private val assignments = mutableMapOf<ResourceLocation, MutableSet<String>>()
 
     override fun sync(player: ServerPlayer) {
-        player.sendPacket(SpeciesFeatureAssignmentSyncPacket(assignments))
+        player.sendPacket(DataRegistrySyncPacket.shared(this) { SpeciesFeatureAssignmentSyncPacket(assignments) })
     }
     override fun reload(data: Map<ResourceLocation, SpeciesFeatureAssignment>) {
         data.values.forEach {
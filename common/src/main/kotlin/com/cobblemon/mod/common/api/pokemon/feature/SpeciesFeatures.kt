@@ -14,6 +14,7 @@ import com.cobblemon.mod.common.api.pokemon.aspect.AspectProvider
 import com.cobblemon.mod.common.api.properties.CustomPokemonProperty
 import com.cobblemon.mod.common.api.properties.CustomPokemonPropertyType
 import com.cobblemon.mod.common.api.reactive.SimpleObservable
+import com.cobblemon.mod.common.net.messages.client.data.DataRegistrySyncPacket
 import com.cobblemon.mod.common.net.messages.client.data.StandardSpeciesFeatureSyncPacket
 import com.cobblemon.mod.common.pokemon.Species
 import com.cobblemon.mod.common.util.adapters.IdentifierAdapter
@@ -60,7 +61,7 @@ object SpeciesFeatures : JsonDataRegistry<SpeciesFeatureProvider<*>> {
     override val resourcePath: String = "species_features"
 
     override fun sync(player: ServerPlayer) {
-        player.sendPacket(StandardSpeciesFeatureSyncPacket(codeFeatures + resourceFeatures))
+        player.sendPacket(DataRegistrySyncPacket.shared(this) { StandardSpeciesFeatureSyncPacket(codeFeatures + resourceFeatures) })
     }
 
     override fun reload(data: Map<ResourceLocation, SpeciesFeatureProvider<*>>) {
@@ -98,6 +99,8 @@ object SpeciesFeatures : JsonDataRegistry<SpeciesFeatureProvider<*>> {
             CustomPokemonProperty.register(provider)
         }
         mapping[name] = provider
+        // Features can be registered in code at any time, not only while reloading.
+        DataRegistrySyncPacket.invalidateShared(this)
     }
 
     @JvmStatic
@@ -10,6 +10,9 @@ package com.cobblemon.mod.common.api.riding.behaviour
 
 import com.cobblemon.mod.common.util.ifClient
 import com.cobblemon.mod.common.util.ifServer
+import io.netty.buffer.ByteBufUtil
+import io.netty.buffer.Unpooled
+import kotlin.math.abs
 import net.minecraft.network.FriendlyByteBuf
 import net.minecraft.world.phys.Vec3
 
@@ -26,9 +29,17 @@ open class RidingBehaviourState {
     open val rideVelocity: SidedRidingState<Vec3> = ridingState(Vec3.ZERO, Side.CLIENT)
     open val stamina: SidedRidingState<Float> = ridingState(1.0F, Side.CLIENT)
 
+    /**
+     * What the fields added by subclasses encoded to when this state was last given them through [decodeChanges], so
+     * that a state kept to compare against doesn't need encoding again every time. Anything else that changes this
+     * state clears it.
+     */
+    private var encodedExtra: ByteArray? = null
+
     open fun reset() {
         rideVelocity.set(Vec3.ZERO, true)
         stamina.set(1.0F, true)
+        encodedExtra = null
     }
 
     open fun copy(): RidingBehaviourState {
@@ -38,12 +49,16 @@ open class RidingBehaviourState {
         return copy
     }
 
+    /**
+     * Whether this state has moved far enough from [previous] to be worth sending. Velocity only counts as changed
+     * once a component is off by more than a few thousandths of a block per tick, and stamina once it's off by more
+     * than the precision it's sent with, so that floating point jitter doesn't cause a packet every tick.
+     */
     open fun shouldSync(previous: RidingBehaviourState): Boolean {
-        if (previous.rideVelocity.get() != rideVelocity.get()) return true
-        if (previous.stamina.get() != stamina.get()) return true
-        return false
+        return changedBaseFields(previous) != 0
     }
 
+    /** Writes every field at full precision. Subclasses add their own fields after calling this. */
     open fun encode(buffer: FriendlyByteBuf) {
         buffer.writeVec3(rideVelocity.get())
         buffer.writeFloat(stamina.get())
@@ -52,6 +67,123 @@ open class RidingBehaviourState {
     open fun decode(buffer: FriendlyByteBuf) {
         rideVelocity.set(buffer.readVec3(), true)
         stamina.set(buffer.readFloat(), true)
+        encodedExtra = null
+    }
+
+    /**
+     * Whether the fields added by subclasses have moved far enough from [previous] to be worth sending, given [extra],
+     * which is what they encode to for this state. By default any change to those bytes counts. Subclasses with
+     * fields that jitter, like [shouldSync] allows for velocity, can override this to compare them with a tolerance.
+     */
+    protected open fun shouldSyncExtra(previous: RidingBehaviourState, extra: ByteArray): Boolean {
+        return !extra.contentEquals(previous.encodedExtra ?: previous.encodeExtra().also { previous.encodedExtra = it })
+    }
+
+    /**
+     * Encodes only what differs from [previous], which should be what the other side currently has, or everything if
+     * [previous] is null. Velocity components are sent as 16-bit fixed point and stamina as a single byte, and the
+     * fields added by subclasses are sent together as whatever [encode] writes after the base fields, but only when
+     * [shouldSyncExtra] says they changed. The result is applied with [decodeChanges].
+     */
+    fun encodeChanges(previous: RidingBehaviourState?): ByteArray {
+        val extra = encodeExtra()
+        var fields = if (previous != null) changedBaseFields(previous) else VELOCITY or STAMINA
+        if (previous == null || shouldSyncExtra(previous, extra)) {
+            fields = fields or EXTRA
+        }
+        val buffer = FriendlyByteBuf(Unpooled.buffer())
+        try {
+            buffer.writeByte(fields)
+            if (fields and VELOCITY != 0) {
+                val velocity = rideVelocity.get()
+                buffer.writeShort(quantizeVelocity(velocity.x))
+                buffer.writeShort(quantizeVelocity(velocity.y))
+                buffer.writeShort(quantizeVelocity(velocity.z))
+            }
+            if (fields and STAMINA != 0) {
+                buffer.writeByte(quantizeStamina(stamina.get()))
+            }
+            if (fields and EXTRA != 0) {
+                buffer.writeByteArray(extra)
+            }
+            return ByteBufUtil.getBytes(buffer)
+        } finally {
+            buffer.release()
+        }
+    }
+
+    /** Applies changes written by [encodeChanges], leaving any fields that weren't sent as they are. */
+    fun decodeChanges(changes: ByteArray) {
+        val buffer = FriendlyByteBuf(Unpooled.wrappedBuffer(changes))
+        val fields = buffer.readUnsignedByte().toInt()
+        if (fields and VELOCITY != 0) {
+            rideVelocity.set(Vec3(dequantizeVelocity(buffer.readShort()), dequantizeVelocity(buffer.readShort()), dequantizeVelocity(buffer.readShort())), true)
+        }
+        if (fields and STAMINA != 0) {
+            stamina.set(buffer.readUnsignedByte() / STAMINA_STEPS, true)
+        }
+        if (fields and EXTRA != 0) {
+            // Subclasses decode the base fields first, so they're given back the values that are already set.
+            val extra = buffer.readByteArray()
+            val full = FriendlyByteBuf(Unpooled.buffer(BASE_ENCODED_SIZE + extra.size))
+            try {
+                full.writeVec3(rideVelocity.get())
+                full.writeFloat(stamina.get())
+                full.writeBytes(extra)
+                decode(full)
+            } finally {
+                full.release()
+            }
+            encodedExtra = extra
+        }
+    }
+
+    private fun changedBaseFields(previous: RidingBehaviourState): Int {
+        var fields = 0
+        val velocity = rideVelocity.get()
+        val previousVelocity = previous.rideVelocity.get()
+        if (abs(velocity.x - previousVelocity.x) > VELOCITY_TOLERANCE ||
+            abs(velocity.y - previousVelocity.y) > VELOCITY_TOLERANCE ||
+            abs(velocity.z - previousVelocity.z) > VELOCITY_TOLERANCE
+        ) {
+            fields = fields or VELOCITY
+        }
+        if (quantizeStamina(stamina.get()) != quantizeStamina(previous.stamina.get())) {
+            fields = fields or STAMINA
+        }
+        return fields
+    }
+
+    /** The bytes that subclasses add to [encode]. */
+    private fun encodeExtra(): ByteArray {
+        val buffer = FriendlyByteBuf(Unpooled.buffer())
+        try {
+            encode(buffer)
+            return ByteArray(buffer.readableBytes() - BASE_ENCODED_SIZE).also { buffer.getBytes(BASE_ENCODED_SIZE, it) }
+        } finally {
+            buffer.release()
+        }
+    }
+
+    companion object {
+        /** How many ticks the driver goes between sending the whole state, in case the other side missed something. */
+        const val FULL_SYNC_TICKS = 100
+
+        private const val VELOCITY = 1
+        private const val STAMINA = 1 shl 1
+        private const val EXTRA = 1 shl 2
+
+        /** The size of what the base [encode] writes: a Vec3 of doubles and a float. */
+        private const val BASE_ENCODED_SIZE = 3 * Double.SIZE_BYTES + Float.SIZE_BYTES
+
+        /** Velocity is sent in 1/1024ths of a block per tick, which covers up to about 32 blocks per tick either way. */
+        private const val VELOCITY_SCALE = 1024.0
+        private const val VELOCITY_TOLERANCE = 4 / VELOCITY_SCALE
+        private const val STAMINA_STEPS = 255F
+
+        private fun quantizeVelocity(value: Double) = Math.round(value * VELOCITY_SCALE).coerceIn(Short.MIN_VALUE.toLong(), Short.MAX_VALUE.toLong()).toInt()
+        private fun dequantizeVelocity(value: Short) = value / VELOCITY_SCALE
+        private fun quantizeStamina(value: Float) = Math.round(value.coerceIn(0F, 1F) * STAMINA_STEPS)
     }
 }
 
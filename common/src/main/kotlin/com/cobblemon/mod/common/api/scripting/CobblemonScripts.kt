@@ -15,6 +15,7 @@ import com.cobblemon.mod.common.CobblemonNetwork.sendPacket
 import com.cobblemon.mod.common.api.data.DataRegistry
 import com.cobblemon.mod.common.api.molang.ExpressionLike
 import com.cobblemon.mod.common.api.reactive.SimpleObservable
+import com.cobblemon.mod.common.net.messages.client.data.DataRegistrySyncPacket
 import com.cobblemon.mod.common.net.messages.client.data.ScriptRegistrySyncPacket
 import com.cobblemon.mod.common.util.asExpressionLike
 import com.cobblemon.mod.common.util.cobblemonResource
@@ -61,7 +62,7 @@ object CobblemonScripts : DataRegistry {
 
 
     override fun sync(player: ServerPlayer) {
-        player.sendPacket(ScriptRegistrySyncPacket(clientScripts.entries))
+        player.sendPacket(DataRegistrySyncPacket.shared(this) { ScriptRegistrySyncPacket(clientScripts.entries) })
     }
 
     @JvmStatic
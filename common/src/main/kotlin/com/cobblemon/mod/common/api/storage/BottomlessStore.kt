@@ -42,6 +42,10 @@ open class BottomlessStore(override val uuid: UUID) : PokemonStore<BottomlessPos
     override fun getObservingPlayers() = emptySet<ServerPlayer>()
     override fun sendTo(player: ServerPlayer) {}
 
+    override fun forEachPosition(action: (BottomlessPosition, Pokemon) -> Unit) {
+        pokemon.forEachIndexed { index, pokemon -> action(BottomlessPosition(index), pokemon) }
+    }
+
     override fun initialize() {
         pokemon.forEachIndexed { index, pokemon ->
             pokemon.storeCoordinates.set(StoreCoordinates(this, BottomlessPosition(index)))
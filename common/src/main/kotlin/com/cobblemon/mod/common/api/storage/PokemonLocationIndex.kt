@@ -0,0 +1,91 @@
+/*
+ * Copyright (C) 2023 Cobblemon Contributors
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.cobblemon.mod.common.api.storage
+
+import com.cobblemon.mod.common.api.storage.factory.FileBackedPokemonStoreFactory
+import com.cobblemon.mod.common.pokemon.Pokemon
+import java.util.UUID
+import java.util.concurrent.ConcurrentHashMap
+
+/**
+ * A server-wide index of where each Pokémon is stored, so that a Pokémon can be found from its UUID alone without
+ * loading and searching every store. Only stores that have been passed to [track] are followed, which is done by
+ * [FileBackedPokemonStoreFactory] for every store it loads. Temporary stores, such as the level-adjusted copies of a
+ * party that a battle uses, are never tracked and so never overwrite the real location of a Pokémon.
+ *
+ * Entries are kept up to date as Pokémon are placed in and removed from tracked stores, and stay behind after a store
+ * is unloaded since that's exactly when the index saves the most work. Anything that changed on disk without going
+ * through a tracked store can leave an entry out of date, so an entry is only ever a hint: [PokemonStoreManager.findPokemon]
+ * checks it against the store and drops it if it turns out to be wrong.
+ *
+ * The index starts out empty on each server start. Stores fill it in as they load, and [rebuild] can be used to fill
+ * it in from everything on disk up front.
+ *
+ * @since October 19th, 2026
+ */
+class PokemonLocationIndex {
+    /** Where a Pokémon was last placed. */
+    data class Location(
+        val storeClass: Class<out PokemonStore<*>>,
+        val storeUUID: UUID,
+        val position: StorePosition
+    ) {
+        fun isIn(store: PokemonStore<*>) = storeUUID == store.uuid && storeClass == store::class.java
+    }
+
+    private val locations = ConcurrentHashMap<UUID, Location>()
+
+    /** The number of Pokémon that currently have a location. */
+    val size: Int
+        get() = locations.size
+
+    operator fun get(pokemonUUID: UUID): Location? = locations[pokemonUUID]
+
+    /** Starts following the given store. This must happen before the store is initialized to pick up its contents. */
+    fun track(store: PokemonStore<*>) {
+        store.isLocationIndexed = true
+    }
+
+    /** Records a Pokémon as being at the given coordinates, if the store is being tracked. */
+    fun onPlaced(pokemon: Pokemon, coordinates: StoreCoordinates<*>) {
+        if (coordinates.store.isLocationIndexed) {
+            locations[pokemon.uuid] = Location(coordinates.store::class.java, coordinates.store.uuid, coordinates.position)
+        }
+    }
+
+    /** Forgets where a Pokémon is, so long as it's still recorded as being in the store it's been removed from. */
+    fun onRemoved(pokemonUUID: UUID, store: PokemonStore<*>) {
+        locations.computeIfPresent(pokemonUUID) { _, location -> location.takeUnless { it.isIn(store) } }
+    }
+
+    /** Drops the given entry if it hasn't been replaced in the meantime. */
+    fun invalidate(pokemonUUID: UUID, location: Location) {
+        locations.remove(pokemonUUID, location)
+    }
+
+    /**
+     * Records the contents of stores that have been loaded from disk without being initialized, returning how many
+     * Pokémon were found. Locations that are already known came from a tracked store and so are at least as recent
+     * as whatever was on disk, so they are kept. This is safe to run off the server thread.
+     */
+    fun rebuild(stores: Sequence<PokemonStore<*>>): Int {
+        var found = 0
+        for (store in stores) {
+            store.forEachPosition { position, pokemon ->
+                locations.putIfAbsent(pokemon.uuid, Location(store::class.java, store.uuid, position))
+                found++
+            }
+        }
+        return found
+    }
+
+    fun clear() {
+        locations.clear()
+    }
+}
@@ -9,7 +9,7 @@
 package com.cobblemon.mod.common.api.storage
 
 import com.cobblemon.mod.common.Cobblemon
-import com.cobblemon.mod.common.CobblemonNetwork.sendPacket
+import com.cobblemon.mod.common.CobblemonNetwork
 import com.cobblemon.mod.common.api.net.NetworkPacket
 import com.cobblemon.mod.common.api.reactive.Observable
 import com.cobblemon.mod.common.api.storage.factory.FileBackedPokemonStoreFactory
@@ -38,6 +38,25 @@ import net.minecraft.server.level.ServerPlayer
 abstract class PokemonStore<T : StorePosition> : Iterable<Pokemon> {
     /** The UUID of the store. The exact uniqueness requirements depend on the method used for saving. */
     abstract val uuid: UUID
+
+    /**
+     * Whether the server-wide [PokemonLocationIndex] follows this store. This is set for the stores that a
+     * [PokemonStoreFactory] persists, and never for temporary ones.
+     */
+    var isLocationIndexed = false
+        internal set
+
+    /**
+     * Called with each position whose contents may have changed, or with null for a change that isn't about any one
+     * position, such as a box being renamed. This is how a [FileBackedPokemonStoreFactory] knows what to journal.
+     */
+    var positionChangeListener: ((StorePosition?) -> Unit)? = null
+
+    /** Tells the [positionChangeListener], if there is one, that the given position may have changed. */
+    fun onPositionChanged(position: StorePosition?) {
+        positionChangeListener?.invoke(position)
+    }
+
     /** Gets the [Pokemon] at the given position. */
     abstract operator fun get(position: T): Pokemon?
     /** Gets the first empty position that a [Pokemon] might be put. */
@@ -70,7 +89,7 @@ abstract class PokemonStore<T : StorePosition> : Iterable<Pokemon> {
     abstract fun isValidPosition(position: T): Boolean
 
     /** Sends the given packet to all observing players. */
-    open fun sendPacketToObservers(packet: NetworkPacket<*>) = getObservingPlayers().forEach { it.sendPacket(packet) }
+    open fun sendPacketToObservers(packet: NetworkPacket<*>) = CobblemonNetwork.sendPacketToPlayers(getObservingPlayers(), packet)
 
     /** Adds the given [Pokemon] to the first available space. Returns false if there is no space. */
     open fun add(pokemon: Pokemon): Boolean {
@@ -108,6 +127,8 @@ abstract class PokemonStore<T : StorePosition> : Iterable<Pokemon> {
         setAtPosition(position2, pokemon1)
         pokemon1?.storeCoordinates?.set(StoreCoordinates(this, position2))
         pokemon2?.storeCoordinates?.set(StoreCoordinates(this, position1))
+        onPositionChanged(position1)
+        onPositionChanged(position2)
     }
 
     /**
@@ -146,11 +167,26 @@ abstract class PokemonStore<T : StorePosition> : Iterable<Pokemon> {
         pokemon.recall()
         pokemon.storeCoordinates.set(null)
         setAtPosition(currentPosition.position, null)
+        onPositionChanged(currentPosition.position)
+        if (isLocationIndexed) {
+            Cobblemon.storage.locations.onRemoved(pokemon.uuid, this)
+        }
         return true
     }
 
     operator fun get(uuid: UUID) = find { it.uuid == uuid }
 
+    /**
+     * Runs the given action for every occupied position in the store. Unlike [Pokemon.storeCoordinates], this works
+     * on a store that has been loaded but not initialized. The default only covers Pokémon with coordinates set.
+     */
+    open fun forEachPosition(action: (T, Pokemon) -> Unit) {
+        for (pokemon in this) {
+            val coordinates = pokemon.storeCoordinates.get()?.takeIf { it.store === this } ?: continue
+            action(coordinates.position as T, pokemon)
+        }
+    }
+
     open fun handleInvalidSpeciesNBT(nbt: CompoundTag) {
         Cobblemon.LOGGER.error("Failed to read unknown species: ${nbt.getString(DataKeys.POKEMON_SPECIES_IDENTIFIER)}")
     }
@@ -14,9 +14,11 @@ import com.cobblemon.mod.common.api.Priority
 import com.cobblemon.mod.common.api.storage.factory.PokemonStoreFactory
 import com.cobblemon.mod.common.api.storage.party.PartyStore
 import com.cobblemon.mod.common.api.storage.party.PlayerPartyStore
+import com.cobblemon.mod.common.api.storage.pc.PCBoxStreamer
 import com.cobblemon.mod.common.api.storage.pc.PCStore
 import com.cobblemon.mod.common.block.entity.PCBlockEntity
 import com.cobblemon.mod.common.net.messages.client.storage.party.SetPartyReferencePacket
+import com.cobblemon.mod.common.pokemon.Pokemon
 import java.util.UUID
 import net.minecraft.core.RegistryAccess
 import net.minecraft.server.level.ServerPlayer
@@ -33,6 +35,9 @@ import net.minecraft.server.level.ServerPlayer
 open class PokemonStoreManager {
     private val factories = PrioritizedList<PokemonStoreFactory>()
 
+    /** Where each Pokémon in a persisted store was last placed. See [findPokemon]. */
+    val locations = PokemonLocationIndex()
+
     open fun registerFactory(priority: Priority, factory: PokemonStoreFactory) {
         factories.add(priority, factory)
     }
@@ -42,8 +47,12 @@ open class PokemonStoreManager {
         factories.remove(factory)
     }
 
+    /** Gets every registered factory, highest priority first. */
+    fun getFactories(): List<PokemonStoreFactory> = factories.toList()
+
     open fun unregisterAll(registryAccess: RegistryAccess) {
         factories.toList().forEach { unregisterFactory(it, registryAccess) }
+        locations.clear()
     }
 
     open fun getParty(player: ServerPlayer) = getParty(player.uuid, player.registryAccess())
@@ -96,6 +105,23 @@ open class PokemonStoreManager {
         return null
     }
 
+    /**
+     * Finds the stored Pokémon with the given UUID, wherever it is, using [locations] to go straight to the store and
+     * position it was last placed in. The store is loaded if it needs to be. Returns null if the Pokémon's location is
+     * unknown or if the index turned out to be out of date, in which case the stale entry is dropped.
+     */
+    @Suppress("UNCHECKED_CAST")
+    open fun findPokemon(pokemonID: UUID, registryAccess: RegistryAccess): Pokemon? {
+        val location = locations[pokemonID] ?: return null
+        val store = getCustomStore(location.storeClass as Class<PokemonStore<StorePosition>>, location.storeUUID, registryAccess)
+        // Falling back to searching the store still beats searching every store if only the position is out of date.
+        val pokemon = store?.get(location.position)?.takeIf { it.uuid == pokemonID } ?: store?.get(pokemonID)
+        if (pokemon == null) {
+            locations.invalidate(pokemonID, location)
+        }
+        return pokemon
+    }
+
     open fun onPlayerDataSync(player: ServerPlayer) {
         val parties = getParties(player.uuid, player.registryAccess())
         parties.forEach { party -> party.sendTo(player) }
@@ -104,6 +130,7 @@ open class PokemonStoreManager {
     }
 
     open fun onPlayerDisconnect(player: ServerPlayer) {
+        PCBoxStreamer.stop(player.uuid)
         for (factory in factories) {
             factory.onPlayerDisconnect(player)
         }
@@ -0,0 +1,293 @@
+/*
+ * Copyright (C) 2023 Cobblemon Contributors
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.cobblemon.mod.common.api.storage
+
+import com.cobblemon.mod.common.Cobblemon.LOGGER
+import com.cobblemon.mod.common.Cobblemon.MODID
+import com.cobblemon.mod.common.api.storage.adapter.flatfile.JSONStoreAdapter
+import com.cobblemon.mod.common.api.storage.adapter.flatfile.NBTStoreAdapter
+import com.cobblemon.mod.common.api.storage.adapter.flatfile.OneToOneFileStoreAdapter
+import com.cobblemon.mod.common.api.storage.party.PlayerPartyStore
+import com.cobblemon.mod.common.api.storage.pc.PCStore
+import com.cobblemon.mod.common.api.storage.player.adapter.DexDataNbtBackend
+import com.cobblemon.mod.common.api.storage.player.adapter.FileBasedPlayerDataStoreBackend
+import com.cobblemon.mod.common.api.storage.player.adapter.PlayerDataJsonBackend
+import com.cobblemon.mod.common.datafixer.CobblemonSchemas
+import com.cobblemon.mod.common.pokemon.Pokemon
+import com.cobblemon.mod.common.util.DataKeys
+import com.google.common.util.concurrent.ThreadFactoryBuilder
+import com.google.gson.JsonElement
+import com.google.gson.JsonObject
+import java.io.File
+import java.nio.file.Path
+import java.nio.file.Paths
+import java.util.UUID
+import java.util.concurrent.Callable
+import java.util.concurrent.ConcurrentLinkedQueue
+import java.util.concurrent.Executors
+import java.util.concurrent.atomic.AtomicInteger
+import net.minecraft.core.RegistryAccess
+import net.minecraft.nbt.CompoundTag
+import net.minecraft.nbt.ListTag
+import net.minecraft.nbt.Tag
+
+/**
+ * Checks every party, PC and player data file of a world that uses the nbt or json storage format, so that problems
+ * can be found and fixed before a player joins and the file has to be loaded on the server thread.
+ *
+ * Each file is read on a pool of worker threads and checked for:
+ * - Not being readable at all, which on load would mean falling back to the .old file or losing the data.
+ * - Pokémon that fail to decode with [Pokemon.CODEC], which on load would be dropped from the store.
+ * - Pokémon saved before the current [CobblemonSchemas.DATA_VERSION], which need the data fixer on every load.
+ * - Being far larger than most files of the same kind, which usually means something has been bloating it.
+ *
+ * If [upgrade] is set, store files holding outdated Pokémon are loaded and saved again so that they are current.
+ * Each upgrade is handed to [runUpgrade], which gives whether it ran. In game this skips stores that are in memory,
+ * since they'd be overwritten by that copy anyway, and runs the rest alongside the store factory's saves.
+ *
+ * Without a [registryAccess] the files are only read, not decoded, which is what [main] does when run outside of
+ * the game against a world folder. Checking Pokémon and player data properly needs a running server.
+ *
+ * @since October 19th, 2026
+ */
+class StoreIntegrityScanner(
+    val pokemonAdapter: OneToOneFileStoreAdapter<*>,
+    val playerData: List<PlayerDataFolder>,
+    val registryAccess: RegistryAccess?,
+    val upgrade: Boolean = false,
+    val runUpgrade: (Class<out PokemonStore<*>>, UUID, () -> Unit) -> Boolean = { _, _, upgrade -> upgrade(); true },
+    val threads: Int = Runtime.getRuntime().availableProcessors().coerceIn(1, 4)
+) {
+    enum class ProblemType {
+        UNREADABLE,
+        UNDECODABLE_POKEMON,
+        UNDECODABLE_PLAYER_DATA,
+        OVERSIZED,
+        UPGRADE_FAILED
+    }
+
+    class Problem(val type: ProblemType, val file: File, val detail: String) {
+        override fun toString() = "$type ${file.path}: $detail"
+    }
+
+    class Report {
+        val scannedFiles = AtomicInteger()
+        val scannedPokemon = AtomicInteger()
+        val outdatedPokemon = AtomicInteger()
+        val outdatedFiles = AtomicInteger()
+        val upgradedFiles = AtomicInteger()
+        val problems = ConcurrentLinkedQueue<Problem>()
+
+        fun problemCount(type: ProblemType) = problems.count { it.type == type }
+    }
+
+    /** A folder of player data files, and the backend to decode them with if they're to be decoded. */
+    class PlayerDataFolder(val folder: File, val extension: String, val backend: FileBasedPlayerDataStoreBackend<*>?)
+
+    private class Target(val kind: String, val file: File, val check: (File, Report) -> Unit)
+
+    /** Scans everything, blocking until it's done. */
+    fun scan(): Report {
+        val report = Report()
+        val targets = mutableListOf<Target>()
+        for (storeClass in STORE_CLASSES) {
+            for (uuid in pokemonAdapter.getStoredUUIDs(storeClass)) {
+                targets.add(Target(storeClass.simpleName, pokemonAdapter.getFile(storeClass, uuid)) { file, report -> checkStore(file, storeClass, uuid, report) })
+            }
+        }
+        for (folder in playerData) {
+            val suffix = ".${folder.extension}"
+            folder.folder.walk()
+                .filter { it.isFile && it.name.endsWith(suffix) }
+                .forEach { targets.add(Target(folder.folder.name, it) { file, report -> checkPlayerData(file, folder.backend, report) }) }
+        }
+
+        val executor = Executors.newFixedThreadPool(
+            threads,
+            ThreadFactoryBuilder()
+                .setNameFormat("$MODID Store Scan Worker %d")
+                .setDaemon(true)
+                .setPriority(1)
+                .build()
+        )
+        try {
+            executor.invokeAll(targets.map { target ->
+                Callable {
+                    report.scannedFiles.incrementAndGet()
+                    try {
+                        target.check(target.file, report)
+                    } catch (e: Exception) {
+                        report.problems.add(Problem(ProblemType.UNREADABLE, target.file, e.message ?: e::class.java.simpleName))
+                    }
+                }
+            }).forEach { it.get() }
+        } finally {
+            executor.shutdown()
+        }
+
+        for ((kind, files) in targets.groupBy { it.kind }) {
+            val sizes = files.map { it.file.length() }.sorted()
+            val limit = maxOf(sizes[sizes.size / 2] * OVERSIZED_FACTOR, OVERSIZED_MINIMUM_BYTES)
+            files.filter { it.file.length() > limit }.forEach {
+                report.problems.add(Problem(ProblemType.OVERSIZED, it.file, "${it.file.length()} bytes, most $kind files are ${sizes[sizes.size / 2]}"))
+            }
+        }
+        return report
+    }
+
+    private fun checkStore(file: File, storeClass: Class<out PokemonStore<*>>, uuid: UUID, report: Report) {
+        var outdated = 0
+        when (pokemonAdapter) {
+            is NBTStoreAdapter -> forEachPokemon(pokemonAdapter.read(file)) { nbt ->
+                if (nbt.getInt(CobblemonSchemas.VERSION_KEY) < CobblemonSchemas.DATA_VERSION) {
+                    outdated++
+                }
+                val pokemonID = if (nbt.hasUUID(DataKeys.POKEMON_UUID)) nbt.getUUID(DataKeys.POKEMON_UUID).toString() else "?"
+                checkPokemon(file, pokemonID, report) { Pokemon.loadFromNBT(it, nbt) }
+            }
+            is JSONStoreAdapter -> forEachPokemon(pokemonAdapter.read(file)) { json ->
+                if ((json.get(CobblemonSchemas.VERSION_KEY)?.asInt ?: 0) < CobblemonSchemas.DATA_VERSION) {
+                    outdated++
+                }
+                checkPokemon(file, json.get(DataKeys.POKEMON_UUID)?.toString() ?: "?", report) { Pokemon.loadFromJSON(it, json) }
+            }
+            else -> throw IllegalArgumentException("Can't scan files from ${pokemonAdapter::class.java.simpleName}")
+        }
+        if (outdated == 0) {
+            return
+        }
+        report.outdatedPokemon.addAndGet(outdated)
+        report.outdatedFiles.incrementAndGet()
+        if (upgrade && registryAccess != null) {
+            try {
+                if (runUpgrade(storeClass, uuid) { upgradeStore(storeClass, uuid, pokemonAdapter, registryAccess) }) {
+                    report.upgradedFiles.incrementAndGet()
+                }
+            } catch (e: Exception) {
+                report.problems.add(Problem(ProblemType.UPGRADE_FAILED, file, e.message ?: e::class.java.simpleName))
+            }
+        }
+    }
+
+    private fun <S> upgradeStore(storeClass: Class<out PokemonStore<*>>, uuid: UUID, adapter: OneToOneFileStoreAdapter<S>, registryAccess: RegistryAccess) {
+        val store = adapter.load(adapter.getFile(storeClass, uuid), storeClass as Class<PokemonStore<StorePosition>>, uuid, registryAccess)
+            ?: throw IllegalStateException("Could not be loaded")
+        adapter.save(storeClass, uuid, adapter.serialize(store, registryAccess))
+    }
+
+    private fun checkPokemon(file: File, pokemonID: String, report: Report, decode: (RegistryAccess) -> Pokemon) {
+        report.scannedPokemon.incrementAndGet()
+        val registryAccess = registryAccess ?: return
+        try {
+            decode(registryAccess)
+        } catch (e: Exception) {
+            report.problems.add(Problem(ProblemType.UNDECODABLE_POKEMON, file, "$pokemonID: ${e.message}"))
+        }
+    }
+
+    private fun checkPlayerData(file: File, backend: FileBasedPlayerDataStoreBackend<*>?, report: Report) {
+        if (file.length() == 0L) {
+            report.problems.add(Problem(ProblemType.UNREADABLE, file, "Empty file"))
+            return
+        }
+        val uuid = runCatching { UUID.fromString(file.name.substringBefore('.')) }.getOrNull() ?: return
+        backend ?: return
+        try {
+            backend.decode(file, uuid)
+        } catch (e: Exception) {
+            report.problems.add(Problem(ProblemType.UNDECODABLE_PLAYER_DATA, file, e.message ?: e::class.java.simpleName))
+        }
+    }
+
+    /** Runs the action on every compound in the tree that looks like a saved Pokémon. */
+    private fun forEachPokemon(tag: Tag, action: (CompoundTag) -> Unit) {
+        when (tag) {
+            is CompoundTag -> {
+                if (tag.contains(DataKeys.POKEMON_SPECIES_IDENTIFIER)) {
+                    action(tag)
+                } else {
+                    tag.allKeys.forEach { forEachPokemon(tag.get(it)!!, action) }
+                }
+            }
+            is ListTag -> tag.forEach { forEachPokemon(it, action) }
+        }
+    }
+
+    private fun forEachPokemon(element: JsonElement, action: (JsonObject) -> Unit) {
+        when {
+            element.isJsonObject -> {
+                val json = element.asJsonObject
+                if (json.has(DataKeys.POKEMON_SPECIES_IDENTIFIER)) {
+                    action(json)
+                } else {
+                    json.entrySet().forEach { forEachPokemon(it.value, action) }
+                }
+            }
+            element.isJsonArray -> element.asJsonArray.forEach { forEachPokemon(it, action) }
+        }
+    }
+
+    companion object {
+        val STORE_CLASSES = listOf(PlayerPartyStore::class.java, PCStore::class.java)
+        /** How many times the typical size of its kind a file must be to count as oversized. */
+        const val OVERSIZED_FACTOR = 8L
+        /** Files smaller than this are never counted as oversized, however small the typical file is. */
+        const val OVERSIZED_MINIMUM_BYTES = 256L * 1024
+        /** Where [PlayerDataJsonBackend] and [DexDataNbtBackend] keep their files, relative to the world folder. */
+        const val GENERAL_PLAYER_DATA_FOLDER = "cobblemonplayerdata"
+        const val POKEDEX_FOLDER = "pokedex"
+
+        /**
+         * Creates a scanner for a world folder, laid out the way Cobblemon lays out the given storage format, which
+         * must be nbt or json.
+         */
+        fun forWorld(
+            worldFolder: Path,
+            storageFormat: String,
+            registryAccess: RegistryAccess?,
+            upgrade: Boolean = false,
+            compressed: Boolean = false,
+            runUpgrade: (Class<out PokemonStore<*>>, UUID, () -> Unit) -> Boolean = { _, _, upgrade -> upgrade(); true }
+        ): StoreIntegrityScanner {
+            val pokemonRoot = worldFolder.resolve("pokemon").toFile().absolutePath
+            val adapter = when (storageFormat) {
+                "nbt" -> NBTStoreAdapter(pokemonRoot, useNestedFolders = true, folderPerClass = true, compressed = compressed)
+                "json" -> JSONStoreAdapter(pokemonRoot, useNestedFolders = true, folderPerClass = true, compressed = compressed)
+                else -> throw IllegalArgumentException("Only the nbt and json storage formats can be scanned, not $storageFormat")
+            }
+            // The backends are only made when decoding, since they can't be made without the game running.
+            val decoding = registryAccess != null
+            val playerData = listOf(
+                PlayerDataFolder(worldFolder.resolve(GENERAL_PLAYER_DATA_FOLDER).toFile(), "json", if (decoding) PlayerDataJsonBackend().also { it.savePath = worldFolder } else null),
+                PlayerDataFolder(worldFolder.resolve(POKEDEX_FOLDER).toFile(), "nbt", if (decoding) DexDataNbtBackend().also { it.savePath = worldFolder } else null)
+            )
+            return StoreIntegrityScanner(adapter, playerData, registryAccess, upgrade, runUpgrade)
+        }
+
+        /**
+         * Scans a world folder without starting the game: `StoreIntegrityScanner <world folder> [nbt|json]`. This can
+         * only find unreadable and oversized files, since decoding Pokémon needs the game's registries.
+         */
+        @JvmStatic
+        fun main(args: Array<String>) {
+            if (args.isEmpty()) {
+                println("Usage: StoreIntegrityScanner <world folder> [nbt|json]")
+                return
+            }
+            val report = forWorld(Paths.get(args[0]), args.getOrElse(1) { "nbt" }, registryAccess = null).scan()
+            report.problems.forEach(::println)
+            println("Scanned ${report.scannedFiles} files, ${report.outdatedFiles} with ${report.outdatedPokemon} outdated Pokémon, ${report.problems.size} problems.")
+        }
+
+        internal fun log(report: Report) {
+            report.problems.forEach { LOGGER.warn("Store scan: $it") }
+            LOGGER.info("Store scan finished: ${report.scannedFiles} files, ${report.scannedPokemon} Pokémon, ${report.outdatedFiles} files with ${report.outdatedPokemon} outdated Pokémon, ${report.upgradedFiles} upgraded, ${report.problems.size} problems.")
+        }
+    }
+}
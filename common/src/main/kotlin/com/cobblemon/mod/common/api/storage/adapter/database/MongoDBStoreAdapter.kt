@@ -94,6 +94,12 @@ open class MongoDBStoreAdapter(
         return null
     }
 
+    override fun getStoredUUIDs(storeClass: Class<out PokemonStore<*>>): Collection<UUID> {
+        return getCollection(storeClass).distinct("uuid", String::class.java).mapNotNull {
+            runCatching { UUID.fromString(it) }.getOrNull()
+        }
+    }
+
     protected open fun createGson(): Gson = Gson()
 
     protected open fun getCollection(storeClass: Class<out PokemonStore<*>>): MongoCollection<Document> {
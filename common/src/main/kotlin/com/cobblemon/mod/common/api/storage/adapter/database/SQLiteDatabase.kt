@@ -0,0 +1,61 @@
+/*
+ * Copyright (C) 2023 Cobblemon Contributors
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.cobblemon.mod.common.api.storage.adapter.database
+
+import java.nio.file.Path
+import java.sql.Connection
+import java.sql.DriverManager
+
+/**
+ * A single-file embedded SQLite database shared between the Pokémon store adapter and the player data backends.
+ *
+ * SQLite only allows a single writer at a time, so all access goes through [use] or [transaction], which serialize
+ * access to the one underlying [Connection]. This is what lets the server thread load stores while the save
+ * executors write to the same file.
+ *
+ * @since October 19th, 2026
+ */
+class SQLiteDatabase(val file: Path) {
+    private val lazyConnection = lazy {
+        Class.forName("org.sqlite.JDBC")
+        file.parent?.toFile()?.mkdirs()
+        DriverManager.getConnection("jdbc:sqlite:${file.toAbsolutePath()}").also {
+            it.createStatement().use { statement ->
+                // WAL makes each commit a cheap append rather than a rewrite of the affected pages.
+                statement.execute("PRAGMA journal_mode=WAL")
+                statement.execute("PRAGMA synchronous=NORMAL")
+            }
+        }
+    }
+    private val connection: Connection by lazyConnection
+
+    /** Runs the given block with exclusive access to the connection. */
+    fun <T> use(block: (Connection) -> T): T = synchronized(this) { block(connection) }
+
+    /** Runs the given block inside a single transaction, rolling back if anything goes wrong. */
+    fun <T> transaction(block: (Connection) -> T): T = use { connection ->
+        connection.autoCommit = false
+        try {
+            val result = block(connection)
+            connection.commit()
+            result
+        } catch (e: Exception) {
+            connection.rollback()
+            throw e
+        } finally {
+            connection.autoCommit = true
+        }
+    }
+
+    fun close() = synchronized(this) {
+        if (lazyConnection.isInitialized()) {
+            connection.close()
+        }
+    }
+}
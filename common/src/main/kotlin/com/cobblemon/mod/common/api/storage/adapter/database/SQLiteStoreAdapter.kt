@@ -0,0 +1,286 @@
+/*
+ * Copyright (C) 2023 Cobblemon Contributors
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.cobblemon.mod.common.api.storage.adapter.database
+
+import com.cobblemon.mod.common.Cobblemon.LOGGER
+import com.cobblemon.mod.common.api.storage.PokemonStore
+import com.cobblemon.mod.common.api.storage.StorePosition
+import com.cobblemon.mod.common.api.storage.adapter.CobblemonAdapterParent
+import com.cobblemon.mod.common.api.storage.adapter.SerializedStore
+import com.cobblemon.mod.common.api.storage.adapter.flatfile.FileStoreAdapter
+import com.cobblemon.mod.common.api.storage.adapter.flatfile.JSONStoreAdapter
+import com.cobblemon.mod.common.api.storage.adapter.flatfile.NBTStoreAdapter
+import com.cobblemon.mod.common.util.DataKeys
+import java.io.ByteArrayInputStream
+import java.io.ByteArrayOutputStream
+import java.io.DataInputStream
+import java.io.DataOutputStream
+import java.sql.Connection
+import java.sql.PreparedStatement
+import java.util.UUID
+import net.minecraft.core.RegistryAccess
+import net.minecraft.nbt.CompoundTag
+import net.minecraft.nbt.NbtAccounter
+import net.minecraft.nbt.NbtIo
+import net.minecraft.nbt.Tag
+import net.minecraft.resources.ResourceLocation
+
+/**
+ * A [FileStoreAdapter] for an embedded SQLite database. Each store is split into one NBT blob per PC box (plus one
+ * for everything that isn't a box, such as party slots and wallpapers), keyed by store UUID and box number. An
+ * autosave is written as a single transaction using batched prepared statements.
+ *
+ * Alongside the blobs, every stored Pokémon gets a row in an indexed table of species and owning store so that
+ * admin tooling can answer questions like "who has a Mew" through [findPokemon] without deserializing any store.
+ *
+ * Stores that are not yet in the database are migrated from the flat file folder on first load, in the same
+ * way that [MongoDBStoreAdapter] does.
+ *
+ * @property database The [SQLiteDatabase] to read and write from.
+ * @property legacyFolder The folder that NBT or JSON flat file stores would be found in, for migration.
+ *
+ * @since October 19th, 2026
+ */
+open class SQLiteStoreAdapter(
+    protected val database: SQLiteDatabase,
+    protected val legacyFolder: String
+) : CobblemonAdapterParent<CompoundTag>(), FileStoreAdapter<CompoundTag> {
+    protected val nbtAdapter by lazy { NBTStoreAdapter(legacyFolder, useNestedFolders = true, folderPerClass = true) }
+    protected val jsonAdapter by lazy { JSONStoreAdapter(legacyFolder, useNestedFolders = true, folderPerClass = true) }
+
+    /** A row of the Pokémon index table. */
+    data class IndexedPokemon(
+        val pokemonUUID: UUID,
+        val storeUUID: UUID,
+        val storeType: String,
+        val box: Int,
+        val slot: Int,
+        val species: ResourceLocation
+    )
+
+    init {
+        database.use { connection ->
+            connection.createStatement().use {
+                it.execute("CREATE TABLE IF NOT EXISTS store_boxes (store_uuid TEXT NOT NULL, store_type TEXT NOT NULL, box INTEGER NOT NULL, data BLOB NOT NULL, PRIMARY KEY (store_uuid, store_type, box))")
+                it.execute("CREATE TABLE IF NOT EXISTS store_pokemon (store_uuid TEXT NOT NULL, store_type TEXT NOT NULL, box INTEGER NOT NULL, slot INTEGER NOT NULL, pokemon_uuid TEXT NOT NULL, species TEXT NOT NULL, PRIMARY KEY (store_uuid, store_type, box, slot))")
+                it.execute("CREATE INDEX IF NOT EXISTS store_pokemon_species ON store_pokemon (species)")
+                it.execute("CREATE INDEX IF NOT EXISTS store_pokemon_uuid ON store_pokemon (pokemon_uuid)")
+            }
+        }
+    }
+
+    override fun <E : StorePosition, T : PokemonStore<E>> serialize(store: T, registryAccess: RegistryAccess) = store.saveToNBT(CompoundTag(), registryAccess)
+
+    override fun save(storeClass: Class<out PokemonStore<*>>, uuid: UUID, serialized: CompoundTag) {
+        saveAll(listOf(SerializedStore(storeClass, uuid, serialized)))
+    }
+
+    override fun saveAll(serializedStores: Collection<SerializedStore<CompoundTag>>, onSaved: (SerializedStore<CompoundTag>) -> Unit) {
+        if (serializedStores.isEmpty()) {
+            return
+        }
+        database.transaction { connection ->
+            val deleteBoxes = connection.prepareStatement("DELETE FROM store_boxes WHERE store_uuid = ? AND store_type = ?")
+            val deletePokemon = connection.prepareStatement("DELETE FROM store_pokemon WHERE store_uuid = ? AND store_type = ?")
+            val insertBox = connection.prepareStatement("INSERT INTO store_boxes (store_uuid, store_type, box, data) VALUES (?, ?, ?, ?)")
+            val insertPokemon = connection.prepareStatement("INSERT INTO store_pokemon (store_uuid, store_type, box, slot, pokemon_uuid, species) VALUES (?, ?, ?, ?, ?, ?)")
+            val statements = listOf(deleteBoxes, deletePokemon, insertBox, insertPokemon)
+            try {
+                for (serialized in serializedStores) {
+                    val storeUUID = serialized.uuid.toString()
+                    val storeType = getStoreType(serialized.storeClass)
+                    for (delete in listOf(deleteBoxes, deletePokemon)) {
+                        delete.setString(1, storeUUID)
+                        delete.setString(2, storeType)
+                        delete.addBatch()
+                    }
+
+                    splitIntoBoxes(serialized.serializedForm).forEach { (box, nbt) ->
+                        insertBox.setString(1, storeUUID)
+                        insertBox.setString(2, storeType)
+                        insertBox.setInt(3, box)
+                        insertBox.setBytes(4, writeBlob(nbt))
+                        insertBox.addBatch()
+
+                        forEachSlot(nbt) { slot, pokemonNBT ->
+                            if (!pokemonNBT.hasUUID(DataKeys.POKEMON_UUID)) {
+                                return@forEachSlot
+                            }
+                            insertPokemon.setString(1, storeUUID)
+                            insertPokemon.setString(2, storeType)
+                            insertPokemon.setInt(3, box)
+                            insertPokemon.setInt(4, slot)
+                            insertPokemon.setString(5, pokemonNBT.getUUID(DataKeys.POKEMON_UUID).toString())
+                            insertPokemon.setString(6, pokemonNBT.getString(DataKeys.POKEMON_SPECIES_IDENTIFIER))
+                            insertPokemon.addBatch()
+                        }
+                    }
+                }
+
+                // Deletes must all land before the inserts for the same keys.
+                deleteBoxes.executeBatch()
+                deletePokemon.executeBatch()
+                insertBox.executeBatch()
+                insertPokemon.executeBatch()
+            } finally {
+                statements.forEach { it.close() }
+            }
+        }
+        // They're all written in the one transaction, so none of them are safe until it's committed.
+        serializedStores.forEach(onSaved)
+    }
+
+    override fun <E : StorePosition, T : PokemonStore<E>> provide(storeClass: Class<T>, uuid: UUID, registryAccess: RegistryAccess): T? {
+        val nbt = readStore(storeClass, uuid)
+        if (nbt != null) {
+            val store = try {
+                storeClass.getConstructor(UUID::class.java, UUID::class.java).newInstance(uuid, uuid)
+            } catch (exception: NoSuchMethodException) {
+                storeClass.getConstructor(UUID::class.java).newInstance(uuid)
+            }
+            return try {
+                store.loadFromNBT(nbt, registryAccess)
+                store
+            } catch (e: Exception) {
+                LOGGER.error("Failed to load ${storeClass.simpleName} ($uuid) from SQLite", e)
+                null
+            }
+        }
+
+        // Fall back to flat files, moving the store into the database if found
+        val legacyStore = nbtAdapter.provide(storeClass, uuid, registryAccess)
+            ?: jsonAdapter.provide(storeClass, uuid, registryAccess)
+            ?: return null
+        save(storeClass, uuid, serialize(legacyStore, registryAccess))
+        return legacyStore
+    }
+
+    override fun getStoredUUIDs(storeClass: Class<out PokemonStore<*>>): Collection<UUID> {
+        return database.use { connection ->
+            connection.prepareStatement("SELECT DISTINCT store_uuid FROM store_boxes WHERE store_type = ?").use { statement ->
+                statement.setString(1, getStoreType(storeClass))
+                statement.executeQuery().use { results ->
+                    val uuids = mutableListOf<UUID>()
+                    while (results.next()) {
+                        uuids.add(UUID.fromString(results.getString(1)))
+                    }
+                    uuids
+                }
+            }
+        }
+    }
+
+    /** Finds every stored Pokémon of the given species, reading only the index table. */
+    fun findPokemon(species: ResourceLocation): List<IndexedPokemon> = queryIndex("species = ?") { it.setString(1, species.toString()) }
+
+    /** Finds where the Pokémon with the given UUID is stored, reading only the index table. */
+    fun findPokemon(pokemonUUID: UUID): IndexedPokemon? = queryIndex("pokemon_uuid = ?") { it.setString(1, pokemonUUID.toString()) }.firstOrNull()
+
+    /** Lists every Pokémon in stores owned by the given UUID, reading only the index table. */
+    fun findPokemonOwnedBy(storeUUID: UUID): List<IndexedPokemon> = queryIndex("store_uuid = ?") { it.setString(1, storeUUID.toString()) }
+
+    protected fun queryIndex(where: String, parameters: (PreparedStatement) -> Unit): List<IndexedPokemon> {
+        return database.use { connection ->
+            connection.prepareStatement("SELECT store_uuid, store_type, box, slot, pokemon_uuid, species FROM store_pokemon WHERE $where").use { statement ->
+                parameters(statement)
+                statement.executeQuery().use { results ->
+                    val found = mutableListOf<IndexedPokemon>()
+                    while (results.next()) {
+                        found.add(
+                            IndexedPokemon(
+                                storeUUID = UUID.fromString(results.getString(1)),
+                                storeType = results.getString(2),
+                                box = results.getInt(3),
+                                slot = results.getInt(4),
+                                pokemonUUID = UUID.fromString(results.getString(5)),
+                                species = ResourceLocation.parse(results.getString(6))
+                            )
+                        )
+                    }
+                    found
+                }
+            }
+        }
+    }
+
+    protected fun readStore(storeClass: Class<out PokemonStore<*>>, uuid: UUID): CompoundTag? {
+        val boxes = database.use { connection -> readBoxes(connection, getStoreType(storeClass), uuid) }
+        if (boxes.isEmpty()) {
+            return null
+        }
+        val nbt = boxes[STORE_ROOT] ?: CompoundTag()
+        boxes.forEach { (box, boxNBT) ->
+            if (box != STORE_ROOT) {
+                nbt.put(DataKeys.STORE_BOX + box, boxNBT)
+            }
+        }
+        return nbt
+    }
+
+    private fun readBoxes(connection: Connection, storeType: String, uuid: UUID): Map<Int, CompoundTag> {
+        return connection.prepareStatement("SELECT box, data FROM store_boxes WHERE store_uuid = ? AND store_type = ?").use { statement ->
+            statement.setString(1, uuid.toString())
+            statement.setString(2, storeType)
+            statement.executeQuery().use { results ->
+                val boxes = mutableMapOf<Int, CompoundTag>()
+                while (results.next()) {
+                    boxes[results.getInt(1)] = readBlob(results.getBytes(2))
+                }
+                boxes
+            }
+        }
+    }
+
+    protected open fun getStoreType(storeClass: Class<out PokemonStore<*>>) = storeClass.simpleName.lowercase()
+
+    /**
+     * Splits the store NBT into the root compound and each of its box compounds. Stores without boxes, like parties,
+     * are left entirely in the root.
+     */
+    protected fun splitIntoBoxes(nbt: CompoundTag): Map<Int, CompoundTag> {
+        val root = CompoundTag()
+        val boxes = mutableMapOf(STORE_ROOT to root)
+        for (key in nbt.allKeys) {
+            val tag = nbt.get(key)!!
+            val box = BOX_KEY.matchEntire(key)?.groupValues?.get(1)?.toIntOrNull()
+            if (box != null && tag is CompoundTag) {
+                boxes[box] = tag
+            } else {
+                root.put(key, tag)
+            }
+        }
+        return boxes
+    }
+
+    protected fun forEachSlot(nbt: CompoundTag, action: (Int, CompoundTag) -> Unit) {
+        for (key in nbt.allKeys) {
+            val slot = SLOT_KEY.matchEntire(key)?.groupValues?.get(1)?.toIntOrNull() ?: continue
+            if (nbt.contains(key, Tag.TAG_COMPOUND.toInt())) {
+                action(slot, nbt.getCompound(key))
+            }
+        }
+    }
+
+    protected fun writeBlob(nbt: CompoundTag): ByteArray {
+        val bytes = ByteArrayOutputStream()
+        DataOutputStream(bytes).use { NbtIo.write(nbt, it) }
+        return bytes.toByteArray()
+    }
+
+    protected fun readBlob(bytes: ByteArray): CompoundTag {
+        return DataInputStream(ByteArrayInputStream(bytes)).use { NbtIo.read(it, NbtAccounter.unlimitedHeap()) }
+    }
+
+    companion object {
+        /** The box number used for the part of a store that isn't in any box. */
+        const val STORE_ROOT = -1
+        private val BOX_KEY = Regex("${DataKeys.STORE_BOX}(\\d+)")
+        private val SLOT_KEY = Regex("${DataKeys.STORE_SLOT}(\\d+)")
+    }
+}
@@ -11,6 +11,7 @@ package com.cobblemon.mod.common.api.storage.adapter.flatfile
 import com.cobblemon.mod.common.api.storage.PokemonStore
 import com.cobblemon.mod.common.api.storage.StorePosition
 import com.cobblemon.mod.common.api.storage.adapter.CobblemonAdapter
+import com.cobblemon.mod.common.api.storage.adapter.SerializedStore
 import java.util.UUID
 import net.minecraft.core.RegistryAccess
 
@@ -25,4 +26,14 @@ interface FileStoreAdapter<S> : CobblemonAdapter<S> {
     fun <E : StorePosition, T : PokemonStore<E>> serialize(store: T, registryAccess: RegistryAccess): S
     /** Writes the serialized form of a store into the appropriate file. This should be threadsafe. */
     fun save(storeClass: Class<out PokemonStore<*>>, uuid: UUID, serialized: S)
+    /**
+     * Writes a batch of serialized stores, such as a full autosave, calling [onSaved] for each store as soon as it's
+     * safely written. Adapters that can batch writes together should override this. This should be threadsafe.
+     */
+    fun saveAll(serializedStores: Collection<SerializedStore<S>>, onSaved: (SerializedStore<S>) -> Unit = {}) = serializedStores.forEach {
+        save(it.storeClass, it.uuid, it.serializedForm)
+        onSaved(it)
+    }
+    /** Lists the UUIDs of every saved store of the given class, for offline tooling. Adapters that can't list their stores return nothing. */
+    fun getStoredUUIDs(storeClass: Class<out PokemonStore<*>>): Collection<UUID> = emptyList()
 }
\ No newline at end of file
@@ -14,6 +14,7 @@ import com.cobblemon.mod.common.util.fromJson
 import com.google.gson.Gson
 import com.google.gson.GsonBuilder
 import com.google.gson.JsonObject
+import com.google.gson.stream.JsonWriter
 import java.io.BufferedReader
 import java.io.File
 import java.io.FileReader
@@ -25,6 +26,10 @@ import net.minecraft.core.RegistryAccess
  * A [FileStoreAdapter] for JSON files. This allows a [PokemonStore] to be serialized to a .json file. This is usually
  * slower and makes for a larger file per storage by several times compared to a [NBTStoreAdapter].
  *
+ * If [compressed] is true then files are written as compact JSON in the [StoreCompression] format instead, which
+ * gives up being able to open them in a text editor for a fraction of the size. Either kind of file can be read
+ * regardless of [compressed].
+ *
  * @author Hiroku
  * @since November 29th, 2021
  */
@@ -33,10 +38,16 @@ open class JSONStoreAdapter(
     useNestedFolders: Boolean,
     folderPerClass: Boolean,
     private val gson: Gson = GsonBuilder().setPrettyPrinting().disableHtmlEscaping().create(),
+    private val compressed: Boolean = false
 ) : OneToOneFileStoreAdapter<JsonObject>(rootFolder, useNestedFolders, folderPerClass, "json") {
     override fun <E : StorePosition, T : PokemonStore<E>> serialize(store: T, registryAccess: RegistryAccess) = store.saveToJSON(JsonObject(), registryAccess)
 
     override fun save(file: File, serialized: JsonObject) {
+        if (compressed) {
+            // A plain JsonWriter has no indentation, and pretty printing is wasted on a file that needs decompressing to read.
+            JsonWriter(StoreCompression.compress(file.outputStream().buffered()).writer()).use { gson.toJson(serialized, it) }
+            return
+        }
         val pw = PrintWriter(file)
         val json = gson.toJson(serialized)
         pw.write(json)
@@ -46,18 +57,22 @@ open class JSONStoreAdapter(
 
     override fun <E, T : PokemonStore<E>> load(file: File, storeClass: Class<out T>, uuid: UUID, registryAccess: RegistryAccess): T? {
         return try {
-            file.reader().use {
-                val json = gson.fromJson<JsonObject>(it)
-                val store = try {
-                    storeClass.getConstructor(UUID::class.java, UUID::class.java).newInstance(uuid, uuid)
-                } catch (exception: NoSuchMethodException) {
-                    storeClass.getConstructor(UUID::class.java).newInstance(uuid)
-                }
-                store.loadFromJSON(json, registryAccess)
-                store
+            val json = read(file)
+            val store = try {
+                storeClass.getConstructor(UUID::class.java, UUID::class.java).newInstance(uuid, uuid)
+            } catch (exception: NoSuchMethodException) {
+                storeClass.getConstructor(UUID::class.java).newInstance(uuid)
             }
+            store.loadFromJSON(json, registryAccess)
+            store
         } catch (e: Exception) {
             null
         }
     }
+
+    /** Reads the JSON from a store file in either format, without loading it into a store. */
+    fun read(file: File): JsonObject {
+        val reader = if (StoreCompression.isCompressed(file)) StoreCompression.decompress(file).inputStream().reader() else file.reader()
+        return reader.use { gson.fromJson<JsonObject>(it) }
+    }
 }
\ No newline at end of file
@@ -13,6 +13,9 @@ import com.cobblemon.mod.common.api.storage.StorePosition
 import net.minecraft.nbt.CompoundTag
 import net.minecraft.nbt.NbtAccounter
 import net.minecraft.nbt.NbtIo
+import java.io.ByteArrayInputStream
+import java.io.DataInputStream
+import java.io.DataOutputStream
 import java.io.File
 import java.util.*
 import net.minecraft.core.RegistryAccess
@@ -22,6 +25,9 @@ import net.minecraft.core.RegistryAccess
  * help of Minecraft's [NbtIo]. This is arguably the best persistence method for [PokemonStore]s and is absolutely
  * the most efficient [FileStoreAdapter].
  *
+ * Files are gzipped as usual for NBT unless [compressed] is true, in which case they are written in the smaller
+ * [StoreCompression] format. Either kind of file can be read regardless of [compressed].
+ *
  * @author Hiroku
  * @since November 30th, 2021
  */
@@ -29,9 +35,16 @@ open class NBTStoreAdapter(
     rootFolder: String,
     useNestedFolders: Boolean,
     folderPerClass: Boolean,
+    private val compressed: Boolean = false
 ) : OneToOneFileStoreAdapter<CompoundTag>(rootFolder, useNestedFolders, folderPerClass, "dat") {
     override fun <E : StorePosition, T : PokemonStore<E>> serialize(store: T, registryAccess: RegistryAccess) = store.saveToNBT(CompoundTag(), registryAccess)
-    override fun save(file: File, serialized: CompoundTag) = NbtIo.writeCompressed(serialized, file.toPath())
+    override fun save(file: File, serialized: CompoundTag) {
+        if (compressed) {
+            DataOutputStream(StoreCompression.compress(file.outputStream().buffered())).use { NbtIo.write(serialized, it) }
+        } else {
+            NbtIo.writeCompressed(serialized, file.toPath())
+        }
+    }
     override fun <E, T : PokemonStore<E>> load(file: File, storeClass: Class<out T>, uuid: UUID, registryAccess: RegistryAccess): T? {
         val store = try {
             storeClass.getConstructor(UUID::class.java, UUID::class.java).newInstance(uuid, uuid)
@@ -39,12 +52,20 @@ open class NBTStoreAdapter(
             storeClass.getConstructor(UUID::class.java).newInstance(uuid)
         }
         return try {
-            val nbt = NbtIo.readCompressed(file.toPath(), NbtAccounter.unlimitedHeap())
-            store.loadFromNBT(nbt, registryAccess)
+            store.loadFromNBT(read(file), registryAccess)
             store
         } catch (e: Exception) {
             e.printStackTrace()
             return null
         }
     }
+
+    /** Reads the NBT from a store file in either format, without loading it into a store. */
+    fun read(file: File): CompoundTag {
+        return if (StoreCompression.isCompressed(file)) {
+            NbtIo.read(DataInputStream(ByteArrayInputStream(StoreCompression.decompress(file))), NbtAccounter.unlimitedHeap())
+        } else {
+            NbtIo.readCompressed(file.toPath(), NbtAccounter.unlimitedHeap())
+        }
+    }
 }
\ No newline at end of file
@@ -9,11 +9,16 @@
 package com.cobblemon.mod.common.api.storage.adapter.flatfile
 
 import com.cobblemon.mod.common.Cobblemon.LOGGER
+import com.cobblemon.mod.common.Cobblemon.MODID
 import com.cobblemon.mod.common.api.storage.PokemonStore
 import com.cobblemon.mod.common.api.storage.StorePosition
 import com.cobblemon.mod.common.api.storage.adapter.CobblemonAdapterParent
+import com.cobblemon.mod.common.api.storage.adapter.SerializedStore
+import com.google.common.util.concurrent.ThreadFactoryBuilder
 import java.io.File
 import java.util.UUID
+import java.util.concurrent.Callable
+import java.util.concurrent.Executors
 import net.minecraft.core.RegistryAccess
 
 /**
@@ -54,6 +59,17 @@ abstract class OneToOneFileStoreAdapter<S>(
         return file
     }
 
+    override fun getStoredUUIDs(storeClass: Class<out PokemonStore<*>>): Collection<UUID> {
+        val className = storeClass.simpleName.lowercase()
+        val folder = File(if (folderPerClass) "$rootFolder/$className" else rootFolder)
+        val suffix = if (folderPerClass) ".$fileExtension" else "-$className.$fileExtension"
+        return folder.walk()
+            .maxDepth(if (useNestedFolders) 2 else 1)
+            .filter { it.isFile && it.name.endsWith(suffix) }
+            .mapNotNull { runCatching { UUID.fromString(it.name.removeSuffix(suffix)) }.getOrNull() }
+            .toSet()
+    }
+
     override fun save(storeClass: Class<out PokemonStore<*>>, uuid: UUID, serialized: S) {
         val file = getFile(storeClass, uuid)
         val tempFile = File(file.absolutePath + ".temp")
@@ -67,6 +83,18 @@ abstract class OneToOneFileStoreAdapter<S>(
         tempFile.delete()
     }
 
+    /**
+     * Writes each store on the [writeExecutor] pool, since every store is its own file. This still blocks until
+     * every file is written, so that a later save of the same store can never overtake this one.
+     */
+    override fun saveAll(serializedStores: Collection<SerializedStore<S>>, onSaved: (SerializedStore<S>) -> Unit) {
+        if (serializedStores.size <= 1) {
+            return super.saveAll(serializedStores, onSaved)
+        }
+        writeExecutor.invokeAll(serializedStores.map { Callable { save(it.storeClass, it.uuid, it.serializedForm); onSaved(it) } })
+            .forEach { it.get() }
+    }
+
     override fun <E : StorePosition, T : PokemonStore<E>> provide(storeClass: Class<T>, uuid: UUID, registryAccess: RegistryAccess): T? {
         val file = getFile(storeClass, uuid)
         val oldFile = File(file.absolutePath + ".old")
@@ -107,4 +135,16 @@ abstract class OneToOneFileStoreAdapter<S>(
             null
         }
     }
+
+    companion object {
+        /** Shared between adapters as they are only ever busy during an autosave. */
+        val writeExecutor = Executors.newFixedThreadPool(
+            Runtime.getRuntime().availableProcessors().coerceIn(1, 4),
+            ThreadFactoryBuilder()
+                .setNameFormat("$MODID Store Write Worker %d")
+                .setDaemon(true)
+                .setPriority(1)
+                .build()
+        )
+    }
 }
\ No newline at end of file
@@ -0,0 +1,105 @@
+/*
+ * Copyright (C) 2023 Cobblemon Contributors
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.cobblemon.mod.common.api.storage.adapter.flatfile
+
+import java.io.ByteArrayOutputStream
+import java.io.File
+import java.io.OutputStream
+import java.util.zip.Deflater
+import java.util.zip.DeflaterOutputStream
+import java.util.zip.Inflater
+
+/**
+ * The compressed file format that [NBTStoreAdapter] and [JSONStoreAdapter] write when compression is turned on. It's
+ * a short header followed by a deflate stream that was primed with a preset dictionary of the keys and values that
+ * make up most of a stored Pokémon. A PC file repeats those same few hundred bytes for every Pokémon in it, and
+ * priming the compressor with them means even the first Pokémon in a file compresses as well as the hundredth.
+ *
+ * Files written this way are recognised by their header, so the adapters can read them whether or not compression
+ * is currently turned on. That makes it safe to switch it on or off on an existing world.
+ *
+ * The dictionary must never change once files have been written with it, since it's needed to read them back. A new
+ * dictionary has to go in [DICTIONARIES] under a new id, with the old one kept for reading.
+ *
+ * @since October 19th, 2026
+ */
+object StoreCompression {
+    private val MAGIC = byteArrayOf('C'.code.toByte(), 'B'.code.toByte(), 'Z'.code.toByte())
+
+    /** The id of the dictionary new files are written with. */
+    const val CURRENT_DICTIONARY = 1
+
+    private val DICTIONARIES = mapOf(
+        // Ordered from least to most common, since deflate can reach the end of the dictionary most cheaply.
+        1 to listOf(
+            "PokemonEntityMock", "BoxCountLocked", "BoxCount", "BoxWallpaper", "BoxName", "cobblemon:textures/gui/pc/wallpaper/",
+            "Evolutions", "RideBoosts", "Potential Marks", "Marks", "ActiveMark", "CosmeticItem", "MinPerfectIVs",
+            "GmaxFactor", "DmaxLevel", "TeraType", "MintedNature", "FaintedTimer", "HealingTimer", "InteractionCooldown",
+            "Fullness", "Tradeable", "ForcedAspects", "Features", "PersistentData", "HeldItem", "Nickname",
+            "PokemonOriginalTrainerName", "PokemonOriginalTrainerType", "PokemonOriginalTrainer", "PLAYER", "NONE",
+            "StatusName", "StatusTimer", "Status", "CaughtBall", "cobblemon:poke_ball", "minecraft:air",
+            "AbilityForced", "AbilityPriority", "AbilityIndex", "AbilityName", "Ability", "LOWEST", "NORMAL",
+            "HyperTrained", "Base", "IVs", "EVs", "special_defence", "special_attack", "defence", "attack", "speed", "hp",
+            "Nature", "cobblemon:hardy", "Gender", "GENDERLESS", "FEMALE", "MALE", "ScaleModifier", "Friendship",
+            "Experience", "Health", "Level", "Shiny", "FormId", "normal", "BenchedMoves", "RaisedPPStages", "MovePP",
+            "MoveName", "MoveSet", "Species", "cobblemon:", "UUID", "Slot"
+        )
+    ).mapValues { (_, strings) -> strings.joinToString("").toByteArray(Charsets.UTF_8) }
+
+    /** Whether the given file is in this format rather than being a plain NBT or JSON file. */
+    fun isCompressed(file: File): Boolean {
+        val header = ByteArray(MAGIC.size)
+        val read = file.inputStream().use { it.read(header) }
+        return read == MAGIC.size && header.contentEquals(MAGIC)
+    }
+
+    /** Writes the header to the given stream and returns a stream that compresses everything written to it. */
+    fun compress(output: OutputStream): OutputStream {
+        output.write(MAGIC)
+        output.write(CURRENT_DICTIONARY)
+        val deflater = Deflater(Deflater.BEST_COMPRESSION)
+        deflater.setDictionary(DICTIONARIES.getValue(CURRENT_DICTIONARY))
+        return object : DeflaterOutputStream(output, deflater, 8192) {
+            override fun close() {
+                try {
+                    super.close()
+                } finally {
+                    deflater.end()
+                }
+            }
+        }
+    }
+
+    /** Reads and decompresses an entire file that [isCompressed]. */
+    fun decompress(file: File): ByteArray {
+        val bytes = file.readBytes()
+        require(bytes.size > MAGIC.size && bytes.copyOfRange(0, MAGIC.size).contentEquals(MAGIC)) { "${file.name} is not a compressed store file" }
+        val dictionaryId = bytes[MAGIC.size].toInt()
+        val dictionary = DICTIONARIES[dictionaryId] ?: throw IllegalStateException("${file.name} uses unknown compression dictionary $dictionaryId")
+        val inflater = Inflater()
+        try {
+            inflater.setInput(bytes, MAGIC.size + 1, bytes.size - MAGIC.size - 1)
+            val output = ByteArrayOutputStream(bytes.size * 8)
+            val buffer = ByteArray(8192)
+            while (!inflater.finished()) {
+                val inflated = inflater.inflate(buffer)
+                if (inflated == 0) {
+                    when {
+                        inflater.needsDictionary() -> inflater.setDictionary(dictionary)
+                        inflater.needsInput() -> throw IllegalStateException("${file.name} is truncated")
+                    }
+                }
+                output.write(buffer, 0, inflated)
+            }
+            return output.toByteArray()
+        } finally {
+            inflater.end()
+        }
+    }
+}
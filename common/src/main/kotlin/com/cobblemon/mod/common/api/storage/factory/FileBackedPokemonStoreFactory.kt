@@ -12,22 +12,36 @@ import com.cobblemon.mod.common.Cobblemon
 import com.cobblemon.mod.common.Cobblemon.LOGGER
 import com.cobblemon.mod.common.api.reactive.Observable.Companion.emitWhile
 import com.cobblemon.mod.common.api.storage.PokemonStore
+import com.cobblemon.mod.common.api.storage.PokemonStoreManager
 import com.cobblemon.mod.common.api.storage.StorePosition
 import com.cobblemon.mod.common.api.storage.adapter.SerializedStore
 import com.cobblemon.mod.common.api.storage.adapter.flatfile.FileStoreAdapter
 import com.cobblemon.mod.common.api.storage.party.PlayerPartyStore
 import com.cobblemon.mod.common.api.storage.pc.PCStore
+import com.cobblemon.mod.common.config.CobblemonConfig
 import com.cobblemon.mod.common.platform.events.PlatformEvents
+import com.cobblemon.mod.common.util.getPlayer
 import com.cobblemon.mod.common.util.subscribeOnServer
 import java.util.UUID
+import java.util.concurrent.CompletableFuture
 import java.util.concurrent.Executors
 import java.util.concurrent.TimeUnit
 import net.minecraft.core.RegistryAccess
+import net.minecraft.nbt.CompoundTag
 import net.minecraft.server.level.ServerPlayer
 
 /**
  * A [PokemonStoreFactory] that is backed by a file. This implementation will now handle persistence and scheduling
- * for saving, as well as simple map cache.
+ * for saving, as well as a cache of loaded stores.
+ *
+ * Stores belonging to online players, or being watched by an online player, are pinned in the cache. Any other
+ * store, such as one pulled in by an admin command or an offline lookup, is kept in a least-recently-used cache
+ * bounded by [CobblemonConfig.offlineStoreCacheSize] and is evicted once it has gone untouched for
+ * [CobblemonConfig.offlineStoreCacheSeconds] without having unsaved changes.
+ *
+ * If a [journal] is given, the positions that change in each store are written to it every second, and replayed on
+ * top of the store when it's next loaded. This means a crash loses at most a second of changes instead of everything
+ * since the last save. Changes that aren't about a single position, like resizing a PC, get a full save instead.
  *
  * @author Hiroku
  * @since November 29th, 2021
@@ -36,24 +50,51 @@ open class FileBackedPokemonStoreFactory<S>(
     protected val adapter: FileStoreAdapter<S>,
     protected val createIfMissing: Boolean,
     val partyConstructor: (UUID) -> PlayerPartyStore = { PlayerPartyStore(it) },
-    val pcConstructor: (UUID) -> PCStore = { PCStore(it) }
+    val pcConstructor: (UUID) -> PCStore = { PCStore(it) },
+    val journal: PokemonStoreJournal? = null
 ) : PokemonStoreFactory {
 
     var passedTicks = 0
+    var ticksSinceEviction = 0
+    var ticksSinceJournal = 0
     protected val saveSubscription = PlatformEvents.SERVER_TICK_PRE.subscribe {
         passedTicks++
         if (passedTicks > 20 * Cobblemon.config.pokemonSaveIntervalSeconds) {
             saveAll(it.server.registryAccess())
             passedTicks = 0
         }
+        ticksSinceJournal++
+        if (ticksSinceJournal >= 20) {
+            writeJournal(it.server.registryAccess())
+            ticksSinceJournal = 0
+        }
+        ticksSinceEviction++
+        if (ticksSinceEviction > 20 * EVICTION_INTERVAL_SECONDS) {
+            evictOfflineStores(it.server.registryAccess())
+            ticksSinceEviction = 0
+        }
     }
 
     protected var saveExecutor = Executors.newSingleThreadExecutor()
     protected val storeCaches = mutableMapOf<Class<out PokemonStore<*>>, StoreCache<*, *>>()
     protected inner class StoreCache<E : StorePosition, T : PokemonStore<E>> {
         val cacheMap = mutableMapOf<UUID, T>()
+        val lastAccessed = mutableMapOf<UUID, Long>()
     }
 
+    /** The number of [getStore] calls that were answered from the cache. */
+    var cacheHits = 0L
+        private set
+    /** The number of [getStore] calls that needed to go to the adapter. */
+    var cacheMisses = 0L
+        private set
+    /** The fraction of [getStore] calls that were answered from the cache. */
+    val cacheHitRate: Double
+        get() = if (cacheHits + cacheMisses == 0L) 0.0 else cacheHits.toDouble() / (cacheHits + cacheMisses)
+    /** The number of stores currently held in memory, online or not. */
+    val residentStoreCount: Int
+        get() = storeCaches.values.sumOf { it.cacheMap.size }
+
     protected fun <E : StorePosition, T : PokemonStore<E>> getStoreCache(storeClass: Class<T>): StoreCache<E, T> {
         val cache = storeCaches.getOrPut(storeClass) { StoreCache<E, T>() }
         return cache as StoreCache<E, T>
@@ -61,6 +102,13 @@ open class FileBackedPokemonStoreFactory<S>(
 
     private val dirtyStores = mutableSetOf<PokemonStore<*>>()
 
+    /** The positions in each store that have changed since they were last journaled. */
+    private val unjournaledPositions = mutableMapOf<PokemonStore<*>, MutableSet<StorePosition>>()
+    /** Stores that had a change that can't be journaled, and need a full save soon. */
+    private val needingFullSave = mutableSetOf<PokemonStore<*>>()
+    /** How many records each store's journal has, so that long ones can be folded into a full save. */
+    private val journalLengths = mutableMapOf<PokemonStore<*>, Int>()
+
     override fun getPlayerParty(playerID: UUID, registryAccess: RegistryAccess) = getStore(PlayerPartyStore::class.java, playerID, registryAccess, partyConstructor)
     override fun getPC(playerID: UUID, registryAccess: RegistryAccess) = getStore(PCStore::class.java, playerID, registryAccess, pcConstructor)
 
@@ -72,11 +120,15 @@ open class FileBackedPokemonStoreFactory<S>(
         registryAccess: RegistryAccess,
         constructor: ((UUID) -> T) = { storeClass.getConstructor(UUID::class.java).newInstance(it) }
     ): T? {
-        val cache = getStoreCache(storeClass).cacheMap
+        val storeCache = getStoreCache(storeClass)
+        val cache = storeCache.cacheMap
         val cached = cache[uuid]
         if (cached != null) {
+            cacheHits++
+            storeCache.lastAccessed[uuid] = System.currentTimeMillis()
             return cached
         } else {
+            cacheMisses++
             val loaded = adapter.load(storeClass, uuid, registryAccess)
                 ?: run {
                     if (createIfMissing) {
@@ -87,9 +139,14 @@ open class FileBackedPokemonStoreFactory<S>(
                 }
                 ?: return null
 
+            Cobblemon.storage.locations.track(loaded)
             loaded.initialize()
+            if (journal != null) {
+                replayJournal(loaded, registryAccess)
+            }
             track(loaded)
             cache[uuid] = loaded
+            storeCache.lastAccessed[uuid] = System.currentTimeMillis()
             return loaded
         }
     }
@@ -97,21 +154,188 @@ open class FileBackedPokemonStoreFactory<S>(
     fun save(store: PokemonStore<*>, registryAccess: RegistryAccess) {
         val serialized = SerializedStore(store::class.java, store.uuid, adapter.serialize(store, registryAccess))
         dirtyStores.remove(store)
-        saveExecutor.execute { adapter.save(serialized.storeClass, serialized.uuid, serialized.serializedForm) }
+        settleJournal(store, registryAccess)
+        saveExecutor.execute {
+            adapter.save(serialized.storeClass, serialized.uuid, serialized.serializedForm)
+            journal?.truncate(serialized.storeClass, serialized.uuid)
+        }
     }
 
     fun saveAll(registryAccess: RegistryAccess) {
         LOGGER.debug("Serializing ${dirtyStores.size} Pokémon stores.")
         val serializedStores = dirtyStores.map { SerializedStore(it::class.java, it.uuid, adapter.serialize(it, registryAccess)) }
+        dirtyStores.forEach { settleJournal(it, registryAccess) }
         dirtyStores.clear()
         LOGGER.debug("Queueing save.")
         saveExecutor.execute {
-            serializedStores.forEach { adapter.save(it.storeClass, it.uuid, it.serializedForm) }
+            // Each journal goes as soon as its own store is written, so a crash part way through leaves the rest.
+            adapter.saveAll(serializedStores) { journal?.truncate(it.storeClass, it.uuid) }
             LOGGER.debug("Saved ${serializedStores.size} Pokémon stores.")
         }
     }
 
-    fun isCached(store: PokemonStore<*>) = storeCaches[store::class.java]?.cacheMap?.containsKey(store.uuid) == true
+    /**
+     * Queues the current contents of every position that changed since the last call to be appended to the journal.
+     * Stores that had a change that can't be journaled, or whose journal has grown long, are saved in full instead.
+     */
+    fun writeJournal(registryAccess: RegistryAccess) {
+        val journal = journal ?: return
+        needingFullSave.filter(::isCached).forEach { save(it, registryAccess) }
+        needingFullSave.clear()
+        if (unjournaledPositions.isEmpty()) {
+            return
+        }
+        val batches = unjournaledPositions.map { (store, positions) ->
+            Triple(store::class.java, store.uuid, positions.map { createJournalRecord(store, it, registryAccess) })
+        }
+        for ((store, positions) in unjournaledPositions) {
+            journalLengths.merge(store, positions.size, Int::plus)
+        }
+        unjournaledPositions.clear()
+        saveExecutor.execute {
+            for ((storeClass, uuid, records) in batches) {
+                appendToJournal(journal, storeClass, uuid, records)
+            }
+        }
+        journalLengths.filterValues { it > MAX_JOURNAL_RECORDS }.keys.filter(::isCached).forEach { save(it, registryAccess) }
+    }
+
+    private fun <T : StorePosition> createJournalRecord(store: PokemonStore<T>, position: StorePosition, registryAccess: RegistryAccess): PokemonStoreJournal.Record {
+        position as T
+        val positionNBT = CompoundTag().also { store.savePositionToNBT(position, it) }
+        val pokemon = if (store.isValidPosition(position)) store[position] else null
+        return PokemonStoreJournal.Record(positionNBT, pokemon?.saveToNBT(registryAccess))
+    }
+
+    private fun <T : StorePosition> replayJournal(store: PokemonStore<T>, registryAccess: RegistryAccess) {
+        val journal = journal ?: return
+        val replayed = try {
+            journal.replay(store, registryAccess)
+        } catch (e: Exception) {
+            LOGGER.error("Failed to replay the Pokémon store journal for ${store::class.java.simpleName} (${store.uuid})", e)
+            0
+        }
+        if (replayed > 0) {
+            LOGGER.info("Recovered $replayed unsaved changes to ${store::class.java.simpleName} (${store.uuid}) from its journal.")
+            // The journal stays until this is saved, so a crash before then just replays it again.
+            dirtyStores.add(store)
+            journalLengths[store] = replayed
+        }
+        store.positionChangeListener = { position ->
+            if (isCached(store)) {
+                if (position == null) {
+                    needingFullSave.add(store)
+                } else {
+                    unjournaledPositions.getOrPut(store) { mutableSetOf() }.add(position)
+                }
+            }
+        }
+    }
+
+    private fun appendToJournal(journal: PokemonStoreJournal, storeClass: Class<out PokemonStore<*>>, uuid: UUID, records: Collection<PokemonStoreJournal.Record>) {
+        try {
+            journal.append(storeClass, uuid, records)
+        } catch (e: Exception) {
+            LOGGER.error("Failed to append to the Pokémon store journal for ${storeClass.simpleName} ($uuid)", e)
+        }
+    }
+
+    /**
+     * Brings the store's journal up to date just before it's saved in full. Positions that changed since the last
+     * journal write are appended rather than dropped, so the journal ends on what the save holds. If the server
+     * crashes after the save is written but before the journal is truncated, replaying it changes nothing.
+     */
+    private fun settleJournal(store: PokemonStore<*>, registryAccess: RegistryAccess) {
+        needingFullSave.remove(store)
+        journalLengths.remove(store)
+        val positions = unjournaledPositions.remove(store) ?: return
+        val journal = journal ?: return
+        val storeClass = store::class.java
+        val uuid = store.uuid
+        val records = positions.map { createJournalRecord(store, it, registryAccess) }
+        saveExecutor.execute { appendToJournal(journal, storeClass, uuid, records) }
+    }
+
+    /**
+     * Fills in [PokemonStoreManager.locations] from every store on disk of the given classes, returning how many
+     * Pokémon were found. Each store is loaded and thrown away without going through the cache or being initialized.
+     *
+     * This runs on the save executor so that any queued saves are on disk before they're read, which also means that
+     * saving waits for it to finish. It's meant for maintenance rather than regular use on a busy server.
+     */
+    fun rebuildLocationIndex(
+        registryAccess: RegistryAccess,
+        storeClasses: Collection<Class<out PokemonStore<*>>> = listOf(PlayerPartyStore::class.java, PCStore::class.java)
+    ): CompletableFuture<Int> {
+        return CompletableFuture.supplyAsync({
+            val stores = storeClasses.asSequence().flatMap { storeClass ->
+                adapter.getStoredUUIDs(storeClass).asSequence().mapNotNull { uuid ->
+                    try {
+                        adapter.load(storeClass as Class<PokemonStore<StorePosition>>, uuid, registryAccess)
+                    } catch (e: Exception) {
+                        LOGGER.error("Failed to load ${storeClass.simpleName} ($uuid) while rebuilding the Pokémon location index", e)
+                        null
+                    }
+                }
+            }
+            Cobblemon.storage.locations.rebuild(stores).also {
+                LOGGER.info("Rebuilt the Pokémon location index from disk, found $it Pokémon.")
+            }
+        }, saveExecutor)
+    }
+
+    fun isCached(store: PokemonStore<*>) = storeCaches[store::class.java]?.cacheMap?.get(store.uuid) === store
+
+    fun isCached(storeClass: Class<out PokemonStore<*>>, uuid: UUID) = storeCaches[storeClass]?.cacheMap?.containsKey(uuid) == true
+
+    /**
+     * Runs the action on the save executor, behind any saves already queued, unless the store is in memory. This is
+     * for changing a store's saved form from outside of the game, such as upgrading it, without racing a save of the
+     * same store. It must be called on the server thread, and the future gives whether the action was run.
+     */
+    fun runIfNotCached(storeClass: Class<out PokemonStore<*>>, uuid: UUID, action: () -> Unit): CompletableFuture<Boolean> {
+        if (isCached(storeClass, uuid)) {
+            return CompletableFuture.completedFuture(false)
+        }
+        return CompletableFuture.supplyAsync({
+            action()
+            true
+        }, saveExecutor)
+    }
+
+    /** Whether the store must stay in memory because someone online is using it. */
+    protected open fun isPinned(store: PokemonStore<*>) = store.uuid.getPlayer() != null || store.getObservingPlayers().any()
+
+    /**
+     * Removes offline stores from the cache. Stores beyond [CobblemonConfig.offlineStoreCacheSize] are removed from
+     * the least recently used end, saving first if they have unsaved changes. Stores that have not been accessed
+     * in [CobblemonConfig.offlineStoreCacheSeconds] are removed if they have no unsaved changes.
+     */
+    fun evictOfflineStores(registryAccess: RegistryAccess) {
+        val now = System.currentTimeMillis()
+        val ttl = Cobblemon.config.offlineStoreCacheSeconds * 1000L
+        // Pinned stores aren't counted towards the limit, so it's the offline ones across all caches that matter.
+        val offline = storeCaches.values.flatMap { cache -> cache.cacheMap.values.filterNot(::isPinned).map { cache to it } }
+        var excess = offline.size - Cobblemon.config.offlineStoreCacheSize
+        var evicted = 0
+        for ((cache, store) in offline.sortedBy { (cache, store) -> cache.lastAccessed[store.uuid] ?: 0L }) {
+            val expired = now - (cache.lastAccessed[store.uuid] ?: 0L) > ttl
+            if (excess > 0) {
+                if (store in dirtyStores) {
+                    save(store, registryAccess)
+                }
+                excess--
+            } else if (!expired || store in dirtyStores) {
+                continue
+            }
+            cache.cacheMap.remove(store.uuid)
+            cache.lastAccessed.remove(store.uuid)
+            evicted++
+        }
+        if (evicted > 0) {
+            LOGGER.debug("Evicted $evicted offline Pokémon stores. $residentStoreCount stores resident, cache hit rate ${"%.2f".format(cacheHitRate * 100)}%.")
+        }
+    }
 
     fun track(store: PokemonStore<*>) {
         store.getAnyChangeObservable()
@@ -121,6 +345,8 @@ open class FileBackedPokemonStoreFactory<S>(
 
     override fun shutdown(registryAccess: RegistryAccess) {
         saveSubscription.unsubscribe()
+        // Everything dirty is about to be saved in full, which covers anything waiting on a full save.
+        needingFullSave.clear()
         saveAll(registryAccess)
         saveExecutor.shutdown()
         saveExecutor.awaitTermination(30L, TimeUnit.SECONDS)
@@ -128,6 +354,16 @@ open class FileBackedPokemonStoreFactory<S>(
 
     override fun onPlayerDisconnect(player: ServerPlayer) {
         dirtyStores.filter { it.uuid == player.uuid }.forEach { save(it, player.registryAccess()) }
-        storeCaches.forEach { (_, cache) -> cache.cacheMap.remove(player.uuid) }
+        storeCaches.forEach { (_, cache) ->
+            cache.cacheMap.remove(player.uuid)
+            cache.lastAccessed.remove(player.uuid)
+        }
+    }
+
+    companion object {
+        /** How often offline stores are checked for eviction. */
+        const val EVICTION_INTERVAL_SECONDS = 10
+        /** How many records a store's journal can build up before it's folded into a full save. */
+        const val MAX_JOURNAL_RECORDS = 500
     }
 }
\ No newline at end of file
@@ -0,0 +1,113 @@
+/*
+ * Copyright (C) 2023 Cobblemon Contributors
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.cobblemon.mod.common.api.storage.factory
+
+import com.cobblemon.mod.common.Cobblemon.LOGGER
+import com.cobblemon.mod.common.api.storage.PokemonStore
+import com.cobblemon.mod.common.api.storage.StorePosition
+import com.cobblemon.mod.common.pokemon.Pokemon
+import java.io.BufferedInputStream
+import java.io.DataInputStream
+import java.io.DataOutputStream
+import java.io.EOFException
+import java.io.File
+import java.io.FileOutputStream
+import java.nio.file.Path
+import java.util.UUID
+import net.minecraft.core.RegistryAccess
+import net.minecraft.nbt.CompoundTag
+import net.minecraft.nbt.NbtAccounter
+import net.minecraft.nbt.NbtIo
+
+/**
+ * An append-only log of the positions in each [PokemonStore] that changed since the store was last saved in full,
+ * used by [FileBackedPokemonStoreFactory] so that catches, trades and the like survive a crash between autosaves.
+ *
+ * Each record is a store position and what is now in it, either a whole Pokémon or nothing. Adding, removing, moving
+ * and changing a Pokémon all come down to one or two of these. Records are appended shortly after the change
+ * happens and are replayed over the last full save when the store is next loaded. Saving a store in full makes its
+ * records redundant, so the journal file is deleted then.
+ *
+ * A crash part way through writing a record leaves a partial record at the end of the file, which is ignored.
+ *
+ * @since October 19th, 2026
+ */
+class PokemonStoreJournal(val folder: Path) {
+    /** What a position in a store held when the record was written. A null [pokemon] means the position was empty. */
+    class Record(val position: CompoundTag, val pokemon: CompoundTag?)
+
+    fun getFile(storeClass: Class<out PokemonStore<*>>, uuid: UUID): File {
+        return folder.resolve(storeClass.simpleName.lowercase()).resolve("$uuid.journal").toFile()
+    }
+
+    /** Appends the given records to the store's journal. This does file IO so it shouldn't be on the server thread. */
+    fun append(storeClass: Class<out PokemonStore<*>>, uuid: UUID, records: Collection<Record>) {
+        val file = getFile(storeClass, uuid)
+        file.parentFile.mkdirs()
+        FileOutputStream(file, true).use { fileOutput ->
+            val output = DataOutputStream(fileOutput.buffered())
+            for (record in records) {
+                output.writeBoolean(record.pokemon != null)
+                NbtIo.write(record.position, output)
+                record.pokemon?.let { NbtIo.write(it, output) }
+            }
+            output.flush()
+        }
+    }
+
+    /** Forgets every record for the store, once it's been saved in full. */
+    fun truncate(storeClass: Class<out PokemonStore<*>>, uuid: UUID) {
+        getFile(storeClass, uuid).delete()
+    }
+
+    /**
+     * Applies the store's journal on top of it, returning how many records there were. The store should have been
+     * loaded from its last full save and initialized.
+     */
+    fun <T : StorePosition> replay(store: PokemonStore<T>, registryAccess: RegistryAccess): Int {
+        val file = getFile(store::class.java, store.uuid)
+        if (!file.exists()) {
+            return 0
+        }
+        var replayed = 0
+        DataInputStream(BufferedInputStream(file.inputStream())).use { input ->
+            while (true) {
+                val record = try {
+                    val occupied = input.readBoolean()
+                    val position = NbtIo.read(input, NbtAccounter.unlimitedHeap())
+                    Record(position, if (occupied) NbtIo.read(input, NbtAccounter.unlimitedHeap()) else null)
+                } catch (e: EOFException) {
+                    break
+                }
+                try {
+                    apply(store, record, registryAccess)
+                    replayed++
+                } catch (e: Exception) {
+                    LOGGER.error("Failed to replay a journal record for ${store::class.java.simpleName} (${store.uuid})", e)
+                }
+            }
+        }
+        return replayed
+    }
+
+    private fun <T : StorePosition> apply(store: PokemonStore<T>, record: Record, registryAccess: RegistryAccess) {
+        val position = store.loadPositionFromNBT(record.position).position
+        if (!store.isValidPosition(position)) {
+            return
+        }
+        if (record.pokemon == null) {
+            store.remove(position)
+            return
+        }
+        val pokemon = Pokemon.loadFromNBT(registryAccess, record.pokemon)
+        // Its old position may not have a record of its own if it was written in the same batch, so move it here.
+        store[pokemon.uuid]?.let { store.remove(it) }
+        store[position] = pokemon
+    }
+}
@@ -133,6 +133,10 @@ open class PartyStore(override val uuid: UUID) : PokemonStore<PartyPosition>() {
         }
     }
 
+    override fun forEachPosition(action: (PartyPosition, Pokemon) -> Unit) {
+        slots.forEachIndexed { slot, pokemon -> pokemon?.let { action(PartyPosition(slot), it) } }
+    }
+
     override fun initialize() {
         for (slot in slots.indices) {
             val pokemon = get(slot) ?: continue
@@ -18,8 +18,10 @@ import com.cobblemon.mod.common.pokemon.Pokemon
 import com.cobblemon.mod.common.util.DataKeys
 import com.cobblemon.mod.common.util.cobblemonResource
 import com.google.gson.JsonObject
+import io.netty.buffer.Unpooled
 import net.minecraft.core.RegistryAccess
 import net.minecraft.nbt.CompoundTag
+import net.minecraft.network.RegistryFriendlyByteBuf
 import net.minecraft.resources.ResourceLocation
 import net.minecraft.server.level.ServerPlayer
 
@@ -27,6 +29,9 @@ import net.minecraft.server.level.ServerPlayer
  * A single box of a PC. The list of Pokémon is strictly sized at [POKEMON_PER_BOX] - 30.
  * Any change to any contained Pokémon is emitted through the [boxChangeEmitter].
  *
+ * The box as it's encoded in a [SetPCBoxPacket] is kept until something in the box changes, so opening a PC again
+ * only encodes the boxes that changed since it was last sent.
+ *
  * @author Hiroku
  * @since April 26th, 2022
  */
@@ -37,16 +42,31 @@ open class PCBox(val pc: PCStore) : Iterable<Pokemon> {
 
     protected var emit = true
 
+    /** The contents of this box as last encoded by [getEncodedContents], cleared whenever anything in the box changes. */
+    @Volatile
+    protected var encodedContents: ByteArray? = null
+    /** The [encodingGeneration] that [encodedContents] belongs to. */
+    @Volatile
+    protected var encodedGeneration = 0
+
     var name : String? = null
         set(value) {
             field = value
-            if (emit) boxChangeEmitter.emit(Unit)
+            invalidateEncoded()
+            if (emit) {
+                pc.onPositionChanged(null)
+                boxChangeEmitter.emit(Unit)
+            }
         }
 
     var wallpaper : ResourceLocation = cobblemonResource("textures/gui/pc/pc_screen_overlay.png")
         set(value) {
             field = value
-            if (emit) boxChangeEmitter.emit(Unit)
+            invalidateEncoded()
+            if (emit) {
+                pc.onPositionChanged(null)
+                boxChangeEmitter.emit(Unit)
+            }
         }
 
     protected val pokemon = Array<Pokemon?>(POKEMON_PER_BOX) { null }
@@ -61,8 +81,11 @@ open class PCBox(val pc: PCStore) : Iterable<Pokemon> {
 
     open operator fun set(index: Int, pokemon: Pokemon?) {
         if (index in 0 until POKEMON_PER_BOX) {
+            val previous = this.pokemon[index]
             this.pokemon[index] = pokemon
             pokemon?.storeCoordinates?.set(StoreCoordinates(pc, PCPosition(boxNumber, index)))
+            pc.searchIndex?.onSlotChanged(previous, pokemon)
+            invalidateEncoded()
             if (emit) {
                 boxChangeEmitter.emit(Unit)
             }
@@ -100,13 +123,43 @@ open class PCBox(val pc: PCStore) : Iterable<Pokemon> {
         pokemon.forEachIndexed { slot, pokemon ->
             pokemon?.storeCoordinates?.set(StoreCoordinates(pc, PCPosition(boxNumber, slot)))
         }
+        invalidateEncoded()
         boxChangeEmitter.emit(Unit)
     }
 
+    /** Discards the last encoded contents of this box so that the next packet encodes it again. */
+    open fun invalidateEncoded() {
+        encodedContents = null
+    }
+
+    /**
+     * Gets the name, wallpaper and Pokémon of this box encoded the way a [SetPCBoxPacket] sends them. This is reused
+     * until something in the box changes, so it must only be called on the server thread where the box is changed.
+     */
+    open fun getEncodedContents(registryAccess: RegistryAccess): ByteArray {
+        val generation = encodingGeneration
+        encodedContents?.takeIf { encodedGeneration == generation }?.let { return it }
+        val buffer = RegistryFriendlyByteBuf(Unpooled.buffer(), registryAccess)
+        try {
+            SetPCBoxPacket.encodeContents(buffer, name ?: "", wallpaper, getNonEmptySlotsForPackets())
+            val bytes = ByteArray(buffer.readableBytes())
+            buffer.readBytes(bytes)
+            encodedContents = bytes
+            encodedGeneration = generation
+            return bytes
+        } finally {
+            buffer.release()
+        }
+    }
+
     fun sendTo(player: ServerPlayer) {
-        SetPCBoxPacket(this).sendToPlayer(player)
+        PCBoxStreamer.onBoxSent(player, pc, boxNumber)
+        SetPCBoxPacket(this, player.registryAccess()).sendToPlayer(player)
     }
 
+    /** How many bytes this box takes up as a [SetPCBoxPacket], for budgeting [PCBoxStreamer]. */
+    open fun getPacketSize(registryAccess: RegistryAccess) = SetPCBoxPacket.HEADER_BYTES + getEncodedContents(registryAccess).size
+
     open fun saveToNBT(nbt: CompoundTag, registryAccess: RegistryAccess): CompoundTag {
         name?.let {
             nbt.putString(DataKeys.STORE_BOX_NAME, it)
@@ -182,4 +235,15 @@ open class PCBox(val pc: PCStore) : Iterable<Pokemon> {
 
     open fun getNonEmptySlots() = (0 until POKEMON_PER_BOX).filter { get(it) != null }.associateWith { get(it)!! }
     open fun getNonEmptySlotsForPackets() = getNonEmptySlots().mapValues { (_, pokemon) -> { _: RegistryAccess -> pokemon } }
+
+    companion object {
+        /** Moved on by [invalidateAllEncoded], so that every box encodes its contents again however many are loaded. */
+        @Volatile
+        private var encodingGeneration = 0
+
+        /** Discards the encoded contents of every box, such as after a reload changes how their Pokémon are encoded. */
+        fun invalidateAllEncoded() {
+            encodingGeneration++
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,123 @@
+/*
+ * Copyright (C) 2023 Cobblemon Contributors
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.cobblemon.mod.common.api.storage.pc
+
+import com.cobblemon.mod.common.Cobblemon
+import com.cobblemon.mod.common.config.CobblemonConfig
+import com.cobblemon.mod.common.net.messages.client.storage.pc.SetPCBoxSummariesPacket
+import com.cobblemon.mod.common.net.messages.server.storage.pc.RequestPCBoxesPacket
+import java.util.UUID
+import net.minecraft.server.MinecraftServer
+import net.minecraft.server.level.ServerPlayer
+
+/**
+ * Sends the boxes of a [PCStore] to a player a few at a time rather than all at once, which is used when
+ * [CobblemonConfig.streamPCBoxes] is enabled.
+ *
+ * When streaming starts the player is sent a [SetPCBoxSummariesPacket] covering every box, which is enough for the
+ * client to show and search the whole PC. The full boxes are then sent in the background, up to
+ * [CobblemonConfig.pcStreamBytesPerTick] each tick, except for boxes the client asks for with a
+ * [RequestPCBoxesPacket] because they're being looked at, which are sent straight away. Boxes with nothing in them
+ * are fully described by their summary and are never sent.
+ *
+ * Changes to a box that hasn't been sent yet are still sent as they happen. The full box, when it's sent, reflects
+ * the store at that point and so replaces whatever the client had. The store is looked up each time it's needed, so an
+ * offline store that's evicted and loaded again part way through is still the one sent from.
+ *
+ * @since October 19th, 2026
+ */
+object PCBoxStreamer {
+    /** How many boxes go in each [SetPCBoxSummariesPacket], to keep the packets a reasonable size. */
+    const val BOXES_PER_SUMMARY_PACKET = 10
+
+    private class Stream(val storeID: UUID, val pending: LinkedHashSet<Int>)
+
+    /** Player UUID to store UUID to what remains to be sent. Only touched on the server thread. */
+    private val streams = mutableMapOf<UUID, MutableMap<UUID, Stream>>()
+
+    /** Starts streaming the given PC to the player, starting over if it was already being streamed. */
+    fun start(player: ServerPlayer, pc: PCStore) {
+        val summaries = pc.boxes.map(SetPCBoxSummariesPacket::BoxSummary)
+        summaries.chunked(BOXES_PER_SUMMARY_PACKET).forEachIndexed { index, chunk ->
+            SetPCBoxSummariesPacket(pc.uuid, index * BOXES_PER_SUMMARY_PACKET, chunk).sendToPlayer(player)
+        }
+        val pending = summaries.indices.filterTo(LinkedHashSet()) { summaries[it].pokemon.isNotEmpty() }
+        if (pending.isEmpty()) {
+            streams[player.uuid]?.remove(pc.uuid)
+        } else {
+            streams.getOrPut(player.uuid) { mutableMapOf() }[pc.uuid] = Stream(pc.uuid, pending)
+        }
+    }
+
+    /** Sends the given boxes right away if they haven't been sent already. */
+    fun request(player: ServerPlayer, storeID: UUID, boxes: Collection<Int>) {
+        val stream = streams[player.uuid]?.get(storeID) ?: return
+        val pc = getStore(player, storeID) ?: return stop(player.uuid, storeID)
+        for (box in boxes) {
+            if (box in stream.pending) {
+                pc.boxes.getOrNull(box)?.sendTo(player)
+            }
+        }
+    }
+
+    /** Notes that the given box has been sent in full, whether or not it was by streaming. */
+    fun onBoxSent(player: ServerPlayer, pc: PCStore, box: Int) {
+        val playerStreams = streams[player.uuid] ?: return
+        val stream = playerStreams[pc.uuid] ?: return
+        stream.pending.remove(box)
+        if (stream.pending.isEmpty()) {
+            stop(player.uuid, pc.uuid)
+        }
+    }
+
+    /** Gets the store as it is now, since the one the stream started with may have been evicted since. */
+    private fun getStore(player: ServerPlayer, storeID: UUID) = Cobblemon.storage.getCustomStore(PCStore::class.java, storeID, player.registryAccess())
+
+    private fun stop(playerID: UUID, storeID: UUID) {
+        val playerStreams = streams[playerID] ?: return
+        playerStreams.remove(storeID)
+        if (playerStreams.isEmpty()) {
+            streams.remove(playerID)
+        }
+    }
+
+    fun tick(server: MinecraftServer) {
+        if (streams.isEmpty()) {
+            return
+        }
+        for (playerID in streams.keys.toList()) {
+            val player = server.playerList.getPlayer(playerID) ?: run {
+                streams.remove(playerID)
+                null
+            } ?: continue
+            var budget = Cobblemon.config.pcStreamBytesPerTick
+            // Always send at least one box, so that a single very full box can't hold things up forever.
+            while (budget > 0) {
+                val stream = streams[playerID]?.values?.firstOrNull() ?: break
+                val pc = getStore(player, stream.storeID)
+                if (pc == null) {
+                    stop(playerID, stream.storeID)
+                    continue
+                }
+                val boxNumber = stream.pending.first()
+                val box = pc.boxes.getOrNull(boxNumber)
+                if (box == null) {
+                    onBoxSent(player, pc, boxNumber)
+                    continue
+                }
+                budget -= box.getPacketSize(player.registryAccess())
+                box.sendTo(player)
+            }
+        }
+    }
+
+    fun stop(playerID: UUID) {
+        streams.remove(playerID)
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (C) 2023 Cobblemon Contributors
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.cobblemon.mod.common.api.storage.pc
+
+import com.cobblemon.mod.common.api.pokemon.PokemonSpecies
+import com.cobblemon.mod.common.pokemon.Gender
+import com.cobblemon.mod.common.pokemon.Pokemon
+import com.cobblemon.mod.common.util.readIdentifier
+import com.cobblemon.mod.common.util.readString
+import com.cobblemon.mod.common.util.readText
+import com.cobblemon.mod.common.util.writeIdentifier
+import com.cobblemon.mod.common.util.writeString
+import com.cobblemon.mod.common.util.writeText
+import java.util.UUID
+import net.minecraft.core.registries.BuiltInRegistries
+import net.minecraft.network.RegistryFriendlyByteBuf
+import net.minecraft.network.chat.MutableComponent
+import net.minecraft.resources.ResourceLocation
+import net.minecraft.world.item.ItemStack
+
+/**
+ * The handful of fields that the PC screen needs to draw a Pokémon's icon and run a search on it, sent for boxes that
+ * haven't been streamed to the client yet. It's a small fraction of the size of a full Pokémon.
+ *
+ * @since October 19th, 2026
+ */
+data class PCPokemonSummary(
+    val uuid: UUID,
+    val species: ResourceLocation,
+    val aspects: Set<String>,
+    val level: Int,
+    val shiny: Boolean,
+    val gender: Gender,
+    val nickname: MutableComponent?,
+    val heldItem: ResourceLocation?,
+    val fainted: Boolean
+) {
+    companion object {
+        fun of(pokemon: Pokemon) = PCPokemonSummary(
+            uuid = pokemon.uuid,
+            species = pokemon.species.resourceIdentifier,
+            aspects = pokemon.aspects,
+            level = pokemon.level,
+            shiny = pokemon.shiny,
+            gender = pokemon.gender,
+            nickname = pokemon.nickname,
+            heldItem = pokemon.heldItemNoCopy().takeUnless { it.isEmpty }?.let { BuiltInRegistries.ITEM.getKey(it.item) },
+            fainted = pokemon.isFainted()
+        )
+
+        fun decode(buffer: RegistryFriendlyByteBuf) = PCPokemonSummary(
+            uuid = buffer.readUUID(),
+            species = buffer.readIdentifier(),
+            aspects = buffer.readList { buffer.readString() }.toSet(),
+            level = buffer.readVarInt(),
+            shiny = buffer.readBoolean(),
+            gender = Gender.entries[buffer.readByte().toInt()],
+            nickname = buffer.readNullable { buffer.readText().copy() },
+            heldItem = buffer.readNullable { buffer.readIdentifier() },
+            fainted = buffer.readBoolean()
+        )
+    }
+
+    fun encode(buffer: RegistryFriendlyByteBuf) {
+        buffer.writeUUID(uuid)
+        buffer.writeIdentifier(species)
+        buffer.writeCollection(aspects) { _, aspect -> buffer.writeString(aspect) }
+        buffer.writeVarInt(level)
+        buffer.writeBoolean(shiny)
+        buffer.writeByte(gender.ordinal)
+        buffer.writeNullable(nickname) { _, value -> buffer.writeText(value) }
+        buffer.writeNullable(heldItem) { _, value -> buffer.writeIdentifier(value) }
+        buffer.writeBoolean(fainted)
+    }
+
+    /**
+     * Creates a stand-in client side [Pokemon] from the summary, which is replaced once the full box arrives. Anything
+     * not in the summary, such as moves and stats, is left at its default, so the box it goes in is marked as not
+     * [com.cobblemon.mod.common.client.storage.ClientBox.loaded] and the PC screen won't preview or pick it up until
+     * then. Returns null if the species is unknown.
+     */
+    fun toPlaceholder(): Pokemon? {
+        val species = PokemonSpecies.getByIdentifier(species) ?: return null
+        return Pokemon().also {
+            it.isClient = true
+            it.uuid = uuid
+            it.species = species
+            it.level = level
+            it.shiny = shiny
+            it.gender = gender
+            it.nickname = nickname
+            it.forcedAspects = aspects
+            heldItem?.let { item -> it.heldItem = ItemStack(BuiltInRegistries.ITEM.get(item)) }
+            if (fainted) {
+                it.currentHealth = 0
+            }
+        }
+    }
+}
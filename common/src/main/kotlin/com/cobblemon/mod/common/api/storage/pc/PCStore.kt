@@ -16,10 +16,13 @@ import com.cobblemon.mod.common.CobblemonUnlockableWallpapers
 import com.cobblemon.mod.common.api.events.CobblemonEvents
 import com.cobblemon.mod.common.api.events.storage.WallpaperUnlockedEvent
 import com.cobblemon.mod.common.api.molang.MoLangFunctions.asMoLangValue
+import com.cobblemon.mod.common.api.pokemon.PokemonProperties
 import com.cobblemon.mod.common.api.reactive.SimpleObservable
 import com.cobblemon.mod.common.api.storage.BottomlessStore
 import com.cobblemon.mod.common.api.storage.PokemonStore
 import com.cobblemon.mod.common.api.storage.StoreCoordinates
+import com.cobblemon.mod.common.api.storage.pc.search.PCSearchIndex
+import com.cobblemon.mod.common.api.storage.pc.search.PCSearchQuery
 import com.cobblemon.mod.common.api.text.add
 import com.cobblemon.mod.common.api.text.text
 import com.cobblemon.mod.common.api.toast.Toast
@@ -88,6 +91,18 @@ open class PCStore(
 
     val pcChangeObservable = SimpleObservable<Unit>()
 
+    /** Only exists once this store has been [search]ed, after which it's kept up to date with the boxes. */
+    var searchIndex: PCSearchIndex? = null
+        private set
+
+    /** Finds the Pokémon in the boxes that match the given query, without testing every slot where the index allows. */
+    fun search(query: PCSearchQuery): List<Pokemon> {
+        val index = searchIndex ?: PCSearchIndex(this).also { searchIndex = it }
+        return index.query(query)
+    }
+
+    fun search(properties: PokemonProperties) = search(PCSearchQuery.of(properties))
+
     override fun getFirstAvailablePosition(): PCPosition? {
         boxes.forEach { it.getFirstAvailablePosition()?.let { return it } }
         return null
@@ -99,7 +114,19 @@ open class PCStore(
 
     override fun sendTo(player: ServerPlayer) {
         InitializePCPacket(this).sendToPlayer(player)
-        boxes.forEach { it.sendTo(player) }
+        if (Cobblemon.config.streamPCBoxes) {
+            PCBoxStreamer.start(player, this)
+        } else {
+            boxes.forEach { it.sendTo(player) }
+        }
+    }
+
+    override fun forEachPosition(action: (PCPosition, Pokemon) -> Unit) {
+        boxes.forEachIndexed { boxNumber, box ->
+            for (slot in 0 until POKEMON_PER_BOX) {
+                box[slot]?.let { action(PCPosition(boxNumber, slot), it) }
+            }
+        }
     }
 
     override fun initialize() {
@@ -135,6 +162,8 @@ open class PCStore(
 
             tryRestoreBackedUpPokemon()
         }
+        searchIndex?.invalidate()
+        onPositionChanged(null)
         pcChangeObservable.emit(Unit)
     }
 
@@ -142,6 +171,8 @@ open class PCStore(
         this.lockedSize = lockNewSize
         boxes.removeAll(boxList)
         boxList.flatMap { it.asIterable() }.forEach(overflowHandler)
+        searchIndex?.invalidate()
+        onPositionChanged(null)
         pcChangeObservable.emit(Unit)
     }
 
@@ -293,7 +324,19 @@ open class PCStore(
         }
     }
 
+    /** Discards the encoded contents of the box holding the given Pokémon, or of every box if it can't be found. */
+    fun invalidateEncoded(pokemon: Pokemon) {
+        val position = pokemon.storeCoordinates.get()?.position as? PCPosition
+        if (position != null) {
+            boxes.getOrNull(position.box)?.invalidateEncoded()
+        } else {
+            boxes.forEach { it.invalidateEncoded() }
+        }
+    }
+
     override fun onPokemonChanged(pokemon: Pokemon) {
+        invalidateEncoded(pokemon)
+        searchIndex?.onPokemonChanged(pokemon)
         pcChangeObservable.emit(Unit)
     }
 
@@ -0,0 +1,164 @@
+/*
+ * Copyright (C) 2023 Cobblemon Contributors
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.cobblemon.mod.common.api.storage.pc.search
+
+import com.cobblemon.mod.common.api.storage.pc.PCPosition
+import com.cobblemon.mod.common.api.storage.pc.PCStore
+import com.cobblemon.mod.common.pokemon.Pokemon
+import java.util.TreeMap
+import java.util.UUID
+import net.minecraft.core.registries.BuiltInRegistries
+import net.minecraft.resources.ResourceLocation
+
+/**
+ * A secondary index over the Pokémon in a [PCStore] by species, type, shininess, ability, nature, held item and level.
+ * Only stores that are actually searched have one; it's built on the first [query] and the store keeps it up to date
+ * as Pokémon are placed, removed and changed from then on.
+ *
+ * @since October 19th, 2026
+ */
+class PCSearchIndex(private val store: PCStore) {
+    private val pokemon = HashMap<UUID, Pokemon>()
+    /** What each Pokémon was indexed under, so that it can be taken back out after it changes. */
+    private val indexedKeys = HashMap<UUID, IndexedKeys>()
+
+    private val bySpecies = HashMap<ResourceLocation, MutableSet<UUID>>()
+    private val byType = HashMap<String, MutableSet<UUID>>()
+    private val shiny = HashSet<UUID>()
+    private val byAbility = HashMap<String, MutableSet<UUID>>()
+    private val byNature = HashMap<ResourceLocation, MutableSet<UUID>>()
+    private val byHeldItem = HashMap<ResourceLocation, MutableSet<UUID>>()
+    private val byLevel = TreeMap<Int, MutableSet<UUID>>()
+
+    private var stale = true
+
+    private class IndexedKeys(
+        val species: ResourceLocation,
+        val types: List<String>,
+        val ability: String,
+        val nature: ResourceLocation,
+        val heldItem: ResourceLocation?,
+        val level: Int
+    )
+
+    fun query(query: PCSearchQuery): List<Pokemon> {
+        if (stale) {
+            rebuild()
+        }
+
+        val candidateSets = mutableListOf<Set<UUID>>()
+        query.species?.let { candidateSets.add(bySpecies[it] ?: return emptyList()) }
+        query.type?.let { candidateSets.add(byType[it.lowercase()] ?: return emptyList()) }
+        query.shiny?.takeIf { it }?.let { candidateSets.add(shiny) }
+        query.ability?.let { candidateSets.add(byAbility[it] ?: return emptyList()) }
+        query.nature?.let { candidateSets.add(byNature[it] ?: return emptyList()) }
+        query.heldItem?.let { candidateSets.add(byHeldItem[it] ?: return emptyList()) }
+        query.levels?.let { levels ->
+            if (levels.isEmpty()) return emptyList()
+            val inRange = byLevel.subMap(levels.first, true, levels.last, true).values
+            candidateSets.add(if (inRange.size == 1) inRange.first() else inRange.flatMapTo(HashSet()) { it })
+        }
+
+        val candidates = candidateSets.minByOrNull { it.size } ?: pokemon.keys
+        return candidates.mapNotNull { uuid ->
+            val candidate = pokemon[uuid] ?: return@mapNotNull null
+            // Every set is checked again directly, which also covers anything the narrowest set didn't.
+            candidate.takeIf(query::matches)
+        }
+    }
+
+    /** Drops everything so that the index is rebuilt from the store on the next query. */
+    fun invalidate() {
+        stale = true
+    }
+
+    fun onSlotChanged(previous: Pokemon?, current: Pokemon?) {
+        if (stale) {
+            return
+        }
+        // Swaps set both slots one at a time, so the previous Pokémon may have already been put somewhere else.
+        if (previous != null && previous !== current && !isInStore(previous)) {
+            remove(previous.uuid)
+        }
+        if (current != null) {
+            remove(current.uuid)
+            add(current)
+        }
+    }
+
+    fun onPokemonChanged(changed: Pokemon) {
+        if (stale || changed.uuid !in pokemon) {
+            return
+        }
+        remove(changed.uuid)
+        add(changed)
+    }
+
+    private fun isInStore(pokemon: Pokemon): Boolean {
+        val coordinates = pokemon.storeCoordinates.get() ?: return false
+        val position = coordinates.position as? PCPosition ?: return false
+        return coordinates.store === store && store[position] === pokemon
+    }
+
+    private fun rebuild() {
+        pokemon.clear()
+        indexedKeys.clear()
+        bySpecies.clear()
+        byType.clear()
+        shiny.clear()
+        byAbility.clear()
+        byNature.clear()
+        byHeldItem.clear()
+        byLevel.clear()
+        store.boxes.forEach { box -> box.forEach(::add) }
+        stale = false
+    }
+
+    private fun add(added: Pokemon) {
+        val uuid = added.uuid
+        val heldItem = added.heldItemNoCopy().takeUnless { it.isEmpty }?.let { BuiltInRegistries.ITEM.getKey(it.item) }
+        val keys = IndexedKeys(
+            species = added.species.resourceIdentifier,
+            types = added.types.map { it.name.lowercase() },
+            ability = added.ability.name,
+            nature = added.nature.name,
+            heldItem = heldItem,
+            level = added.level
+        )
+        pokemon[uuid] = added
+        indexedKeys[uuid] = keys
+        bySpecies.getOrPut(keys.species) { HashSet() }.add(uuid)
+        keys.types.forEach { byType.getOrPut(it) { HashSet() }.add(uuid) }
+        if (added.shiny) shiny.add(uuid)
+        byAbility.getOrPut(keys.ability) { HashSet() }.add(uuid)
+        byNature.getOrPut(keys.nature) { HashSet() }.add(uuid)
+        keys.heldItem?.let { byHeldItem.getOrPut(it) { HashSet() }.add(uuid) }
+        byLevel.getOrPut(keys.level) { HashSet() }.add(uuid)
+    }
+
+    private fun remove(uuid: UUID) {
+        pokemon.remove(uuid) ?: return
+        val keys = indexedKeys.remove(uuid) ?: return
+        bySpecies.removeFrom(keys.species, uuid)
+        keys.types.forEach { byType.removeFrom(it, uuid) }
+        shiny.remove(uuid)
+        byAbility.removeFrom(keys.ability, uuid)
+        byNature.removeFrom(keys.nature, uuid)
+        keys.heldItem?.let { byHeldItem.removeFrom(it, uuid) }
+        byLevel.removeFrom(keys.level, uuid)
+    }
+
+    private fun <K> MutableMap<K, MutableSet<UUID>>.removeFrom(key: K, uuid: UUID) {
+        val set = this[key] ?: return
+        set.remove(uuid)
+        if (set.isEmpty()) {
+            this.remove(key)
+        }
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (C) 2023 Cobblemon Contributors
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.cobblemon.mod.common.api.storage.pc.search
+
+import com.cobblemon.mod.common.api.pokemon.PokemonProperties
+import com.cobblemon.mod.common.api.pokemon.PokemonSpecies
+import com.cobblemon.mod.common.pokemon.Pokemon
+import com.cobblemon.mod.common.util.asIdentifierDefaultingNamespace
+import net.minecraft.ResourceLocationException
+import net.minecraft.core.registries.BuiltInRegistries
+import net.minecraft.resources.ResourceLocation
+
+/**
+ * A server-side query over a [com.cobblemon.mod.common.api.storage.pc.PCStore], answered through its [PCSearchIndex].
+ * Every field that's set has to match. The [properties], if any, are checked against the Pokémon that the indexed
+ * fields narrowed things down to, so any property can be searched but only the indexed ones avoid testing every slot.
+ *
+ * @since October 19th, 2026
+ */
+data class PCSearchQuery(
+    val species: ResourceLocation? = null,
+    /** The name of an elemental type that the Pokémon must have, case-insensitive. */
+    val type: String? = null,
+    val shiny: Boolean? = null,
+    val ability: String? = null,
+    val nature: ResourceLocation? = null,
+    val heldItem: ResourceLocation? = null,
+    val levels: IntRange? = null,
+    val properties: PokemonProperties? = null
+) {
+    companion object {
+        /** Creates a query that finds the Pokémon matching the given properties, using the index wherever it can. */
+        fun of(properties: PokemonProperties): PCSearchQuery {
+            val species = properties.species?.takeIf { it != "random" }?.let {
+                try {
+                    PokemonSpecies.getByIdentifier(it.asIdentifierDefaultingNamespace())?.resourceIdentifier
+                } catch (e: ResourceLocationException) {
+                    null
+                }
+            }
+            return PCSearchQuery(
+                species = species,
+                type = properties.type,
+                shiny = properties.shiny,
+                ability = properties.ability,
+                nature = properties.nature?.let(ResourceLocation::tryParse),
+                levels = properties.level?.let { it..it },
+                properties = properties
+            )
+        }
+    }
+
+    fun matches(pokemon: Pokemon): Boolean {
+        species?.takeIf { it != pokemon.species.resourceIdentifier }?.let { return false }
+        type?.takeIf { pokemon.types.none { type -> type.name.equals(it, true) } }?.let { return false }
+        shiny?.takeIf { it != pokemon.shiny }?.let { return false }
+        ability?.takeIf { it != pokemon.ability.name }?.let { return false }
+        nature?.takeIf { it != pokemon.nature.name }?.let { return false }
+        heldItem?.takeIf { it != BuiltInRegistries.ITEM.getKey(pokemon.heldItemNoCopy().item) || pokemon.heldItemNoCopy().isEmpty }?.let { return false }
+        levels?.takeIf { pokemon.level !in it }?.let { return false }
+        return properties?.matches(pokemon) != false
+    }
+}
@@ -10,6 +10,7 @@ package com.cobblemon.mod.common.api.storage.pc.search
 
 import com.cobblemon.mod.common.api.pokemon.PokemonProperties
 import com.cobblemon.mod.common.pokemon.Pokemon
+import com.cobblemon.mod.common.pokemon.Species
 import java.util.HashSet
 import java.util.Locale
 import java.util.UUID
@@ -41,24 +42,12 @@ class Search(
                 filter = filter.lowercase(Locale.ROOT)
 
                 val pokemonFilter: PokemonFilter = when (filter) {
-                    "holding", "helditem", "held_item" -> PokemonFilter { pokemon -> !pokemon.heldItem().isEmpty }
+                    "holding", "helditem", "held_item" -> PokemonFilter { pokemon -> !pokemon.heldItemNoCopy().isEmpty }
                     "fainted" -> PokemonFilter { pokemon -> pokemon.isFainted() }
                     "legendary" -> PokemonFilter { pokemon -> pokemon.isLegendary() }
                     "mythical" -> PokemonFilter { pokemon -> pokemon.isMythical() }
                     "ultrabeast", "ultra_beast" -> PokemonFilter { pokemon -> pokemon.isUltraBeast() }
-                    else -> {
-                        PokemonFilter { pokemon ->
-                            if (filter.isEmpty()) {
-                                true
-                            } else {
-                                val species = pokemon.species.translatedName.string.lowercase(Locale.ROOT)
-                                val name = pokemon.getDisplayName().string.lowercase(Locale.ROOT)
-                                val props = PokemonProperties.parse(filter)
-
-                                species.contains(filter) || name.contains(filter) || (props.matches(pokemon) && props.asString().isNotEmpty())
-                            }
-                        }
-                    }
+                    else -> if (filter.isEmpty()) PokemonFilter { true } else TermFilter(filter)
                 }
 
                 if (inverted) {
@@ -82,4 +71,19 @@ class Search(
         set.add(uuid)
         return passes
     }
-}
\ No newline at end of file
+}
+
+/**
+ * Matches a search term against the species and display names, or as [PokemonProperties]. Everything that doesn't
+ * depend on the Pokémon being tested is worked out once when the search is created rather than on every test.
+ */
+private class TermFilter(private val term: String) : PokemonFilter {
+    private val properties = PokemonProperties.parse(term).takeIf { it.asString().isNotEmpty() }
+    private val speciesMatches = HashMap<Species, Boolean>()
+
+    override fun test(pokemon: Pokemon): Boolean {
+        return speciesMatches.getOrPut(pokemon.species) { pokemon.species.translatedName.string.lowercase(Locale.ROOT).contains(term) }
+                || pokemon.getDisplayName().string.lowercase(Locale.ROOT).contains(term)
+                || properties?.matches(pokemon) == true
+    }
+}
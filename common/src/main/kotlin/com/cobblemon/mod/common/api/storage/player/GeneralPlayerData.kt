@@ -32,6 +32,26 @@ data class GeneralPlayerData(
 ) : InstancedPlayerData {
     var advancementData: PlayerAdvancementData = PlayerAdvancementData()
 
+    /** Flags this data as changed, for storage that only writes data that changed on its periodic saves. */
+    fun markDirty() {
+        Cobblemon.playerDataManager.markDirty(this, PlayerInstancedDataStoreTypes.GENERAL)
+    }
+
+    /**
+     * Fills in properties that are missing from data saved by older versions. Gson skips Kotlin's null checks, so
+     * these can be null despite their types.
+     */
+    @Suppress("SENSELESS_COMPARISON")
+    fun fillMissingData(defaults: () -> GeneralPlayerData) {
+        if (keyItems != null && battleTheme != null && advancementData != null) {
+            return
+        }
+        val defaultData = defaults()
+        if (keyItems == null) keyItems = defaultData.keyItems
+        if (battleTheme == null) battleTheme = defaultData.battleTheme
+        if (advancementData == null) advancementData = defaultData.advancementData
+    }
+
     fun sendToPlayer(player: ServerPlayer) {
         player.sendPacket(SetClientPlayerDataPacket(PlayerInstancedDataStoreTypes.GENERAL, this.toClientData()))
     }
@@ -41,6 +61,7 @@ data class GeneralPlayerData(
         Cobblemon.config.defaultKeyItems.forEach {
             if (!keyItems.contains(it)) {
                 keyItems.add(it)
+                markDirty()
             }
         }
     }
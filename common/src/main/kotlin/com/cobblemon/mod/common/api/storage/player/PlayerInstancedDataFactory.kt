@@ -28,6 +28,9 @@ interface PlayerInstancedDataFactory<T : InstancedPlayerData> {
 
     fun getForPlayer(playerId: UUID) : T
 
+    /** Flags the player's data as changed, for factories whose [saveAll] only writes data that changed. */
+    fun markDirty(playerId: UUID) {}
+
     fun saveAll()
 
     fun saveSingle(player: Player) {
@@ -93,6 +93,10 @@ open class PlayerInstancedDataStoreManager {
         return factories[dataType]!!.saveSingle(playerData.uuid)
     }
 
+    open fun markDirty(playerData: InstancedPlayerData, dataType: PlayerInstancedDataStoreType) {
+        factories[dataType]?.markDirty(playerData.uuid)
+    }
+
     open fun onPlayerDisconnect(player: ServerPlayer) {
         factories.values.forEach {
             it.onPlayerDisconnect(player)
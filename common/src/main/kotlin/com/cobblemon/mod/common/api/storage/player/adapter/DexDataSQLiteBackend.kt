@@ -0,0 +1,33 @@
+/*
+ * Copyright (C) 2023 Cobblemon Contributors
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.cobblemon.mod.common.api.storage.player.adapter
+
+import com.cobblemon.mod.common.api.pokedex.PokedexManager
+import com.cobblemon.mod.common.api.storage.adapter.database.SQLiteDatabase
+import com.cobblemon.mod.common.api.storage.player.PlayerInstancedDataStoreTypes
+import com.cobblemon.mod.common.util.adapters.CodecBackedAdapter
+import com.google.gson.GsonBuilder
+import com.google.gson.reflect.TypeToken
+
+/**
+ * A [PlayerDataStoreBackend] for [PokedexManager]
+ *
+ * @since October 19th, 2026
+ */
+class DexDataSQLiteBackend(database: SQLiteDatabase) : SQLiteBackedPlayerDataStoreBackend<PokedexManager>(
+    database, PlayerInstancedDataStoreTypes.POKEDEX
+) {
+    override val gson = GsonBuilder()
+        .disableHtmlEscaping()
+        .registerTypeAdapter(PokedexManager::class.java, CodecBackedAdapter(PokedexManager.CODEC))
+        .create()
+    override val classToken = TypeToken.get(PokedexManager::class.java)
+    override val defaultData = DexDataJsonBackend.defaultDataFunc
+    override val legacyBackends = listOf(DexDataNbtBackend(), DexDataJsonBackend())
+}
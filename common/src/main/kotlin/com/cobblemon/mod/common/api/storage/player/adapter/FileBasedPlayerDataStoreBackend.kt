@@ -37,6 +37,12 @@ abstract class FileBasedPlayerDataStoreBackend<T : InstancedPlayerData>(
         savePath = server.getWorldPath(LevelResource.PLAYER_DATA_DIR).parent
     }
 
+    /**
+     * Reads the player data in the given file, throwing if it can't be read. Unlike [load], this never falls back to
+     * another file or writes anything.
+     */
+    abstract fun decode(file: File, uuid: UUID): T
+
     protected fun postSaveFileMoving(uuid: UUID) {
         val tempFile = filePath(uuid, TEMPORARY_FILE_EXTENSION)
         val oldFile = filePath(uuid, OLD_FILE_EXTENSION)
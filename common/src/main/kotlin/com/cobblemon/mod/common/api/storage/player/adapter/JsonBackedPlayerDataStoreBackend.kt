@@ -13,9 +13,8 @@ import com.cobblemon.mod.common.api.storage.player.InstancedPlayerData
 import com.cobblemon.mod.common.api.storage.player.PlayerInstancedDataStoreType
 import com.google.gson.Gson
 import com.google.gson.reflect.TypeToken
+import java.io.File
 import java.util.UUID
-import kotlin.reflect.KMutableProperty
-import kotlin.reflect.full.memberProperties
 
 abstract class JsonBackedPlayerDataStoreBackend<T : InstancedPlayerData>(
     subfolder: String,
@@ -36,17 +35,12 @@ abstract class JsonBackedPlayerDataStoreBackend<T : InstancedPlayerData>(
     }
 
     override fun load(uuid: UUID): T {
-        return loadWithFallback(uuid) {
-            it.reader().use { reader ->
-                gson.fromJson(reader, classToken).also {
-                    // Resolves old data that's missing new properties
-                    val newProps = it::class.memberProperties.filterIsInstance<KMutableProperty<*>>().filter { member -> member.getter.call(it) == null }
-                    if (newProps.isNotEmpty()) {
-                        val defaultData = defaultData(uuid)
-                        newProps.forEach { member -> member.setter.call(it, member.getter.call(defaultData)) }
-                    }
-                }
-            }
+        return loadWithFallback(uuid) { decode(it, uuid) }
+    }
+
+    override fun decode(file: File, uuid: UUID): T {
+        return file.reader().use { reader ->
+            gson.fromJson(reader, classToken).also { fillMissingData(it, uuid) }
         }
     }
 }
\ No newline at end of file
@@ -16,8 +16,6 @@ import com.google.gson.reflect.TypeToken
 import com.mongodb.client.MongoClient
 import com.mongodb.client.model.ReplaceOptions
 import java.util.UUID
-import kotlin.reflect.KMutableProperty
-import kotlin.reflect.full.memberProperties
 import org.bson.Document
 
 abstract class MongoBackedPlayerDataStoreBackend<T : InstancedPlayerData>(
@@ -45,14 +43,7 @@ abstract class MongoBackedPlayerDataStoreBackend<T : InstancedPlayerData>(
 
         return if (document != null) {
             val jsonStr = document.toJson()
-            gson.fromJson(jsonStr, classToken).also {
-                val newProps = it::class.memberProperties.filterIsInstance<KMutableProperty<*>>()
-                    .filter { member -> member.getter.call(it) == null }
-                if (newProps.isNotEmpty()) {
-                    val defaultData = defaultData(uuid)
-                    newProps.forEach { member -> member.setter.call(it, member.getter.call(defaultData)) }
-                }
-            }
+            gson.fromJson(jsonStr, classToken).also { fillMissingData(it, uuid) }
         } else {
             defaultData(uuid).also(::save)
         }
@@ -16,6 +16,7 @@ import net.minecraft.nbt.CompoundTag
 import net.minecraft.nbt.NbtIo
 import net.minecraft.nbt.NbtOps
 import java.io.DataOutputStream
+import java.io.File
 import java.io.FileOutputStream
 import java.util.UUID
 
@@ -37,14 +38,16 @@ abstract class NbtBackedPlayerData<T : InstancedPlayerData>(
     }
 
     override fun load(uuid: UUID): T {
-        return loadWithFallback(uuid) {
-            val input = NbtIo.read(it.toPath())
-            val decodeResult = codec.decode(NbtOps.INSTANCE, input)
-            decodeResult.getOrThrow {
-                Cobblemon.LOGGER.error("Error decoding $subfolder for player uuid $uuid")
-                Cobblemon.LOGGER.error(it)
-                throw UnsupportedOperationException()
-            }.first
-        }
+        return loadWithFallback(uuid) { decode(it, uuid) }
+    }
+
+    override fun decode(file: File, uuid: UUID): T {
+        val input = NbtIo.read(file.toPath())
+        val decodeResult = codec.decode(NbtOps.INSTANCE, input)
+        return decodeResult.getOrThrow {
+            Cobblemon.LOGGER.error("Error decoding $subfolder for player uuid $uuid")
+            Cobblemon.LOGGER.error(it)
+            throw UnsupportedOperationException()
+        }.first
     }
 }
\ No newline at end of file
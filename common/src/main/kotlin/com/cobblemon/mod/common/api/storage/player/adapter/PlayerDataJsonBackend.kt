@@ -28,16 +28,7 @@ import java.util.UUID
 class PlayerDataJsonBackend: JsonBackedPlayerDataStoreBackend<GeneralPlayerData>(
     "cobblemonplayerdata", PlayerInstancedDataStoreTypes.GENERAL
 ){
-    override val defaultData = { forPlayer: UUID -> GeneralPlayerData(
-        uuid = forPlayer,
-        starterPrompted = false,
-        starterLocked = !Cobblemon.starterConfig.allowStarterOnJoin,
-        starterSelected =  false,
-        starterUUID =  null,
-        keyItems = Cobblemon.config.defaultKeyItems,
-        extraData = mutableMapOf(),
-        battleTheme = CobblemonSounds.PVP_BATTLE.location
-    )}
+    override val defaultData = defaultDataFunc
 
     override val gson = GsonBuilder()
         .setPrettyPrinting()
@@ -47,4 +38,21 @@ class PlayerDataJsonBackend: JsonBackedPlayerDataStoreBackend<GeneralPlayerData>
         .create()
 
     override val classToken = TypeToken.get(GeneralPlayerData::class.java)
-}
\ No newline at end of file
+
+    override fun fillMissingData(playerData: GeneralPlayerData, uuid: UUID) {
+        playerData.fillMissingData { defaultData(uuid) }
+    }
+
+    companion object {
+        val defaultDataFunc = { forPlayer: UUID -> GeneralPlayerData(
+            uuid = forPlayer,
+            starterPrompted = false,
+            starterLocked = !Cobblemon.starterConfig.allowStarterOnJoin,
+            starterSelected =  false,
+            starterUUID =  null,
+            keyItems = Cobblemon.config.defaultKeyItems,
+            extraData = mutableMapOf(),
+            battleTheme = CobblemonSounds.PVP_BATTLE.location
+        )}
+    }
+}
@@ -46,4 +46,8 @@ class PlayerDataMongoBackend(mongoClient: MongoClient, databaseName: String, col
         .create()
 
     override val classToken = TypeToken.get(GeneralPlayerData::class.java)
-}
\ No newline at end of file
+
+    override fun fillMissingData(playerData: GeneralPlayerData, uuid: UUID) {
+        playerData.fillMissingData { defaultData(uuid) }
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright (C) 2023 Cobblemon Contributors
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.cobblemon.mod.common.api.storage.player.adapter
+
+import com.cobblemon.mod.common.api.storage.adapter.database.SQLiteDatabase
+import com.cobblemon.mod.common.api.storage.player.GeneralPlayerData
+import com.cobblemon.mod.common.api.storage.player.PlayerDataExtension
+import com.cobblemon.mod.common.api.storage.player.PlayerInstancedDataStoreTypes
+import com.cobblemon.mod.common.util.adapters.IdentifierAdapter
+import com.google.gson.GsonBuilder
+import com.google.gson.reflect.TypeToken
+import net.minecraft.resources.ResourceLocation
+import java.util.UUID
+
+/**
+ * A [PlayerDataStoreBackend] for [GeneralPlayerData]
+ *
+ * @since October 19th, 2026
+ */
+class PlayerDataSQLiteBackend(database: SQLiteDatabase) : SQLiteBackedPlayerDataStoreBackend<GeneralPlayerData>(
+    database, PlayerInstancedDataStoreTypes.GENERAL
+) {
+    override val defaultData = PlayerDataJsonBackend.defaultDataFunc
+    override val legacyBackends = listOf(PlayerDataJsonBackend())
+
+    override val gson = GsonBuilder()
+        .disableHtmlEscaping()
+        .registerTypeAdapter(PlayerDataExtension::class.java, PlayerDataExtensionAdapter)
+        .registerTypeAdapter(ResourceLocation::class.java, IdentifierAdapter)
+        .create()
+
+    override val classToken = TypeToken.get(GeneralPlayerData::class.java)
+
+    override fun fillMissingData(playerData: GeneralPlayerData, uuid: UUID) {
+        playerData.fillMissingData { defaultData(uuid) }
+    }
+}
@@ -21,5 +21,8 @@ abstract class PlayerDataStoreBackend<T : InstancedPlayerData>(val dataType: Pla
     abstract fun save(playerData: T)
     open fun initialize(store: T) {}
 
+    /** Fills in anything missing from data that was saved by an older version, before it is initialized. */
+    open fun fillMissingData(playerData: T, uuid: UUID) {}
+
     abstract fun setup(server: MinecraftServer)
 }
\ No newline at end of file
@@ -0,0 +1,95 @@
+/*
+ * Copyright (C) 2023 Cobblemon Contributors
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.cobblemon.mod.common.api.storage.player.adapter
+
+import com.cobblemon.mod.common.Cobblemon
+import com.cobblemon.mod.common.api.storage.adapter.database.SQLiteDatabase
+import com.cobblemon.mod.common.api.storage.player.InstancedPlayerData
+import com.cobblemon.mod.common.api.storage.player.PlayerInstancedDataStoreType
+import com.google.gson.Gson
+import com.google.gson.reflect.TypeToken
+import java.util.UUID
+import net.minecraft.server.MinecraftServer
+
+/**
+ * A [PlayerDataStoreBackend] that stores the [InstancedPlayerData] as JSON in the same [SQLiteDatabase] as the
+ * Pokémon stores, keyed by player UUID and data type.
+ *
+ * Players that aren't in the database yet are migrated from the flat files of the [legacyBackends] on first load, in
+ * the same way that [com.cobblemon.mod.common.api.storage.adapter.database.SQLiteStoreAdapter] migrates stores.
+ *
+ * @since October 19th, 2026
+ */
+abstract class SQLiteBackedPlayerDataStoreBackend<T : InstancedPlayerData>(
+    val database: SQLiteDatabase,
+    val type: PlayerInstancedDataStoreType
+) : PlayerDataStoreBackend<T>(type) {
+    abstract val gson: Gson
+    //The class GSON needs to deserialize to
+    abstract val classToken: TypeToken<T>
+    abstract val defaultData: (UUID) -> (T)
+    /** The flat file backends this data would have been saved by before, checked in order when migrating. */
+    open val legacyBackends: List<FileBasedPlayerDataStoreBackend<T>> = emptyList()
+
+    override fun setup(server: MinecraftServer) {
+        legacyBackends.forEach { it.setup(server) }
+        database.use { connection ->
+            connection.createStatement().use {
+                it.execute("CREATE TABLE IF NOT EXISTS player_data (uuid TEXT NOT NULL, type TEXT NOT NULL, data TEXT NOT NULL, PRIMARY KEY (uuid, type))")
+            }
+        }
+    }
+
+    override fun save(playerData: T) {
+        val json = gson.toJson(playerData)
+        Cobblemon.playerDataManager.saveExecutor.execute {
+            database.use { connection ->
+                connection.prepareStatement("INSERT OR REPLACE INTO player_data (uuid, type, data) VALUES (?, ?, ?)").use {
+                    it.setString(1, playerData.uuid.toString())
+                    it.setString(2, type.id.toString())
+                    it.setString(3, json)
+                    it.executeUpdate()
+                }
+            }
+        }
+    }
+
+    override fun load(uuid: UUID): T {
+        val json = database.use { connection ->
+            connection.prepareStatement("SELECT data FROM player_data WHERE uuid = ? AND type = ?").use {
+                it.setString(1, uuid.toString())
+                it.setString(2, type.id.toString())
+                it.executeQuery().use { results -> if (results.next()) results.getString(1) else null }
+            }
+        }
+
+        return if (json != null) {
+            gson.fromJson(json, classToken).also { fillMissingData(it, uuid) }
+        } else {
+            // Fall back to flat files, moving the data into the database if found
+            (legacyBackends.firstNotNullOfOrNull { loadLegacy(it, uuid) } ?: defaultData(uuid)).also(::save)
+        }.also { it.initialize() }
+    }
+
+    /** Reads the player's data from the backend's file, or its .old file if that can't be read, without changing either. */
+    private fun loadLegacy(backend: FileBasedPlayerDataStoreBackend<T>, uuid: UUID): T? {
+        val files = listOf(backend.filePath(uuid), backend.filePath(uuid, FileBasedPlayerDataStoreBackend.OLD_FILE_EXTENSION))
+        for (file in files) {
+            if (!file.exists() || file.length() == 0L) {
+                continue
+            }
+            try {
+                return backend.decode(file, uuid).also { fillMissingData(it, uuid) }
+            } catch (e: Exception) {
+                Cobblemon.LOGGER.error("Failed to migrate ${file.path} for $uuid", e)
+            }
+        }
+        return null
+    }
+}
@@ -47,8 +47,12 @@ class ClientPokedexManager(
 
         fun runIncremental(data: ClientInstancedPlayerData) {
             if (data !is ClientPokedexManager) return
-            CobblemonClient.clientPokedexData.speciesRecords.putAll(data.speciesRecords)
-            CobblemonClient.clientPokedexData.clearCalculatedValues()
+            val pokedex = CobblemonClient.clientPokedexData
+            data.speciesRecords.forEach { (speciesId, record) ->
+                val previousKnowledge = pokedex.getKnowledgeForSpecies(speciesId)
+                pokedex.speciesRecords[speciesId] = record
+                pokedex.updateCalculatedValues(speciesId, previousKnowledge, record.getKnowledge())
+            }
         }
     }
 }
\ No newline at end of file
@@ -20,11 +20,19 @@ import net.minecraft.server.level.ServerPlayer
 import java.util.UUID
 
 /**
- * A type of data store that keeps a cache, entries are evicted when the cached player disconnects from the server
+ * A type of data store that keeps a cache, entries are evicted when the cached player disconnects from the server.
+ *
+ * Periodic saves write every cached entry unless [saveOnlyDirty] is set, in which case they only write the entries that
+ * have been flagged through [markDirty] since they were last saved. Only turn that on for data types that flag every
+ * change they make, including changes made by other mods.
  */
-class CachedPlayerDataStoreFactory<T : InstancedPlayerData>(val backend: PlayerDataStoreBackend<T>) : PlayerInstancedDataFactory<T> {
+class CachedPlayerDataStoreFactory<T : InstancedPlayerData>(
+    val backend: PlayerDataStoreBackend<T>,
+    val saveOnlyDirty: Boolean = false
+) : PlayerInstancedDataFactory<T> {
 
     private val cache = mutableMapOf<UUID, T>()
+    private val dirty = mutableSetOf<UUID>()
 
     override fun setup(server: MinecraftServer) {
         backend.setup(server);
@@ -40,14 +48,22 @@ class CachedPlayerDataStoreFactory<T : InstancedPlayerData>(val backend: PlayerD
         }
     }
 
-
+    override fun markDirty(playerId: UUID) {
+        dirty.add(playerId)
+    }
 
     override fun saveAll() {
-        cache.forEach { (_, pd) -> backend.save(pd) }
+        if (saveOnlyDirty) {
+            dirty.forEach { uuid -> cache[uuid]?.let(backend::save) }
+        } else {
+            cache.values.forEach(backend::save)
+        }
+        dirty.clear()
         cache.removeIf { (uuid, _) -> uuid.getPlayer() == null }
     }
 
     override fun saveSingle(playerId: UUID) {
+        dirty.remove(playerId)
         backend.save(getForPlayer(playerId))
     }
 
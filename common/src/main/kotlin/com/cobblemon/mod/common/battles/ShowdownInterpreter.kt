@@ -20,6 +20,7 @@ import com.cobblemon.mod.common.battles.dispatch.InterpreterInstruction
 import com.cobblemon.mod.common.battles.interpreter.ContextManager
 import com.cobblemon.mod.common.battles.interpreter.instructions.*
 import com.cobblemon.mod.common.battles.pokemon.BattlePokemon
+import com.cobblemon.mod.common.net.BattlePacketBundler
 import com.cobblemon.mod.common.util.battleLang
 import com.cobblemon.mod.common.util.runOnServer
 import net.minecraft.world.level.ClipContext
@@ -159,7 +160,7 @@ object ShowdownInterpreter {
 
         runOnServer {
             battle.showdownMessages.add(message)
-            interpret(battle, message)
+            BattlePacketBundler.bundling { interpret(battle, message) }
         }
     }
 
@@ -102,6 +102,11 @@ class PokemonClientDelegate : PosableState(), PokemonSideDelegate {
     private var scaleAnimTask: ScheduledTask? = null
     private var cryAnimation: ActiveAnimation? = null
 
+    /** What the server has for the riding state as of the last changes sent to it, or null if it needs all of it. */
+    private var serverRidingState: RidingBehaviourState? = null
+    private var serverRidingBehaviour: ResourceLocation? = null
+    private var ticksSinceFullRidingSync = 0
+
     override fun onSyncedDataUpdated(data: EntityDataAccessor<*>) {
         super.onSyncedDataUpdated(data)
         if (this::currentEntity.isInitialized) {
@@ -398,12 +403,28 @@ class PokemonClientDelegate : PosableState(), PokemonSideDelegate {
 
     private fun sendRidingChanges(entity: PokemonEntity) {
         val player = Minecraft.getInstance().player ?: return
-        if (entity.controllingPassenger != player) return
+        if (entity.controllingPassenger != player) {
+            serverRidingState = null
+            return
+        }
         entity.ifRidingAvailable { behaviour, _, state ->
-            if (entity.previousRidingState != null && !state.shouldSync(entity.previousRidingState!!)) {
+            var previous = serverRidingState
+            if (serverRidingBehaviour != behaviour.key || ++ticksSinceFullRidingSync >= RidingBehaviourState.FULL_SYNC_TICKS) {
+                previous = null
+            }
+            if (previous != null && !state.shouldSync(previous)) {
                 return@ifRidingAvailable
             }
-            CobblemonNetwork.sendToServer(ServerboundUpdateRidingStatePacket(entity.id, behaviour.key, state))
+            val changes = state.encodeChanges(previous)
+            CobblemonNetwork.sendToServer(ServerboundUpdateRidingStatePacket(entity.id, behaviour.key, changes))
+            if (previous == null) {
+                previous = state.copy()
+                ticksSinceFullRidingSync = 0
+            }
+            // Applying the same changes the server will keeps this matching what it has, quantization included.
+            previous.decodeChanges(changes)
+            serverRidingState = previous
+            serverRidingBehaviour = behaviour.key
         }
     }
 
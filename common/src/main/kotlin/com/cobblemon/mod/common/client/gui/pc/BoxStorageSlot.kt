@@ -24,6 +24,9 @@ class BoxStorageSlot(
         return pc.get(position)
     }
 
+    /** Whether the Pokémon here is real, rather than a placeholder whose moves and stats haven't been sent yet. */
+    fun isLoaded() = pc.isLoaded(position)
+
     override fun shouldRender(): Boolean {
         if (!super.shouldRender()) return false
 
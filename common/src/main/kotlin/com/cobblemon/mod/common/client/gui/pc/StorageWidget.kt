@@ -89,6 +89,7 @@ class StorageWidget(
 
             CobblemonClient.lastPcBoxViewed = field
             this.setupStorageSlots()
+            pc.requestBoxesAround(field)
         }
 
     init {
@@ -308,7 +309,7 @@ class StorageWidget(
                 slot.render(context, mouseX, mouseY, delta)
                 val pokemon = slot.getPokemon()
                 if (grabbedSlot == null && slot.isHovered(mouseX, mouseY)
-                    && pokemon != null && pokemon != pcGui.previewPokemon
+                    && pokemon != null && pokemon != pcGui.previewPokemon && slot.isLoaded()
                 ) {
                     pcGui.setPreviewPokemon(pokemon, pcGui.isPreviewInParty ?: false)
                     pcGui.isPreviewInParty = false
@@ -388,6 +389,11 @@ class StorageWidget(
             else -> null
         }
 
+        // Placeholders only know enough to draw their icon, so they can't be looked at or moved until the box arrives.
+        if (clickedPokemon != null && button is BoxStorageSlot && !button.isLoaded()) {
+            return
+        }
+
         val selectOverride = pcGui.configuration.selectOverride
         if (selectOverride != null) {
             selectOverride(pcGui, clickedPosition, clickedPokemon)
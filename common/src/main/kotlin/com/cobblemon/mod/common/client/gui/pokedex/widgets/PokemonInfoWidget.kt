@@ -153,7 +153,7 @@ class PokemonInfoWidget(val pX: Int, val pY: Int, val updateForm: (PokedexForm)
             button.active = getPossibleAspects().size > 1
         }
 
-        fun getPossibleAspects() = variation.aspects.filter { it == "" || it in (CobblemonClient.clientPokedexData.getSpeciesRecord(parent.currentEntry?.speciesId ?: return@filter false)?.getAspects() ?: emptySet()) }
+        fun getPossibleAspects() = variation.aspects.filter { it == "" || CobblemonClient.clientPokedexData.getSpeciesRecord(parent.currentEntry?.speciesId ?: return@filter false)?.hasAspect(it) == true }
 
         fun getMaxStateIndex() = getPossibleAspects().size - 1
 
@@ -0,0 +1,22 @@
+/*
+ * Copyright (C) 2023 Cobblemon Contributors
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.cobblemon.mod.common.client.net
+
+import com.cobblemon.mod.common.api.net.ClientNetworkPacketHandler
+import com.cobblemon.mod.common.net.AspectDictionary
+import com.cobblemon.mod.common.net.messages.client.AspectDictionaryPacket
+import net.minecraft.client.Minecraft
+
+object AspectDictionaryHandler : ClientNetworkPacketHandler<AspectDictionaryPacket> {
+    override fun handle(packet: AspectDictionaryPacket, client: Minecraft) {
+        // Already done while decoding so that entity data decoded right after can use the IDs. Adding them again
+        // covers packets that were never encoded, such as on a memory connection, and changes nothing otherwise.
+        AspectDictionary.receive(packet.firstId, packet.aspects)
+    }
+}
@@ -0,0 +1,19 @@
+/*
+ * Copyright (C) 2023 Cobblemon Contributors
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.cobblemon.mod.common.client.net.battle
+
+import com.cobblemon.mod.common.api.net.ClientNetworkPacketHandler
+import com.cobblemon.mod.common.net.messages.client.battle.BattleUpdateBundlePacket
+import net.minecraft.client.Minecraft
+
+object BattleUpdateBundleHandler : ClientNetworkPacketHandler<BattleUpdateBundlePacket> {
+    override fun handle(packet: BattleUpdateBundlePacket, client: Minecraft) {
+        packet.packets.forEach { BattleUpdateBundlePacket.typeOf(it).handleOnClient(it, client) }
+    }
+}
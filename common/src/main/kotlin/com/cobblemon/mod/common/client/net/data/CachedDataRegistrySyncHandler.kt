@@ -0,0 +1,43 @@
+/*
+ * Copyright (C) 2023 Cobblemon Contributors
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.cobblemon.mod.common.client.net.data
+
+import com.cobblemon.mod.common.Cobblemon.LOGGER
+import com.cobblemon.mod.common.CobblemonNetwork
+import com.cobblemon.mod.common.api.net.ClientNetworkPacketHandler
+import com.cobblemon.mod.common.client.persisted.DataRegistryCache
+import com.cobblemon.mod.common.net.messages.client.data.CachedDataRegistrySyncPacket
+import com.cobblemon.mod.common.net.messages.client.data.DataRegistrySyncPacket
+import com.cobblemon.mod.common.util.lang
+import io.netty.buffer.Unpooled
+import net.minecraft.client.Minecraft
+import net.minecraft.network.RegistryFriendlyByteBuf
+
+object CachedDataRegistrySyncHandler : ClientNetworkPacketHandler<CachedDataRegistrySyncPacket> {
+    override fun handle(packet: CachedDataRegistrySyncPacket, client: Minecraft) {
+        val bytes = DataRegistryCache.take(client, packet.packetId, packet.hash)
+        if (bytes == null) {
+            // This is handled on the network thread, so disconnecting here stops anything that needs the registry from
+            // being decoded without it. The server sees the sync was never answered and sends everything next time.
+            LOGGER.warn("Cached entries for {} are missing, disconnecting so that they're sent in full", packet.packetId)
+            client.connection?.connection?.disconnect(lang("registry_cache.missing"))
+            return
+        }
+        val info = CobblemonNetwork.s2cPayloads.first { it.id == packet.packetId }
+        val buffer = RegistryFriendlyByteBuf(Unpooled.buffer(bytes.size + 4), client.connection!!.registryAccess())
+        try {
+            // Rebuild the packet as it would have arrived so that it goes through the same decoding.
+            buffer.writeInt(bytes.size)
+            buffer.writeBytes(bytes)
+            DataRegistrySyncPacketHandler.synchronize(info.decoder(buffer) as DataRegistrySyncPacket<*, *>)
+        } finally {
+            buffer.release()
+        }
+    }
+}
@@ -0,0 +1,21 @@
+/*
+ * Copyright (C) 2023 Cobblemon Contributors
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.cobblemon.mod.common.client.net.data
+
+import com.cobblemon.mod.common.api.net.ClientNetworkPacketHandler
+import com.cobblemon.mod.common.client.persisted.DataRegistryCache
+import com.cobblemon.mod.common.net.messages.client.data.DataRegistryCacheQueryPacket
+import com.cobblemon.mod.common.net.messages.server.data.DataRegistryCacheContentsPacket
+import net.minecraft.client.Minecraft
+
+object DataRegistryCacheQueryHandler : ClientNetworkPacketHandler<DataRegistryCacheQueryPacket> {
+    override fun handle(packet: DataRegistryCacheQueryPacket, client: Minecraft) {
+        DataRegistryCacheContentsPacket(DataRegistryCache.getHashes(client)).sendToServer()
+    }
+}
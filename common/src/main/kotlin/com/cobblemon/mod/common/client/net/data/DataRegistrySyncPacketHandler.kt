@@ -9,20 +9,31 @@
 package com.cobblemon.mod.common.client.net.data
 
 import com.cobblemon.mod.common.api.net.ClientNetworkPacketHandler
+import com.cobblemon.mod.common.client.persisted.DataRegistryCache
 import com.cobblemon.mod.common.net.messages.client.data.DataRegistrySyncPacket
+import io.netty.buffer.ByteBufUtil
 import net.minecraft.client.Minecraft
 import net.minecraft.network.RegistryFriendlyByteBuf
 
 class DataRegistrySyncPacketHandler<P, T : DataRegistrySyncPacket<P, T>> : ClientNetworkPacketHandler<T> {
     override fun handle(packet: T, client: Minecraft) {
         val buffer = requireNotNull(packet.buffer) { "Buffer missing on DataRegistrySyncPacket" }
+        DataRegistryCache.store(client, packet.id, ByteBufUtil.getBytes(buffer))
+        synchronize(packet)
+    }
+
+    companion object {
+        /** Decodes the entries in a received packet and hands them to its registry, whether it came from the server or the cache. */
+        fun <P> synchronize(packet: DataRegistrySyncPacket<P, *>) {
+            val buffer = requireNotNull(packet.buffer) { "Buffer missing on DataRegistrySyncPacket" }
 
-        packet.entries.clear()
-        packet.entries.addAll(buffer.readList { buf ->
-            val entry = packet.decodeEntry(buf as RegistryFriendlyByteBuf)
-            entry
-        }.filterNotNull())
-        buffer.release()
-        packet.synchronizeDecoded(packet.entries)
+            packet.entries.clear()
+            packet.entries.addAll(buffer.readList { buf ->
+                val entry = packet.decodeEntry(buf as RegistryFriendlyByteBuf)
+                entry
+            }.filterNotNull())
+            buffer.release()
+            packet.synchronizeDecoded(packet.entries)
+        }
     }
-}
\ No newline at end of file
+}
@@ -20,11 +20,10 @@ object ClientboundUpdateRidingStateHandler : ClientNetworkPacketHandler<Clientbo
             val entity = player.level().getEntity(packet.entity) ?: return@executeIfPossible
             if (entity !is PokemonEntity) return@executeIfPossible
             if (entity.controllingPassenger == player) return@executeIfPossible
-            val buffer = packet.data ?: return@executeIfPossible
             if (entity.ridingController?.context?.settings?.key != packet.behaviour) {
                 entity.ridingController?.changeBehaviour(packet.behaviour)
             }
-            entity.ridingController?.context?.state?.decode(buffer)
+            entity.ridingController?.context?.state?.decodeChanges(packet.changes)
         }
     }
 }
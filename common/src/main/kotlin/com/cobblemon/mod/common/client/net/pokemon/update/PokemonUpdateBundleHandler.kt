@@ -0,0 +1,19 @@
+/*
+ * Copyright (C) 2023 Cobblemon Contributors
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.cobblemon.mod.common.client.net.pokemon.update
+
+import com.cobblemon.mod.common.api.net.ClientNetworkPacketHandler
+import com.cobblemon.mod.common.net.messages.client.pokemon.update.PokemonUpdateBundlePacket
+import net.minecraft.client.Minecraft
+
+object PokemonUpdateBundleHandler : ClientNetworkPacketHandler<PokemonUpdateBundlePacket> {
+    override fun handle(packet: PokemonUpdateBundlePacket, client: Minecraft) {
+        packet.groups.forEach { group -> group.updates.forEach { it.applyToPokemon() } }
+    }
+}
@@ -22,6 +22,7 @@ object SetPCBoxHandler : ClientNetworkPacketHandler<SetPCBoxPacket> {
             while (pc.boxes.size <= boxNumber) { pc.boxes.add(ClientBox()) }
             pc.boxes[boxNumber] = ClientBox(if (packet.name.isBlank()) null else Component.literal(packet.name), packet.wallpaper)
             packet.pokemon.forEach { (slot, pokemon) -> pc.boxes[packet.boxNumber].slots[slot] = pokemon(client.level!!.registryAccess()) }
+            pc.requestedBoxes.remove(boxNumber)
         }
     }
 }
\ No newline at end of file
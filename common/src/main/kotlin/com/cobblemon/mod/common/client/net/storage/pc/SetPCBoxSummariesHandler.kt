@@ -0,0 +1,32 @@
+/*
+ * Copyright (C) 2023 Cobblemon Contributors
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.cobblemon.mod.common.client.net.storage.pc
+
+import com.cobblemon.mod.common.api.net.ClientNetworkPacketHandler
+import com.cobblemon.mod.common.client.CobblemonClient
+import com.cobblemon.mod.common.client.storage.ClientBox
+import com.cobblemon.mod.common.net.messages.client.storage.pc.SetPCBoxSummariesPacket
+import net.minecraft.client.Minecraft
+import net.minecraft.network.chat.Component
+
+object SetPCBoxSummariesHandler : ClientNetworkPacketHandler<SetPCBoxSummariesPacket> {
+    override fun handle(packet: SetPCBoxSummariesPacket, client: Minecraft) {
+        val pc = CobblemonClient.storage.pcStores[packet.storeID] ?: return
+        packet.boxes.forEachIndexed { index, summary ->
+            val boxNumber = packet.firstBox + index
+            while (pc.boxes.size <= boxNumber) { pc.boxes.add(ClientBox()) }
+            // A box with nothing in it is complete as it is, so the server won't be sending it.
+            val box = ClientBox(if (summary.name.isBlank()) null else Component.literal(summary.name), summary.wallpaper)
+            box.loaded = summary.pokemon.isEmpty()
+            summary.pokemon.forEach { (slot, pokemon) -> box.slots[slot] = pokemon.toPlaceholder() }
+            pc.boxes[boxNumber] = box
+            pc.requestedBoxes.remove(boxNumber)
+        }
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright (C) 2023 Cobblemon Contributors
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.cobblemon.mod.common.client.persisted
+
+import com.cobblemon.mod.common.Cobblemon.LOGGER
+import com.cobblemon.mod.common.net.messages.client.data.DataRegistrySyncPacket
+import java.io.DataInputStream
+import java.io.DataOutputStream
+import java.nio.file.Files
+import java.nio.file.Path
+import java.nio.file.Paths
+import java.nio.file.StandardCopyOption
+import net.minecraft.Util
+import net.minecraft.client.Minecraft
+import net.minecraft.resources.ResourceLocation
+
+/**
+ * A disk cache of the data registry entries each server has sent, so that joining a server again only has to transfer
+ * the registries that changed since the last time. Each server gets its own folder with one file per
+ * [DataRegistrySyncPacket] ID, holding the most recent entries and their hash.
+ *
+ * Everything cached for a server is read into memory the first time it's needed after joining, so entries the server
+ * tells the client to use with a [com.cobblemon.mod.common.net.messages.client.data.CachedDataRegistrySyncPacket] can't
+ * go missing from disk in the meantime. At the end of the sync the server asks for [getHashes] and uses them the next
+ * time the client joins.
+ *
+ * Sync packets may be handled off the main thread, so everything here is synchronized.
+ *
+ * @since October 19th, 2026
+ */
+object DataRegistryCache {
+    val cachePath: Path = Paths.get("cobblemon").resolve("registry_cache")
+
+    private class Entry(val hash: String, val bytes: ByteArray)
+
+    private var serverFolder: Path? = null
+    private val loaded = mutableMapOf<ResourceLocation, Entry>()
+    /** The hash of the entries on disk for each sync packet ID, including those written since joining. */
+    private val hashes = mutableMapOf<ResourceLocation, String>()
+
+    /**
+     * Gets the hash of the entries cached for each sync packet ID from the server the client is connected to. This is
+     * asked for at the end of the sync, so anything still in memory is no longer needed and is dropped.
+     */
+    @Synchronized
+    fun getHashes(client: Minecraft): Map<ResourceLocation, String> {
+        load(client)
+        loaded.clear()
+        return hashes.toMap()
+    }
+
+    /** Takes the cached entries for the given sync packet if they match the hash, or returns null. */
+    @Synchronized
+    fun take(client: Minecraft, packetId: ResourceLocation, hash: String): ByteArray? {
+        load(client)
+        return loaded.remove(packetId)?.takeIf { it.hash == hash }?.bytes
+    }
+
+    /** Caches entries the server sent in full. The file is written in the background. */
+    @Synchronized
+    fun store(client: Minecraft, packetId: ResourceLocation, bytes: ByteArray) {
+        val folder = load(client) ?: return
+        val hash = DataRegistrySyncPacket.hashOf(bytes)
+        loaded.remove(packetId)
+        if (hashes.put(packetId, hash) == hash) {
+            return
+        }
+        Util.ioPool().execute {
+            try {
+                Files.createDirectories(folder)
+                val file = folder.resolve("${packetId.namespace}_${packetId.path.replace('/', '_')}.bin")
+                val temporary = file.resolveSibling("${file.fileName}.tmp")
+                DataOutputStream(Files.newOutputStream(temporary).buffered()).use { output ->
+                    output.writeUTF(packetId.toString())
+                    output.writeUTF(hash)
+                    output.writeInt(bytes.size)
+                    output.write(bytes)
+                }
+                Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE)
+            } catch (e: Exception) {
+                LOGGER.warn("Failed to cache data registry {}", packetId, e)
+            }
+        }
+    }
+
+    @Synchronized
+    fun clear() {
+        serverFolder = null
+        loaded.clear()
+        hashes.clear()
+    }
+
+    /** Reads everything cached for the current server if it hasn't been already, returning its folder. */
+    private fun load(client: Minecraft): Path? {
+        serverFolder?.let { return it }
+        val folder = client.currentServer?.let { cachePath.resolve(getFolderName(it.ip)) } ?: return null
+        serverFolder = folder
+        if (!Files.isDirectory(folder)) {
+            return folder
+        }
+        Files.list(folder).use { files ->
+            files.filter { it.fileName.toString().endsWith(".bin") }.forEach { file ->
+                try {
+                    DataInputStream(Files.newInputStream(file).buffered()).use { input ->
+                        val packetId = ResourceLocation.parse(input.readUTF())
+                        val hash = input.readUTF()
+                        val bytes = ByteArray(input.readInt())
+                        input.readFully(bytes)
+                        if (DataRegistrySyncPacket.hashOf(bytes) == hash) {
+                            loaded[packetId] = Entry(hash, bytes)
+                            hashes[packetId] = hash
+                        }
+                    }
+                } catch (e: Exception) {
+                    LOGGER.warn("Failed to read cached data registry {}, it will be synced in full", file.fileName)
+                }
+            }
+        }
+        return folder
+    }
+
+    private fun getFolderName(address: String) = address.lowercase().replace(Regex("[^a-z0-9._-]"), "_")
+}
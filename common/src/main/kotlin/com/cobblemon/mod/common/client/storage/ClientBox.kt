@@ -18,5 +18,8 @@ class ClientBox(var name : MutableComponent?, var wallpaper : ResourceLocation)
     constructor() : this(null, PCBoxWallpaperRepository.defaultWallpaper)
 
     val slots = MutableList<Pokemon?>(POKEMON_PER_BOX) { null }
+
+    /** False while the box only holds placeholders made from summaries, until the server sends it in full. */
+    var loaded = true
     override fun iterator() = slots.iterator()
 }
\ No newline at end of file
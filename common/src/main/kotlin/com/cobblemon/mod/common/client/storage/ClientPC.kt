@@ -12,6 +12,7 @@ import com.cobblemon.mod.common.api.storage.pc.PCPosition
 import com.cobblemon.mod.common.api.storage.pc.POKEMON_PER_BOX
 import com.cobblemon.mod.common.api.text.bold
 import com.cobblemon.mod.common.client.gui.pc.PCGUI
+import com.cobblemon.mod.common.net.messages.server.storage.pc.RequestPCBoxesPacket
 import com.cobblemon.mod.common.pokemon.Pokemon
 import net.minecraft.client.Minecraft
 import net.minecraft.network.chat.Component
@@ -20,6 +21,9 @@ import java.util.UUID
 
 class ClientPC(uuid: UUID, boxCount: Int) : ClientStorage<PCPosition>(uuid) {
     val boxes = MutableList(boxCount) { ClientBox() }
+    /** Boxes that have been asked for but not yet arrived, so that they aren't asked for twice. */
+    val requestedBoxes = mutableSetOf<Int>()
+
     override fun findByUUID(uuid: UUID): Pokemon? {
         boxes.forEach {
             it.forEach {
@@ -59,6 +63,26 @@ class ClientPC(uuid: UUID, boxCount: Int) : ClientStorage<PCPosition>(uuid) {
         return null
     }
 
+    /** Whether the box holding the given position has arrived in full, rather than only having placeholders. */
+    fun isLoaded(position: PCPosition) = boxes.getOrNull(position.box)?.loaded != false
+
+    /**
+     * Asks the server for the given box and the ones either side of it, for any of them that so far only have
+     * placeholders from a streamed PC.
+     */
+    fun requestBoxesAround(boxNumber: Int) {
+        if (boxes.isEmpty()) {
+            return
+        }
+        val wanted = listOf(boxNumber, boxNumber + 1, boxNumber - 1)
+            .map { Math.floorMod(it, boxes.size) }
+            .distinct()
+            .filter { !boxes[it].loaded && requestedBoxes.add(it) }
+        if (wanted.isNotEmpty()) {
+            RequestPCBoxesPacket(uuid, wanted).sendToServer()
+        }
+    }
+
     fun renameBox(boxNumber: Int, name: String?) {
         if (boxes.size > boxNumber) {
             boxes[boxNumber].name = if (name.isNullOrBlank()) null else Component.literal(name).bold()
@@ -0,0 +1,131 @@
+/*
+ * Copyright (C) 2023 Cobblemon Contributors
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.cobblemon.mod.common.command
+
+import com.cobblemon.mod.common.Cobblemon
+import com.cobblemon.mod.common.api.permission.CobblemonPermissions
+import com.cobblemon.mod.common.api.text.red
+import com.cobblemon.mod.common.net.NetworkStats
+import com.cobblemon.mod.common.net.NetworkStats.PacketTotals
+import com.cobblemon.mod.common.util.commandLang
+import com.cobblemon.mod.common.util.permission
+import com.google.gson.GsonBuilder
+import com.mojang.brigadier.Command
+import com.mojang.brigadier.CommandDispatcher
+import com.mojang.brigadier.context.CommandContext
+import com.mojang.brigadier.exceptions.SimpleCommandExceptionType
+import java.io.File
+import net.minecraft.commands.CommandSourceStack
+import net.minecraft.commands.Commands
+import net.minecraft.commands.arguments.EntityArgument
+import net.minecraft.network.chat.Component
+import net.minecraft.resources.ResourceLocation
+
+/**
+ * Turns [NetworkStats] on and off and shows what it's recorded: the packets sent to everyone, received from
+ * everyone or sent to one player, with the ones taking the most bytes first. `dump` writes everything to a JSON
+ * file under `netstats` for reading elsewhere.
+ */
+object NetStatsCommand {
+    private const val SHOWN_PACKETS = 10
+
+    private val NOT_ENABLED = SimpleCommandExceptionType(commandLang("netstats.not_enabled").red())
+
+    private val gson = GsonBuilder().setPrettyPrinting().create()
+
+    fun register(dispatcher: CommandDispatcher<CommandSourceStack>) {
+        dispatcher.register(
+            Commands.literal("cobblemon")
+                .then(
+                    Commands.literal("netstats")
+                        .permission(CobblemonPermissions.NET_STATS)
+                        .executes { show(it, "sent", NetworkStats::sent) }
+                        .then(Commands.literal("enable").executes(::enable))
+                        .then(Commands.literal("disable").executes(::disable))
+                        .then(Commands.literal("reset").executes(::reset))
+                        .then(Commands.literal("received").executes { show(it, "received", NetworkStats::received) })
+                        .then(Commands.literal("player").then(
+                            Commands.argument("player", EntityArgument.player()).executes {
+                                val player = EntityArgument.getPlayer(it, "player")
+                                show(it, "player", { NetworkStats.sentTo(player.uuid) }, player.name)
+                            }
+                        ))
+                        .then(Commands.literal("dump").executes(::dump))
+                )
+        )
+    }
+
+    private fun enable(context: CommandContext<CommandSourceStack>): Int {
+        NetworkStats.enable()
+        context.source.sendSuccess({ commandLang("netstats.enabled", NetworkStats.WINDOW_SECONDS) }, true)
+        return Command.SINGLE_SUCCESS
+    }
+
+    private fun disable(context: CommandContext<CommandSourceStack>): Int {
+        NetworkStats.disable()
+        context.source.sendSuccess({ commandLang("netstats.disabled") }, true)
+        return Command.SINGLE_SUCCESS
+    }
+
+    private fun reset(context: CommandContext<CommandSourceStack>): Int {
+        NetworkStats.reset()
+        context.source.sendSuccess({ commandLang("netstats.reset") }, true)
+        return Command.SINGLE_SUCCESS
+    }
+
+    private fun show(
+        context: CommandContext<CommandSourceStack>,
+        type: String,
+        totals: () -> Map<ResourceLocation, PacketTotals>,
+        vararg headerArguments: Any
+    ): Int {
+        if (!NetworkStats.enabled) {
+            throw NOT_ENABLED.create()
+        }
+        val byID = totals()
+        val source = context.source
+        source.sendSystemMessage(commandLang(
+            "netstats.header.$type",
+            *headerArguments,
+            NetworkStats.WINDOW_SECONDS,
+            byID.values.sumOf { it.count },
+            byID.values.sumOf { it.bytes }
+        ))
+        byID.entries.sortedByDescending { it.value.bytes }.take(SHOWN_PACKETS).forEach { (id, packetTotals) ->
+            source.sendSystemMessage(commandLang(
+                "netstats.entry",
+                id.path,
+                packetTotals.count,
+                packetTotals.bytes,
+                packetTotals.bytes / packetTotals.count,
+                // Microseconds with one decimal place.
+                (packetTotals.nanos / packetTotals.count / 100) / 10.0
+            ))
+        }
+        return byID.size
+    }
+
+    private fun dump(context: CommandContext<CommandSourceStack>): Int {
+        if (!NetworkStats.enabled) {
+            throw NOT_ENABLED.create()
+        }
+        val directory = File("./netstats/")
+        val file = File(directory, "netstats-${System.currentTimeMillis()}.json")
+        try {
+            directory.mkdirs()
+            file.writeText(gson.toJson(NetworkStats.toJson()))
+        } catch (e: Exception) {
+            Cobblemon.LOGGER.error("Failed to write packet statistics", e)
+            context.source.sendFailure(commandLang("netstats.dump_failed", e.message ?: ""))
+            return 0
+        }
+        context.source.sendSuccess({ commandLang("netstats.dumped", Component.literal(file.path)) }, false)
+        return Command.SINGLE_SUCCESS
+    }
+}
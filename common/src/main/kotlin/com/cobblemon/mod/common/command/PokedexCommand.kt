@@ -116,7 +116,6 @@ object PokedexCommand {
         players.forEach {
             val dex = Cobblemon.playerDataManager.getPokedexData(it)
             dex.deleteFormRecord(species.resourceIdentifier, form.name.lowercase())
-            dex.clearCalculatedValues()
             it.sendPacket(SetClientPlayerDataPacket(PlayerInstancedDataStoreTypes.POKEDEX, dex.toClientData()))
         }
         Cobblemon.playerDataManager.saveAllOfOneType(PlayerInstancedDataStoreTypes.POKEDEX)
@@ -159,7 +158,6 @@ object PokedexCommand {
             dexDef.getEntries().forEach {
                 dex.deleteSpeciesRecord(it.speciesId)
             }
-            dex.clearCalculatedValues()
             it.sendPacket(SetClientPlayerDataPacket(PlayerInstancedDataStoreTypes.POKEDEX, dex.toClientData()))
         }
         Cobblemon.playerDataManager.saveAllOfOneType(PlayerInstancedDataStoreTypes.POKEDEX)
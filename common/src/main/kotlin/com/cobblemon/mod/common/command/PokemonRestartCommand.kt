@@ -91,6 +91,7 @@ object PokemonRestartCommand {
         playerData.starterPrompted = false
         playerData.starterLocked = false
         playerData.starterSelected = !resetStarters
+        playerData.markDirty()
         player.sendPacket(SetClientPlayerDataPacket(PlayerInstancedDataStoreTypes.GENERAL, playerData.toClientData()))
     }
 }
\ No newline at end of file
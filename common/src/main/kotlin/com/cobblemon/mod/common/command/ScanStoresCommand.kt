@@ -0,0 +1,106 @@
+/*
+ * Copyright (C) 2023 Cobblemon Contributors
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.cobblemon.mod.common.command
+
+import com.cobblemon.mod.common.Cobblemon
+import com.cobblemon.mod.common.api.permission.CobblemonPermissions
+import com.cobblemon.mod.common.api.storage.StoreIntegrityScanner
+import com.cobblemon.mod.common.api.storage.StoreIntegrityScanner.ProblemType
+import com.cobblemon.mod.common.api.storage.factory.FileBackedPokemonStoreFactory
+import com.cobblemon.mod.common.api.text.red
+import com.cobblemon.mod.common.util.commandLang
+import com.cobblemon.mod.common.util.permission
+import com.mojang.brigadier.Command
+import com.mojang.brigadier.CommandDispatcher
+import com.mojang.brigadier.context.CommandContext
+import com.mojang.brigadier.exceptions.SimpleCommandExceptionType
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.CompletionException
+import java.util.concurrent.atomic.AtomicBoolean
+import net.minecraft.commands.CommandSourceStack
+import net.minecraft.commands.Commands
+import net.minecraft.world.level.storage.LevelResource
+
+/**
+ * Runs a [StoreIntegrityScanner] over the world in the background and reports the results to whoever ran it, with
+ * the full list of problems going to the log. With `upgrade`, stores that hold outdated Pokémon and aren't in memory
+ * are saved again in the current format.
+ */
+object ScanStoresCommand {
+    private val ALREADY_RUNNING = SimpleCommandExceptionType(commandLang("scanstores.running").red())
+    private val UNSUPPORTED = SimpleCommandExceptionType(commandLang("scanstores.unsupported").red())
+
+    private val running = AtomicBoolean(false)
+
+    fun register(dispatcher: CommandDispatcher<CommandSourceStack>) {
+        dispatcher.register(
+            Commands.literal("cobblemon")
+                .then(
+                    Commands.literal("scanstores")
+                        .permission(CobblemonPermissions.SCAN_STORES)
+                        .executes { execute(it, upgrade = false) }
+                        .then(Commands.literal("upgrade").executes { execute(it, upgrade = true) })
+                )
+        )
+    }
+
+    private fun execute(context: CommandContext<CommandSourceStack>, upgrade: Boolean): Int {
+        val format = Cobblemon.config.storageFormat
+        if (format != "nbt" && format != "json") {
+            throw UNSUPPORTED.create()
+        }
+        val factory = Cobblemon.storage.getFactories().filterIsInstance<FileBackedPokemonStoreFactory<*>>().firstOrNull()
+            ?: throw UNSUPPORTED.create()
+        if (!running.compareAndSet(false, true)) {
+            throw ALREADY_RUNNING.create()
+        }
+        val source = context.source
+        val server = source.server
+        val scanner = StoreIntegrityScanner.forWorld(
+            worldFolder = server.getWorldPath(LevelResource.ROOT),
+            storageFormat = format,
+            registryAccess = server.registryAccess(),
+            upgrade = upgrade,
+            compressed = Cobblemon.config.compressPokemonStores,
+            runUpgrade = { storeClass, uuid, upgrade ->
+                // Stores in memory are saved from there, so they're left alone. That's checked on the server thread
+                // as the upgrade is queued behind the factory's saves, so a copy loaded after that is saved after it.
+                try {
+                    CompletableFuture.supplyAsync({ factory.runIfNotCached(storeClass, uuid, upgrade) }, server)
+                        .thenCompose { it }
+                        .join()
+                } catch (e: CompletionException) {
+                    throw e.cause ?: e
+                }
+            }
+        )
+        source.sendSystemMessage(commandLang("scanstores.started"))
+        CompletableFuture.supplyAsync(scanner::scan).whenComplete { report, error ->
+            running.set(false)
+            server.execute {
+                if (error != null) {
+                    Cobblemon.LOGGER.error("Store scan failed", error)
+                    source.sendFailure(commandLang("scanstores.failed", error.message ?: ""))
+                    return@execute
+                }
+                StoreIntegrityScanner.log(report)
+                source.sendSystemMessage(commandLang("scanstores.finished", report.scannedFiles.get(), report.scannedPokemon.get()))
+                source.sendSystemMessage(commandLang("scanstores.outdated", report.outdatedPokemon.get(), report.outdatedFiles.get(), report.upgradedFiles.get()))
+                source.sendSystemMessage(commandLang(
+                    "scanstores.problems",
+                    report.problemCount(ProblemType.UNREADABLE),
+                    report.problemCount(ProblemType.UNDECODABLE_POKEMON) + report.problemCount(ProblemType.UNDECODABLE_PLAYER_DATA),
+                    report.problemCount(ProblemType.OVERSIZED),
+                    report.problemCount(ProblemType.UPGRADE_FAILED)
+                ))
+            }
+        }
+        return Command.SINGLE_SUCCESS
+    }
+}
@@ -69,9 +69,33 @@ class CobblemonConfig {
     @IntConstraint(min = 1, max = 120)
     var pokemonSaveIntervalSeconds = 30
 
+    @CobblemonConfigField(Category.Storage, lang = "offline_store_cache_size", SERVER)
+    @IntConstraint(min = 0, max = 10000)
+    var offlineStoreCacheSize = 100
+
+    @CobblemonConfigField(Category.Storage, lang = "offline_store_cache_seconds", SERVER)
+    @IntConstraint(min = 0, max = 86400)
+    var offlineStoreCacheSeconds = 300
+
+    @CobblemonConfigField(Category.Storage, lang = "stream_pc_boxes", SERVER)
+    var streamPCBoxes = false
+
+    @CobblemonConfigField(Category.Storage, lang = "pc_stream_bytes_per_tick", SERVER)
+    @IntConstraint(min = 1024, max = 1048576)
+    var pcStreamBytesPerTick = 16384
+
     @CobblemonConfigField(Category.Storage, lang = "storage_format", SERVER)
     var storageFormat = "nbt"
 
+    @CobblemonConfigField(Category.Storage, lang = "compress_pokemon_stores", SERVER)
+    var compressPokemonStores = false
+
+    @CobblemonConfigField(Category.Storage, lang = "journal_pokemon_stores", SERVER)
+    var journalPokemonStores = false
+
+    @CobblemonConfigField(Category.Storage, lang = "cache_data_registries_on_clients", SERVER)
+    var cacheDataRegistriesOnClients = false
+
     @CobblemonConfigField(Category.Storage, lang = "prevent_complete_party_deposit", SERVER)
     var preventCompletePartyDeposit = false
 
@@ -80,6 +104,9 @@ class CobblemonConfig {
     @CobblemonConfigField(Category.Storage, lang = "mongo_db_database_name", SERVER)
     var mongoDBDatabaseName = "cobblemon"
 
+    @CobblemonConfigField(Category.Storage, lang = "sqlite_file_name", SERVER)
+    var sqliteFileName = "cobblemon.db"
+
     @CobblemonConfigField(Category.Spawning, lang = "max_vertical_correction_blocks", SERVER)
     @IntConstraint(min = 1, max = 200)
     var maxVerticalCorrectionBlocks = 64
@@ -48,7 +48,10 @@ import com.cobblemon.mod.common.api.scripting.CobblemonScripts
 import com.cobblemon.mod.common.api.spawning.CobblemonSpawnPools
 import com.cobblemon.mod.common.api.spawning.CobblemonSpawnRules
 import com.cobblemon.mod.common.api.spawning.SpawnDetailPresets
+import com.cobblemon.mod.common.api.storage.pc.PCBox
 import com.cobblemon.mod.common.battles.BagItems
+import com.cobblemon.mod.common.net.AspectDictionary
+import com.cobblemon.mod.common.net.messages.client.data.DataRegistrySyncPacket
 import com.cobblemon.mod.common.platform.events.PlatformEvents
 import com.cobblemon.mod.common.pokemon.SpeciesAdditions
 import com.cobblemon.mod.common.pokemon.properties.PropertiesCompletionProvider
@@ -116,6 +119,8 @@ object CobblemonDataProvider : DataProvider {
         PlatformEvents.SERVER_PLAYER_LOGOUT.subscribe {
             synchronizedPlayerIds.remove(it.player.uuid)
         }
+        DataRegistryCacheTracker.register()
+        AspectDictionary.register()
 
         ifClient {
             Cobblemon.implementation.registerResourceReloader(cobblemonResource("client_resources"), SimpleResourceReloader(PackType.CLIENT_RESOURCES), PackType.CLIENT_RESOURCES, emptyList())
@@ -141,9 +146,12 @@ object CobblemonDataProvider : DataProvider {
 
     override fun sync(player: ServerPlayer) {
         if (!player.connection.connection.isMemoryConnection) {
-            this.registries.forEach { registry ->
-                registry.sync(player)
+            DataRegistryCacheTracker.sync(player) {
+                this.registries.forEach { registry ->
+                    registry.sync(player)
+                }
             }
+            AspectDictionary.sync(player)
         }
 
         CobblemonEvents.DATA_SYNCHRONIZED.emit(player)
@@ -151,6 +159,22 @@ object CobblemonDataProvider : DataProvider {
         waitingActions.forEach { it() }
     }
 
+    /**
+     * Handles a player saying which registry entries they have cached after being synced. If they turn out to be
+     * missing some that they were told to use, every registry is synced to them again in full.
+     *
+     * @param player The [ServerPlayer] that was synchronized.
+     * @param hashes The hash of the entries the player has cached for each sync packet ID.
+     */
+    fun onClientCacheContents(player: ServerPlayer, hashes: Map<ResourceLocation, String>) {
+        if (DataRegistryCacheTracker.onClientCacheContents(player, hashes)) {
+            LOGGER.warn("{} was missing cached data registries, syncing them again", player.name.string)
+            this.registries.forEach { registry ->
+                registry.sync(player)
+            }
+        }
+    }
+
     override fun doAfterSync(player: ServerPlayer, action: () -> Unit) {
         if (player.uuid in synchronizedPlayerIds) {
             action()
@@ -165,6 +189,8 @@ object CobblemonDataProvider : DataProvider {
             val reloadAllowed = server()?.isReady != true
             registries.filter { it.type == this.type && (reloadAllowed || it in reloadableRegistries) }
                 .forEach { it.reload(manager) }
+            DataRegistrySyncPacket.invalidateAllShared()
+            PCBox.invalidateAllEncoded()
         }
     }
 }
@@ -0,0 +1,137 @@
+/*
+ * Copyright (C) 2023 Cobblemon Contributors
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.cobblemon.mod.common.data
+
+import com.cobblemon.mod.common.Cobblemon
+import com.cobblemon.mod.common.Cobblemon.LOGGER
+import com.cobblemon.mod.common.net.messages.client.data.CachedDataRegistrySyncPacket
+import com.cobblemon.mod.common.net.messages.client.data.DataRegistryCacheQueryPacket
+import com.cobblemon.mod.common.net.messages.client.data.DataRegistrySyncPacket
+import com.cobblemon.mod.common.platform.events.PlatformEvents
+import java.nio.file.Files
+import java.nio.file.Path
+import java.util.UUID
+import net.minecraft.nbt.CompoundTag
+import net.minecraft.nbt.NbtAccounter
+import net.minecraft.nbt.NbtIo
+import net.minecraft.resources.ResourceLocation
+import net.minecraft.server.level.ServerPlayer
+import net.minecraft.world.level.storage.LevelResource
+
+/**
+ * Keeps track of which data registry entries each player has in their client's disk cache, so that
+ * [DataRegistrySyncPacket]s can be replaced by [CachedDataRegistrySyncPacket]s when they join.
+ *
+ * The sync on joining can't wait for the client to say what it has, since everything sent after it assumes the
+ * registries are already there. Instead, the client is asked with a [DataRegistryCacheQueryPacket] at the end of each
+ * sync and its answer is used the next time it joins. That answer is kept in the world folder so that it survives
+ * restarts. If the client finds it no longer has something it was just told to use from its cache, it disconnects
+ * straight away rather than decode anything else without it, and is sent everything in full when it joins again.
+ * This is off by default through [com.cobblemon.mod.common.config.CobblemonConfig.cacheDataRegistriesOnClients].
+ *
+ * @since October 19th, 2026
+ */
+object DataRegistryCacheTracker {
+    private const val FILE_NAME = "registry_cache.dat"
+
+    /** The hashes of the entries each player had cached at the end of their last sync, by sync packet ID. */
+    private val clientHashes = mutableMapOf<UUID, Map<ResourceLocation, String>>()
+    /** The cached entries each player was told to use during their current sync, which their answer must include. */
+    private val usedHashes = mutableMapOf<UUID, MutableMap<ResourceLocation, String>>()
+    /** The player being synced right now, if any. Later syncs of single registries are always sent in full. */
+    private var syncingPlayer: UUID? = null
+    private var savePath: Path? = null
+
+    fun register() {
+        PlatformEvents.SERVER_STARTED.subscribe { event ->
+            val path = event.server.getWorldPath(LevelResource.ROOT).resolve(FILE_NAME)
+            savePath = path
+            clientHashes.clear()
+            load(path)
+        }
+        PlatformEvents.SERVER_STOPPING.subscribe {
+            savePath?.let(::save)
+            savePath = null
+        }
+        PlatformEvents.SERVER_PLAYER_LOGOUT.subscribe {
+            // Leaving before answering may mean the client didn't have what it was told to use and gave up, so
+            // it's sent everything next time rather than risking the same again.
+            if (usedHashes.remove(it.player.uuid)?.isNotEmpty() == true) {
+                clientHashes.remove(it.player.uuid)
+            }
+        }
+    }
+
+    /** Runs the given sync of every registry to the player, allowing entries they have cached to be skipped. */
+    fun sync(player: ServerPlayer, syncRegistries: () -> Unit) {
+        if (!Cobblemon.config.cacheDataRegistriesOnClients) {
+            syncRegistries()
+            return
+        }
+        usedHashes[player.uuid] = mutableMapOf()
+        syncingPlayer = player.uuid
+        try {
+            syncRegistries()
+        } finally {
+            syncingPlayer = null
+        }
+        DataRegistryCacheQueryPacket().sendToPlayer(player)
+    }
+
+    /**
+     * Whether the player can be told to use the entries they have cached for the given sync packet instead of being
+     * sent them, which is only when they're joining and had entries with the same hash at the end of their last sync.
+     */
+    fun canUseCached(player: ServerPlayer, packetId: ResourceLocation, hash: String): Boolean {
+        if (syncingPlayer != player.uuid || clientHashes[player.uuid]?.get(packetId) != hash) {
+            return false
+        }
+        usedHashes[player.uuid]?.put(packetId, hash)
+        return true
+    }
+
+    /**
+     * Records what the player has cached after being synced, returning whether they were missing anything they had
+     * been told to use and so need everything to be synced again. Only the first answer after each sync is checked.
+     */
+    fun onClientCacheContents(player: ServerPlayer, hashes: Map<ResourceLocation, String>): Boolean {
+        val used = usedHashes.remove(player.uuid) ?: return false
+        clientHashes[player.uuid] = hashes
+        return used.any { (packetId, hash) -> hashes[packetId] != hash }
+    }
+
+    private fun load(path: Path) {
+        if (!Files.exists(path)) {
+            return
+        }
+        try {
+            val nbt = NbtIo.readCompressed(path, NbtAccounter.unlimitedHeap())
+            for (uuid in nbt.allKeys) {
+                val hashes = nbt.getCompound(uuid)
+                clientHashes[UUID.fromString(uuid)] = hashes.allKeys.associate { ResourceLocation.parse(it) to hashes.getString(it) }
+            }
+        } catch (e: Exception) {
+            LOGGER.error("Failed to load {}, all players will be sent data registries in full", FILE_NAME, e)
+        }
+    }
+
+    private fun save(path: Path) {
+        val nbt = CompoundTag()
+        for ((uuid, hashes) in clientHashes) {
+            val hashesNbt = CompoundTag()
+            hashes.forEach { (packetId, hash) -> hashesNbt.putString(packetId.toString(), hash) }
+            nbt.put(uuid.toString(), hashesNbt)
+        }
+        try {
+            NbtIo.writeCompressed(nbt, path)
+        } catch (e: Exception) {
+            LOGGER.error("Failed to save {}", FILE_NAME, e)
+        }
+    }
+}
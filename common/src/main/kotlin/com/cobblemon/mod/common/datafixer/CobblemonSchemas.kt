@@ -22,13 +22,16 @@ import com.mojang.serialization.Codec
 import com.mojang.serialization.DataResult
 import com.mojang.serialization.Dynamic
 import com.mojang.serialization.DynamicOps
+import net.minecraft.nbt.CompoundTag
+import net.minecraft.nbt.Tag
 import net.minecraft.util.datafix.fixes.ItemStackComponentizationFix
 import java.util.concurrent.Executors
 
 @Suppress("MemberVisibilityCanBePrivate", "unused")
 object CobblemonSchemas {
     private val SAME: (Int, Schema) -> Schema = ::Schema
-    private val RESULT: DataFixerBuilder.Result = this.create()
+    // Built on first use, data that is already current never needs the fixer.
+    private val RESULT: DataFixerBuilder.Result by lazy { this.create() }
 
     const val DATA_VERSION = 2
 
@@ -50,6 +53,25 @@ object CobblemonSchemas {
      */
     fun <T> wrapCodec(codec: Codec<T>, typeReference: TypeReference): Codec<T> = CobblemonDataFixerCodec(codec, typeReference)
 
+    /**
+     * Checks whether a chunk or entity chunk tag has anything for the Cobblemon [DataFixer] to do. Only Cobblemon
+     * block entities and entities are ever fixed, so a tag that is already at [DATA_VERSION] or holds nothing from
+     * Cobblemon in the given list can skip the fixer entirely.
+     *
+     * @param tag The chunk tag, after vanilla has fixed it.
+     * @param listKey The key of the list of block entities or entities in the tag.
+     * @return If the tag should be passed to the [DATA_FIXER].
+     */
+    @JvmStatic
+    fun needsFixing(tag: CompoundTag, listKey: String): Boolean {
+        val version = if (tag.contains(VERSION_KEY)) tag.getInt(VERSION_KEY) else 0
+        if (version >= DATA_VERSION) {
+            return false
+        }
+        val namespace = "${Cobblemon.MODID}:"
+        return tag.getList(listKey, Tag.TAG_COMPOUND.toInt()).any { (it as CompoundTag).getString("id").startsWith(namespace) }
+    }
+
     private fun create(): DataFixerBuilder.Result {
         val builder = DataFixerBuilder(DATA_VERSION)
         this.appendSchemas(builder)
@@ -101,6 +123,10 @@ object CobblemonSchemas {
                 .result()
                 // If none always do op unlike vanilla.
                 .orElse(0)
+            if (inputVersion == DATA_VERSION) {
+                // Nothing to fix, the version key is just an unknown field to the base codec.
+                return this.baseCodec.decode(ops, input)
+            }
             val dynamicWithoutVersion = Dynamic(ops, ops.remove(input, VERSION_KEY))
             val dataFixedDynamic = DATA_FIXER.update(this.typeReference, dynamicWithoutVersion, inputVersion, DATA_VERSION)
             return this.baseCodec.decode(dataFixedDynamic)
@@ -8,7 +8,9 @@
 
 package com.cobblemon.mod.common.events
 
+import com.cobblemon.mod.common.api.storage.pc.PCBoxStreamer
 import com.cobblemon.mod.common.battles.BattleRegistry
+import com.cobblemon.mod.common.net.PokemonUpdateBatcher
 import com.cobblemon.mod.common.util.party
 import net.minecraft.server.MinecraftServer
 
@@ -17,6 +19,7 @@ object ServerTickHandler {
 
     fun onTick(server: MinecraftServer) {
         BattleRegistry.tick()
+        PCBoxStreamer.tick(server)
 
         secondsTick++
 
@@ -28,5 +31,8 @@ object ServerTickHandler {
                 player.party().onSecondPassed(player)
             }
         }
+
+        // Last, so that anything updated during the tick goes out together.
+        PokemonUpdateBatcher.flush(server)
     }
 }
\ No newline at end of file
@@ -0,0 +1,123 @@
+/*
+ * Copyright (C) 2023 Cobblemon Contributors
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.cobblemon.mod.common.net
+
+import com.cobblemon.mod.common.Cobblemon.LOGGER
+import com.cobblemon.mod.common.net.messages.client.AspectDictionaryPacket
+import com.cobblemon.mod.common.platform.events.PlatformEvents
+import com.cobblemon.mod.common.util.readString
+import com.cobblemon.mod.common.util.server
+import com.cobblemon.mod.common.util.writeString
+import java.util.concurrent.ConcurrentHashMap
+import net.minecraft.network.FriendlyByteBuf
+import net.minecraft.server.level.ServerPlayer
+
+/**
+ * Numbers the aspects that the server syncs to clients, so that entity data and spawn packets can send each aspect
+ * as a varint instead of its full name. The server hands out IDs as it first sends each aspect and tells every
+ * client about them straight away with an [AspectDictionaryPacket], and players who join later get every ID so far
+ * along with the data registries.
+ *
+ * An aspect is only ever written as an ID once it has one, and it's given one on the server thread before the packet
+ * that includes it is queued, so the client always hears about an ID before it sees it. Aspects that have no ID, such
+ * as ones that turn up once the dictionary is full, are written out in full as before.
+ *
+ * The client's copy is filled in while [AspectDictionaryPacket] is being decoded, rather than when it's handled,
+ * since entity data is decoded on the network thread and may arrive before the handler would get to run.
+ *
+ * @since October 19th, 2026
+ */
+object AspectDictionary {
+    /** The most aspects that will be given IDs, to keep something like an aspect per player from growing it forever. */
+    const val MAX_SIZE = 16384
+
+    /** The server's IDs, read from network threads while encoding. */
+    private val serverIds = ConcurrentHashMap<String, Int>()
+    private val serverAspects = mutableListOf<String>()
+    /** The client's copy of the IDs, written and read on the network thread. */
+    private val clientAspects = ConcurrentHashMap<Int, String>()
+
+    fun register() {
+        PlatformEvents.SERVER_STOPPED.subscribe {
+            serverIds.clear()
+            serverAspects.clear()
+        }
+    }
+
+    /**
+     * Gives IDs to any of the given aspects that don't have one yet and tells every player about them. This only does
+     * anything on the server thread, since that's where packets are put together.
+     */
+    fun intern(aspects: Collection<String>) {
+        val server = server() ?: return
+        if (!server.isSameThread || serverIds.size >= MAX_SIZE) {
+            return
+        }
+        val firstId = serverAspects.size
+        for (aspect in aspects) {
+            if (aspect !in serverIds && serverAspects.size < MAX_SIZE) {
+                serverIds[aspect] = serverAspects.size
+                serverAspects.add(aspect)
+            }
+        }
+        if (serverAspects.size > firstId) {
+            val packet = AspectDictionaryPacket(firstId, serverAspects.subList(firstId, serverAspects.size).toList())
+            server.playerList.players.filterNot { it.connection.connection.isMemoryConnection }.forEach(packet::sendToPlayer)
+        }
+    }
+
+    /** Sends every ID so far to a player who has just joined. */
+    fun sync(player: ServerPlayer) {
+        if (serverAspects.isNotEmpty()) {
+            AspectDictionaryPacket(0, serverAspects.toList()).sendToPlayer(player)
+        }
+    }
+
+    /** Adds IDs the server has given out to the client's copy. */
+    fun receive(firstId: Int, aspects: List<String>) {
+        aspects.forEachIndexed { index, aspect -> clientAspects[firstId + index] = aspect }
+    }
+
+    /** Forgets the client's copy when leaving a server, since each server numbers its aspects differently. */
+    fun clearClient() {
+        clientAspects.clear()
+    }
+
+    /** Writes aspects as their IDs plus one where they have one, and otherwise as a 0 followed by the aspect. */
+    fun write(buffer: FriendlyByteBuf, aspects: Collection<String>) {
+        buffer.writeVarInt(aspects.size)
+        for (aspect in aspects) {
+            val id = serverIds[aspect]
+            if (id != null) {
+                buffer.writeVarInt(id + 1)
+            } else {
+                buffer.writeVarInt(0)
+                buffer.writeString(aspect)
+            }
+        }
+    }
+
+    fun read(buffer: FriendlyByteBuf): Set<String> {
+        val aspects = mutableSetOf<String>()
+        repeat(buffer.readVarInt()) {
+            val id = buffer.readVarInt()
+            if (id == 0) {
+                aspects.add(buffer.readString())
+            } else {
+                val aspect = clientAspects[id - 1]
+                if (aspect != null) {
+                    aspects.add(aspect)
+                } else {
+                    LOGGER.warn("Received unknown aspect ID {}", id - 1)
+                }
+            }
+        }
+        return aspects
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (C) 2023 Cobblemon Contributors
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.cobblemon.mod.common.net
+
+import com.cobblemon.mod.common.Cobblemon
+import com.cobblemon.mod.common.api.net.NetworkPacket
+import com.cobblemon.mod.common.net.messages.client.battle.BattleUpdateBundlePacket
+import net.minecraft.server.level.ServerPlayer
+
+/**
+ * Holds back the battle packets sent to each player while a battle processes a chunk of Showdown output or ticks its
+ * dispatches, and then sends them as one [BattleUpdateBundlePacket] per player, or on its own if there's only one.
+ * A single instruction can send a message, a health change and a faint to every actor and spectator, and this keeps
+ * that from being a separately framed and flushed packet each.
+ *
+ * The client handles the bundled packets in order in the same tick, which is no different from before since they
+ * were all sent in the same tick anyway. Packets that [BattleUpdateBundlePacket.canBundle] doesn't allow, and anything
+ * sent to players on a memory connection, are sent straight away.
+ *
+ * @since October 19th, 2026
+ */
+object BattlePacketBundler {
+    /** The packets waiting for each player on each thread, or null when not bundling. */
+    private val queues = ThreadLocal<LinkedHashMap<ServerPlayer, MutableList<NetworkPacket<*>>>?>()
+
+    /** Runs the action, sending everything it sends to players in bundles once it's finished. */
+    fun <T> bundling(action: () -> T): T {
+        if (queues.get() != null) {
+            return action()
+        }
+        val queue = LinkedHashMap<ServerPlayer, MutableList<NetworkPacket<*>>>()
+        queues.set(queue)
+        try {
+            return action()
+        } finally {
+            queues.remove()
+            flush(queue)
+        }
+    }
+
+    /** Holds on to the packet if it's being sent while bundling, returning whether it did. */
+    fun capture(player: ServerPlayer, packet: NetworkPacket<*>): Boolean {
+        val queue = queues.get() ?: return false
+        if (player.connection.connection.isMemoryConnection || !BattleUpdateBundlePacket.canBundle(packet)) {
+            return false
+        }
+        queue.getOrPut(player) { mutableListOf() }.add(packet)
+        return true
+    }
+
+    private fun flush(queue: Map<ServerPlayer, List<NetworkPacket<*>>>) {
+        for ((player, packets) in queue) {
+            if (player.hasDisconnected()) {
+                continue
+            }
+            val packet = packets.singleOrNull() ?: BattleUpdateBundlePacket(packets)
+            Cobblemon.implementation.networkManager.sendPacketToPlayer(player, packet)
+        }
+    }
+}
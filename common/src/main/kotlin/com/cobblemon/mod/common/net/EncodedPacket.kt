@@ -0,0 +1,43 @@
+/*
+ * Copyright (C) 2023 Cobblemon Contributors
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.cobblemon.mod.common.net
+
+import com.cobblemon.mod.common.api.net.NetworkPacket
+import com.cobblemon.mod.common.api.net.UnsplittablePacket
+import net.minecraft.network.RegistryFriendlyByteBuf
+
+/**
+ * A [packet] that has already been encoded, so that sending it to many players doesn't encode it again for each of
+ * them. It's sent under the ID of the original packet, so the client can't tell the difference.
+ *
+ * This must never be sent over a memory connection, since those hand the packet to the client without encoding it.
+ * Use [of] to create one, so that a packet marked as an [UnsplittablePacket] stays marked.
+ *
+ * @since October 19th, 2026
+ */
+internal open class EncodedPacket(val packet: NetworkPacket<*>, private val bytes: ByteArray) : NetworkPacket<EncodedPacket> {
+    override val id = packet.id
+
+    /** The number of bytes the packet encodes to. */
+    val size: Int
+        get() = bytes.size
+
+    override fun encode(buffer: RegistryFriendlyByteBuf) {
+        buffer.writeBytes(bytes)
+    }
+
+    /** An [EncodedPacket] of an [UnsplittablePacket], so that NeoForge still leaves it whole. */
+    private class Unsplittable(packet: NetworkPacket<*>, bytes: ByteArray) : EncodedPacket(packet, bytes), UnsplittablePacket
+
+    companion object {
+        fun of(packet: NetworkPacket<*>, bytes: ByteArray): EncodedPacket {
+            return if (packet is UnsplittablePacket) Unsplittable(packet, bytes) else EncodedPacket(packet, bytes)
+        }
+    }
+}
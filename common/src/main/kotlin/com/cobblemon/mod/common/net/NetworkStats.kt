@@ -0,0 +1,170 @@
+/*
+ * Copyright (C) 2023 Cobblemon Contributors
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.cobblemon.mod.common.net
+
+import com.cobblemon.mod.common.api.net.NetworkPacket
+import com.google.gson.JsonObject
+import java.util.UUID
+import net.minecraft.resources.ResourceLocation
+import net.minecraft.server.level.ServerPlayer
+
+/**
+ * Counts the Cobblemon packets sent to each player and received from all of them, along with how many bytes they
+ * took and how long they took to encode or decode, over the last [WINDOW_SECONDS] seconds. This is off until
+ * [enable] is called, usually by `/cobblemon netstats enable`, and costs no more than a field read while it's off.
+ *
+ * While it's on, packets for each player are encoded an extra time as they're sent so that their size is known. The
+ * encoded copy is only measured, and the connection is still given the original packet to send as usual. The bytes are those of the packet itself, not counting framing or compression, and packets sent
+ * inside a [com.cobblemon.mod.common.net.messages.client.battle.BattleUpdateBundlePacket] are counted on their own.
+ * Players on a memory connection aren't counted since nothing is sent over the network for them.
+ *
+ * @since October 19th, 2026
+ */
+object NetworkStats {
+    const val WINDOW_SECONDS = 60
+
+    /** The number, total size and total encoding or decoding time of the packets with some ID. */
+    class PacketTotals {
+        var count = 0L
+            private set
+        var bytes = 0L
+            private set
+        var nanos = 0L
+            private set
+
+        fun add(count: Long, bytes: Long, nanos: Long) {
+            this.count += count
+            this.bytes += bytes
+            this.nanos += nanos
+        }
+
+        fun toJson() = JsonObject().also {
+            it.addProperty("count", count)
+            it.addProperty("bytes", bytes)
+            it.addProperty("nanos", nanos)
+        }
+    }
+
+    /** The totals for one second, kept in a ring of [WINDOW_SECONDS] of them. */
+    private class Bucket {
+        var second = Long.MIN_VALUE
+        val totals = HashMap<ResourceLocation, PacketTotals>()
+    }
+
+    private class Window {
+        val buckets = Array(WINDOW_SECONDS) { Bucket() }
+
+        fun record(second: Long, id: ResourceLocation, bytes: Int, nanos: Long) {
+            val bucket = buckets[Math.floorMod(second, WINDOW_SECONDS)]
+            if (bucket.second != second) {
+                bucket.second = second
+                bucket.totals.clear()
+            }
+            bucket.totals.getOrPut(id, ::PacketTotals).add(1, bytes.toLong(), nanos)
+        }
+
+        fun sum(now: Long): Map<ResourceLocation, PacketTotals> {
+            val sum = HashMap<ResourceLocation, PacketTotals>()
+            for (bucket in buckets) {
+                if (bucket.second > now - WINDOW_SECONDS) {
+                    bucket.totals.forEach { (id, totals) -> sum.getOrPut(id, ::PacketTotals).add(totals.count, totals.bytes, totals.nanos) }
+                }
+            }
+            return sum
+        }
+    }
+
+    @Volatile
+    var enabled = false
+        private set
+
+    private val sent = Window()
+    private val received = Window()
+    private val sentByPlayer = HashMap<UUID, Window>()
+    private val playerNames = HashMap<UUID, String>()
+
+    fun enable() {
+        enabled = true
+    }
+
+    fun disable() {
+        enabled = false
+        reset()
+    }
+
+    fun reset() = synchronized(this) {
+        sent.buckets.forEach { it.totals.clear() }
+        received.buckets.forEach { it.totals.clear() }
+        sentByPlayer.clear()
+        playerNames.clear()
+    }
+
+    /** Counts a packet that's about to be sent to the player. */
+    fun onSend(player: ServerPlayer, packet: NetworkPacket<*>) {
+        if (!enabled || player.connection.connection.isMemoryConnection) {
+            return
+        }
+        val encoded: EncodedPacket
+        var nanos = 0L
+        if (packet is EncodedPacket) {
+            encoded = packet
+        } else {
+            val start = System.nanoTime()
+            encoded = PacketBroadcaster.encode(packet) ?: return
+            nanos = System.nanoTime() - start
+        }
+        val second = currentSecond()
+        synchronized(this) {
+            sent.record(second, packet.id, encoded.size, nanos)
+            sentByPlayer.getOrPut(player.uuid, ::Window).record(second, packet.id, encoded.size, nanos)
+            playerNames[player.uuid] = player.gameProfile.name
+        }
+    }
+
+    /** Counts a packet that was just decoded. This happens on the network thread, so it isn't known who sent it. */
+    fun onReceive(id: ResourceLocation, bytes: Int, nanos: Long) {
+        val second = currentSecond()
+        synchronized(this) {
+            received.record(second, id, bytes, nanos)
+        }
+    }
+
+    fun sent(): Map<ResourceLocation, PacketTotals> = synchronized(this) { sent.sum(currentSecond()) }
+
+    fun received(): Map<ResourceLocation, PacketTotals> = synchronized(this) { received.sum(currentSecond()) }
+
+    fun sentTo(player: UUID): Map<ResourceLocation, PacketTotals> = synchronized(this) {
+        sentByPlayer[player]?.sum(currentSecond()) ?: emptyMap()
+    }
+
+    /** Everything currently in the window, for writing out and reading elsewhere. */
+    fun toJson(): JsonObject = synchronized(this) {
+        val now = currentSecond()
+        val json = JsonObject()
+        json.addProperty("windowSeconds", WINDOW_SECONDS)
+        json.addProperty("timestamp", System.currentTimeMillis())
+        json.add("sent", toJson(sent.sum(now)))
+        json.add("received", toJson(received.sum(now)))
+        val players = JsonObject()
+        sentByPlayer.forEach { (uuid, window) ->
+            val player = JsonObject()
+            player.addProperty("name", playerNames[uuid])
+            player.add("sent", toJson(window.sum(now)))
+            players.add(uuid.toString(), player)
+        }
+        json.add("players", players)
+        json
+    }
+
+    private fun toJson(totals: Map<ResourceLocation, PacketTotals>) = JsonObject().also { json ->
+        totals.forEach { (id, packetTotals) -> json.add(id.toString(), packetTotals.toJson()) }
+    }
+
+    private fun currentSecond() = System.currentTimeMillis() / 1000
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (C) 2023 Cobblemon Contributors
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.cobblemon.mod.common.net
+
+import com.cobblemon.mod.common.CobblemonNetwork
+import com.cobblemon.mod.common.api.net.NetworkPacket
+import com.cobblemon.mod.common.util.server
+import io.netty.buffer.Unpooled
+import java.util.IdentityHashMap
+import net.minecraft.network.RegistryFriendlyByteBuf
+import net.minecraft.server.level.ServerPlayer
+
+/**
+ * Lets the same packet be sent to many players while only being encoded once. Normally each player's connection
+ * encodes every packet it's given, so a battle message sent to fifty spectators is encoded fifty times.
+ *
+ * While inside [sharing], the first player to be sent one of the shared packets gets it as usual, and every player
+ * after that gets an [EncodedPacket] made the second time it's needed. Players on a memory connection always get the
+ * original, since nothing is encoded for them anyway.
+ *
+ * @since October 19th, 2026
+ */
+object PacketBroadcaster {
+    private class Shared {
+        var sends = 0
+        var encoded: EncodedPacket? = null
+    }
+
+    /** The packets currently being shared on each thread, by identity since packets don't define equality. */
+    private val shared = ThreadLocal.withInitial { IdentityHashMap<NetworkPacket<*>, Shared>() }
+
+    /** Sends the packet to all of the given players, encoding it at most once more than it would be for one of them. */
+    fun send(players: Iterable<ServerPlayer>, packet: NetworkPacket<*>) {
+        sharing(packet) {
+            players.forEach { CobblemonNetwork.sendPacketToPlayer(it, packet) }
+        }
+    }
+
+    /**
+     * Runs the action, encoding each of the given packets no more than twice however many players they're sent to
+     * along the way. This is for when the players are reached in several steps, such as the actors and then the
+     * spectators of a battle.
+     */
+    fun <T> sharing(vararg packets: NetworkPacket<*>, action: () -> T): T {
+        val shared = shared.get()
+        val added = packets.filter { shared.putIfAbsent(it, Shared()) == null }
+        try {
+            return action()
+        } finally {
+            added.forEach(shared::remove)
+        }
+    }
+
+    /** Gets what should actually be sent to the given player for the given packet. */
+    fun resolve(player: ServerPlayer, packet: NetworkPacket<*>): NetworkPacket<*> {
+        val shared = shared.get()
+        if (shared.isEmpty() || player.connection.connection.isMemoryConnection) {
+            return packet
+        }
+        val entry = shared[packet] ?: return packet
+        entry.encoded?.let { return it }
+        if (entry.sends++ == 0) {
+            return packet
+        }
+        val encoded = encode(packet) ?: return packet
+        entry.encoded = encoded
+        return encoded
+    }
+
+    /** Encodes the packet right away, or gives null if there's no server to take the registries from. */
+    internal fun encode(packet: NetworkPacket<*>): EncodedPacket? {
+        val server = server() ?: return null
+        val buffer = RegistryFriendlyByteBuf(Unpooled.buffer(), server.registryAccess())
+        try {
+            packet.encode(buffer)
+            val bytes = ByteArray(buffer.readableBytes())
+            buffer.readBytes(bytes)
+            return EncodedPacket.of(packet, bytes)
+        } finally {
+            buffer.release()
+        }
+    }
+}
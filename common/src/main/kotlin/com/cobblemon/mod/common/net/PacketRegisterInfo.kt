@@ -8,8 +8,10 @@
 
 package com.cobblemon.mod.common.net
 
+import com.cobblemon.mod.common.api.net.ClientNetworkPacketHandler
 import com.cobblemon.mod.common.api.net.NetworkPacket
 import com.cobblemon.mod.common.api.net.PacketHandler
+import net.minecraft.client.Minecraft
 import net.minecraft.network.RegistryFriendlyByteBuf
 import net.minecraft.network.codec.StreamCodec
 import net.minecraft.network.protocol.common.custom.CustomPacketPayload
@@ -30,6 +32,23 @@ class PacketRegisterInfo<T : NetworkPacket<T>>(
     val payloadId = CustomPacketPayload.Type<T>(id)
     val codec = codec ?: StreamCodec.of(
         { buf, packet -> packet.encode(buf) },
-        decoder
+        ::decode
     )
+
+    private fun decode(buffer: RegistryFriendlyByteBuf): T {
+        if (!NetworkStats.enabled) {
+            return decoder(buffer)
+        }
+        val start = System.nanoTime()
+        val readerIndex = buffer.readerIndex()
+        val packet = decoder(buffer)
+        NetworkStats.onReceive(id, buffer.readerIndex() - readerIndex, System.nanoTime() - start)
+        return packet
+    }
+
+    /** Hands a packet of this type to its client handler, for packets that arrive inside another packet. */
+    @Suppress("UNCHECKED_CAST")
+    fun handleOnClient(packet: NetworkPacket<*>, client: Minecraft) {
+        (handler as ClientNetworkPacketHandler<T>).handle(packet as T, client)
+    }
 }
\ No newline at end of file
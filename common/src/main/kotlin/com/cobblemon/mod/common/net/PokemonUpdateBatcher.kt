@@ -0,0 +1,106 @@
+/*
+ * Copyright (C) 2023 Cobblemon Contributors
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.cobblemon.mod.common.net
+
+import com.cobblemon.mod.common.CobblemonNetwork.sendPacket
+import com.cobblemon.mod.common.net.messages.client.PokemonUpdatePacket
+import com.cobblemon.mod.common.net.messages.client.pokemon.update.PokemonUpdateBundlePacket
+import com.cobblemon.mod.common.util.server
+import java.util.UUID
+import net.minecraft.server.MinecraftServer
+import net.minecraft.server.level.ServerPlayer
+
+/**
+ * Holds the [PokemonUpdatePacket]s for each player until the end of the tick, so that healing a party or finishing
+ * a battle doesn't send dozens of tiny packets. When the same field of the same Pokémon is updated more than once in
+ * a tick, as decided by [PokemonUpdatePacket.coalesceKey], only the last update is sent. Whatever is left is sent as
+ * one [PokemonUpdateBundlePacket] per player, or on its own if there's only one. Each update keeps the place of the
+ * first update it replaced, so the client sees changes in the order they started.
+ *
+ * Any other Cobblemon packet sent to a player first sends whatever is waiting for them, so the updates never arrive
+ * after a packet that was sent later, such as one removing the Pokémon from the party. Updates from off the server
+ * thread are sent straight away, as before.
+ *
+ * @since October 19th, 2026
+ */
+object PokemonUpdateBatcher {
+    /** Player UUID to the updates waiting for them, keyed so that later updates replace earlier ones. */
+    private val queues = mutableMapOf<UUID, LinkedHashMap<Any, PokemonUpdatePacket<*>>>()
+
+    fun queue(players: Iterable<ServerPlayer>, packet: PokemonUpdatePacket<*>) {
+        val server = server()
+        val pokemon = packet.pokemon()
+        if (server == null || !server.isSameThread || pokemon == null || !PokemonUpdateBundlePacket.canBundle(packet)) {
+            packet.sendToPlayers(players)
+            return
+        }
+        // Updates that can't be replaced get a key of their own.
+        val key = packet.coalesceKey?.let { pokemon.uuid to it } ?: Any()
+        for (player in players) {
+            val queue = queues.getOrPut(player.uuid) { LinkedHashMap() }
+            // Replacing a value leaves it where it was in a LinkedHashMap.
+            queue[key] = packet
+        }
+    }
+
+    /** Sends everything that's waiting. This happens at the end of every tick. */
+    fun flush(server: MinecraftServer) {
+        if (queues.isEmpty()) {
+            return
+        }
+        // Sending goes through flush(player), so the queues are taken out before anything is sent.
+        val waiting = queues.toList()
+        queues.clear()
+        for ((playerID, queue) in waiting) {
+            val player = server.playerList.getPlayer(playerID) ?: continue
+            send(player, queue)
+        }
+    }
+
+    /** Sends whatever is waiting for the player, ahead of some other packet that's about to be sent to them. */
+    fun flush(player: ServerPlayer) {
+        if (queues.isEmpty() || server()?.isSameThread != true) {
+            return
+        }
+        queues.remove(player.uuid)?.let { send(player, it) }
+    }
+
+    private fun send(player: ServerPlayer, queue: LinkedHashMap<Any, PokemonUpdatePacket<*>>) {
+        val updates = queue.values
+        if (updates.size == 1) {
+            player.sendPacket(updates.first())
+            return
+        }
+        val groups = mutableListOf<PokemonUpdateBundlePacket.Group>()
+        var pokemonID: UUID? = null
+        var storeID: UUID? = null
+        var current = mutableListOf<PokemonUpdatePacket<*>>()
+        for (update in updates) {
+            val pokemon = update.pokemon() ?: continue
+            // Pokémon that have left their store since have nowhere to be found on the client.
+            val store = pokemon.storeCoordinates.get()?.store ?: continue
+            if (pokemon.uuid != pokemonID || store.uuid != storeID) {
+                if (current.isNotEmpty()) {
+                    groups.add(PokemonUpdateBundlePacket.Group(storeID!!, pokemonID!!, current))
+                }
+                pokemonID = pokemon.uuid
+                storeID = store.uuid
+                current = mutableListOf()
+            }
+            current.add(update)
+        }
+        if (current.isNotEmpty()) {
+            groups.add(PokemonUpdateBundlePacket.Group(storeID!!, pokemonID!!, current))
+        }
+        if (groups.isNotEmpty()) {
+            player.sendPacket(PokemonUpdateBundlePacket(groups))
+        }
+    }
+}
+
@@ -0,0 +1,44 @@
+/*
+ * Copyright (C) 2023 Cobblemon Contributors
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.cobblemon.mod.common.net.messages.client
+
+import com.cobblemon.mod.common.api.net.NetworkPacket
+import com.cobblemon.mod.common.net.AspectDictionary
+import com.cobblemon.mod.common.util.cobblemonResource
+import com.cobblemon.mod.common.util.readString
+import com.cobblemon.mod.common.util.writeString
+import net.minecraft.network.RegistryFriendlyByteBuf
+
+/**
+ * Tells the client the IDs of some aspects in the [AspectDictionary], which are numbered on from [firstId].
+ *
+ * Decoding this adds them to the client's copy straight away, see [AspectDictionary].
+ *
+ * Handled by [com.cobblemon.mod.common.client.net.AspectDictionaryHandler].
+ *
+ * @since October 19th, 2026
+ */
+class AspectDictionaryPacket(val firstId: Int, val aspects: List<String>) : NetworkPacket<AspectDictionaryPacket> {
+    override val id = ID
+
+    override fun encode(buffer: RegistryFriendlyByteBuf) {
+        buffer.writeVarInt(firstId)
+        buffer.writeCollection(aspects) { _, aspect -> buffer.writeString(aspect) }
+    }
+
+    companion object {
+        val ID = cobblemonResource("aspect_dictionary")
+
+        fun decode(buffer: RegistryFriendlyByteBuf): AspectDictionaryPacket {
+            val packet = AspectDictionaryPacket(buffer.readVarInt(), buffer.readList { buffer.readString() })
+            AspectDictionary.receive(packet.firstId, packet.aspects)
+            return packet
+        }
+    }
+}
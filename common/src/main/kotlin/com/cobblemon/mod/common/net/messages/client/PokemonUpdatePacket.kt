@@ -21,6 +21,14 @@ import net.minecraft.network.RegistryFriendlyByteBuf
  * @since November 28th, 2021
  */
 abstract class PokemonUpdatePacket<T>(val pokemon: () -> Pokemon?) : NetworkPacket<T> where T : NetworkPacket<T> {
+    /**
+     * Identifies what this packet updates, so that when [com.cobblemon.mod.common.net.PokemonUpdateBatcher] has two
+     * packets with the same key for the same Pokémon in one tick, only the later is sent. This is the packet [id] by
+     * default since most packets set a single field to a new value. Packets that describe a change to apply instead
+     * should make this null.
+     */
+    open val coalesceKey: Any?
+        get() = id
 
     final override fun encode(buffer: RegistryFriendlyByteBuf) {
         val pokemon = pokemon()
@@ -0,0 +1,76 @@
+/*
+ * Copyright (C) 2023 Cobblemon Contributors
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.cobblemon.mod.common.net.messages.client.battle
+
+import com.cobblemon.mod.common.CobblemonNetwork
+import com.cobblemon.mod.common.api.net.NetworkPacket
+import com.cobblemon.mod.common.client.net.battle.BattleUpdateBundleHandler
+import com.cobblemon.mod.common.net.PacketRegisterInfo
+import com.cobblemon.mod.common.util.cobblemonResource
+import io.netty.buffer.Unpooled
+import net.minecraft.network.RegistryFriendlyByteBuf
+
+/**
+ * The packets sent to one player while a battle was processing a chunk of Showdown output or ticking its dispatches,
+ * sent together so that they're framed once. The client handles them in the order they were sent. Each packet is
+ * identified by its position in the list of registered packets rather than its full ID, which is why both sides must
+ * be running the same version.
+ *
+ * Sent by [com.cobblemon.mod.common.net.BattlePacketBundler], and handled by
+ * [com.cobblemon.mod.common.client.net.battle.BattleUpdateBundleHandler].
+ *
+ * @since October 19th, 2026
+ */
+class BattleUpdateBundlePacket internal constructor(val packets: List<NetworkPacket<*>>) : NetworkPacket<BattleUpdateBundlePacket> {
+    override val id = ID
+
+    override fun encode(buffer: RegistryFriendlyByteBuf) {
+        buffer.writeVarInt(packets.size)
+        for (packet in packets) {
+            buffer.writeVarInt(typeIndices.getValue(packet.id))
+            val contents = RegistryFriendlyByteBuf(Unpooled.buffer(), buffer.registryAccess())
+            packet.encode(contents)
+            buffer.writeVarInt(contents.readableBytes())
+            buffer.writeBytes(contents)
+            contents.release()
+        }
+    }
+
+    companion object {
+        val ID = cobblemonResource("battle_update_bundle")
+
+        /**
+         * The packets that can go in a bundle, in registration order so that it's the same on both sides. Only the
+         * battle packets are bundled, found by their handlers living alongside [BattleUpdateBundleHandler]. Anything
+         * else sent during a battle update, such as party changes or new aspect IDs that later packets rely on, is
+         * sent straight away as it would be otherwise.
+         */
+        private val types by lazy {
+            val battleHandlers = BattleUpdateBundleHandler::class.java.packageName
+            CobblemonNetwork.s2cPayloads.filter { it.id != ID && it.handler::class.java.packageName == battleHandlers }
+        }
+        private val typeIndices by lazy { types.withIndex().associate { (index, info) -> info.id to index } }
+        private val typesByID by lazy { types.associateBy { it.id } }
+
+        /** Whether the given packet can be sent in a bundle. */
+        fun canBundle(packet: NetworkPacket<*>) = packet.id in typeIndices
+
+        /** Gets the registration of a packet that came in a bundle, for handling it. */
+        fun typeOf(packet: NetworkPacket<*>): PacketRegisterInfo<*> = typesByID.getValue(packet.id)
+
+        fun decode(buffer: RegistryFriendlyByteBuf): BattleUpdateBundlePacket {
+            val packets = List(buffer.readVarInt()) {
+                val type = types[buffer.readVarInt()]
+                val length = buffer.readVarInt()
+                type.decoder(RegistryFriendlyByteBuf(buffer.readSlice(length), buffer.registryAccess()))
+            }
+            return BattleUpdateBundlePacket(packets)
+        }
+    }
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright (C) 2023 Cobblemon Contributors
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.cobblemon.mod.common.net.messages.client.data
+
+import com.cobblemon.mod.common.api.net.NetworkPacket
+import com.cobblemon.mod.common.util.cobblemonResource
+import net.minecraft.network.RegistryFriendlyByteBuf
+import net.minecraft.resources.ResourceLocation
+
+/**
+ * Sent in place of a [DataRegistrySyncPacket] when the client said it already has the entries that packet would
+ * carry. The client decodes its cached copy of them exactly as if the original packet had arrived.
+ *
+ * @param packetId The ID of the [DataRegistrySyncPacket] this stands in for.
+ * @param hash The hash of the entries, so the client can check it's using the right copy.
+ *
+ * @since October 19th, 2026
+ */
+class CachedDataRegistrySyncPacket(val packetId: ResourceLocation, val hash: String) : NetworkPacket<CachedDataRegistrySyncPacket> {
+    companion object {
+        val ID = cobblemonResource("cached_data_registry_sync")
+        fun decode(buffer: RegistryFriendlyByteBuf) = CachedDataRegistrySyncPacket(buffer.readResourceLocation(), buffer.readUtf())
+    }
+
+    override val id = ID
+    override fun encode(buffer: RegistryFriendlyByteBuf) {
+        buffer.writeResourceLocation(packetId)
+        buffer.writeUtf(hash)
+    }
+}
@@ -0,0 +1,31 @@
+/*
+ * Copyright (C) 2023 Cobblemon Contributors
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.cobblemon.mod.common.net.messages.client.data
+
+import com.cobblemon.mod.common.api.net.NetworkPacket
+import com.cobblemon.mod.common.util.cobblemonResource
+import net.minecraft.network.RegistryFriendlyByteBuf
+
+/**
+ * Sent to a player at the end of each full data registry sync, asking what they now have in their disk cache from
+ * this server. The client replies with a [com.cobblemon.mod.common.net.messages.server.data.DataRegistryCacheContentsPacket],
+ * which the server remembers so that cached entries can be skipped the next time the player joins. If the reply is
+ * missing anything the player was just told to use from their cache, the registries are synced to them again.
+ *
+ * @since October 19th, 2026
+ */
+class DataRegistryCacheQueryPacket : NetworkPacket<DataRegistryCacheQueryPacket> {
+    companion object {
+        val ID = cobblemonResource("data_registry_cache_query")
+        fun decode(buffer: RegistryFriendlyByteBuf) = DataRegistryCacheQueryPacket()
+    }
+
+    override val id = ID
+    override fun encode(buffer: RegistryFriendlyByteBuf) {}
+}
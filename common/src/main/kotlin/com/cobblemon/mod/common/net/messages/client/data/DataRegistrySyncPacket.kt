@@ -8,21 +8,69 @@
 
 package com.cobblemon.mod.common.net.messages.client.data
 
+import com.cobblemon.mod.common.api.data.DataRegistry
 import com.cobblemon.mod.common.api.net.NetworkPacket
+import com.cobblemon.mod.common.data.DataRegistryCacheTracker
+import com.google.common.hash.Hashing
 import io.netty.buffer.Unpooled
+import java.util.concurrent.ConcurrentHashMap
+import net.minecraft.core.RegistryAccess
 import net.minecraft.network.RegistryFriendlyByteBuf
+import net.minecraft.resources.ResourceLocation
+import net.minecraft.server.level.ServerPlayer
 
+/**
+ * A packet carrying the client-relevant contents of a [DataRegistry].
+ *
+ * The entries are only encoded once per packet and the resulting bytes are reused for every player it's sent to. To
+ * make the most of that, registries get their packet from [shared] so that every join between two reloads is sent the
+ * same one, and [com.cobblemon.mod.common.data.CobblemonDataProvider] discards them all with [invalidateAllShared]
+ * after every reload.
+ *
+ * Clients keep the entries they were last sent by each server in a disk cache. If [DataRegistryCacheTracker] knows that
+ * a joining client already has the entries this packet would send, a [CachedDataRegistrySyncPacket] is sent in its
+ * place and the client decodes its own copy.
+ */
 abstract class DataRegistrySyncPacket<T, N : NetworkPacket<N>>(private val registryEntries: Collection<T>) : NetworkPacket<N> {
 
     var buffer: RegistryFriendlyByteBuf? = null
     internal val entries = arrayListOf<T>()
 
+    /** The entries as they were first encoded, along with the registries they were encoded against. */
+    private class EncodedEntries(val registryAccess: RegistryAccess, val bytes: ByteArray) {
+        val hash by lazy { hashOf(bytes) }
+    }
+
+    @Volatile
+    private var encodedEntries: EncodedEntries? = null
+
     override fun encode(buffer: RegistryFriendlyByteBuf) {
-        val newBuffer = RegistryFriendlyByteBuf(Unpooled.buffer(), buffer.registryAccess())
-        newBuffer.writeCollection(registryEntries) { _, entry -> encodeEntry(newBuffer, entry) }
-        buffer.writeInt(newBuffer.readableBytes())
-        buffer.writeBytes(newBuffer)
-        // TODO (techdaan): should newBuffer be released here? I don't think writeBytes does that for us.
+        val bytes = getEncodedEntries(buffer.registryAccess()).bytes
+        buffer.writeInt(bytes.size)
+        buffer.writeBytes(bytes)
+    }
+
+    override fun sendToPlayer(player: ServerPlayer) {
+        val hash = getEncodedEntries(player.registryAccess()).hash
+        if (DataRegistryCacheTracker.canUseCached(player, id, hash)) {
+            CachedDataRegistrySyncPacket(id, hash).sendToPlayer(player)
+        } else {
+            super.sendToPlayer(player)
+        }
+    }
+
+    private fun getEncodedEntries(registryAccess: RegistryAccess): EncodedEntries {
+        // Every player on a server shares the same registries, so this only misses when the packet outlives a server.
+        encodedEntries?.takeIf { it.registryAccess === registryAccess }?.let { return it }
+        val newBuffer = RegistryFriendlyByteBuf(Unpooled.buffer(), registryAccess)
+        try {
+            newBuffer.writeCollection(registryEntries) { _, entry -> encodeEntry(newBuffer, entry) }
+            val bytes = ByteArray(newBuffer.readableBytes())
+            newBuffer.readBytes(bytes)
+            return EncodedEntries(registryAccess, bytes).also { encodedEntries = it }
+        } finally {
+            newBuffer.release()
+        }
     }
 
     internal fun decodeBuffer(buffer: RegistryFriendlyByteBuf) {
@@ -55,4 +103,40 @@ abstract class DataRegistrySyncPacket<T, N : NetworkPacket<N>>(private val regis
      */
     abstract fun synchronizeDecoded(entries: Collection<T>)
 
-}
\ No newline at end of file
+    companion object {
+        private val sharedPackets = ConcurrentHashMap<ResourceLocation, DataRegistrySyncPacket<*, *>>()
+
+        /**
+         * Gets the packet that syncs the given registry, creating it if it hasn't been created since the registry
+         * last reloaded. Registries whose contents can change without a reload must call [invalidateShared] when they do.
+         *
+         * @param registry The [DataRegistry] the packet is for.
+         * @param create Creates the packet from the registry's current contents.
+         * @return The packet to send.
+         */
+        @Suppress("UNCHECKED_CAST")
+        fun <P : DataRegistrySyncPacket<*, *>> shared(registry: DataRegistry, create: () -> P): P {
+            return sharedPackets.computeIfAbsent(registry.id) { create() } as P
+        }
+
+        /**
+         * Discards the shared packet for the given registry so that the next sync encodes its contents again.
+         *
+         * @param registry The [DataRegistry] whose contents have changed.
+         */
+        fun invalidateShared(registry: DataRegistry) {
+            sharedPackets.remove(registry.id)
+        }
+
+        /**
+         * Discards every shared packet. Some registries modify others when they reload, such as species additions, so
+         * this is used after a reload rather than invalidating only the registries that reloaded.
+         */
+        fun invalidateAllShared() {
+            sharedPackets.clear()
+        }
+
+        /** The hash that identifies a set of encoded entries, used by both sides to tell whether a client's copy is current. */
+        fun hashOf(bytes: ByteArray): String = Hashing.sha256().hashBytes(bytes).toString()
+    }
+}
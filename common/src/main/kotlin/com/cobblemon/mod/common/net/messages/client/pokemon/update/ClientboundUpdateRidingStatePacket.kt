@@ -9,25 +9,25 @@
 package com.cobblemon.mod.common.net.messages.client.pokemon.update
 
 import com.cobblemon.mod.common.api.net.NetworkPacket
-import com.cobblemon.mod.common.api.riding.behaviour.RidingBehaviourState
 import com.cobblemon.mod.common.util.cobblemonResource
-import net.minecraft.network.FriendlyByteBuf
 import net.minecraft.network.RegistryFriendlyByteBuf
 import net.minecraft.resources.ResourceLocation
 
+/**
+ * Sends changes to a ridden Pokémon's [com.cobblemon.mod.common.api.riding.behaviour.RidingBehaviourState] to the
+ * clients that aren't driving it, as written by [com.cobblemon.mod.common.api.riding.behaviour.RidingBehaviourState.encodeChanges].
+ */
 class ClientboundUpdateRidingStatePacket(
     val entity: Int,
     val behaviour: ResourceLocation,
-    val state: RidingBehaviourState? = null,
-    val data: FriendlyByteBuf? = null
+    val changes: ByteArray
 ) : NetworkPacket<ClientboundUpdateRidingStatePacket> {
     override val id = ID
 
     override fun encode(buffer: RegistryFriendlyByteBuf) {
-        if (state == null) error("Expected state to be populated for encoding")
         buffer.writeInt(entity)
         buffer.writeResourceLocation(behaviour)
-        state.encode(buffer)
+        buffer.writeByteArray(changes)
     }
 
     companion object {
@@ -35,11 +35,11 @@ class ClientboundUpdateRidingStatePacket(
         fun decode(buffer: RegistryFriendlyByteBuf): ClientboundUpdateRidingStatePacket {
             val entity = buffer.readInt()
             val behaviour = buffer.readResourceLocation()
-            val state = FriendlyByteBuf(buffer.readBytes(buffer.readableBytes()))
+            val changes = buffer.readByteArray()
             return ClientboundUpdateRidingStatePacket(
                 entity = entity,
                 behaviour = behaviour,
-                data = state
+                changes = changes
             )
         }
     }
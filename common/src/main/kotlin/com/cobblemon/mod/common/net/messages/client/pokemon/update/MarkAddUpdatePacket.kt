@@ -18,6 +18,8 @@ import net.minecraft.network.RegistryFriendlyByteBuf
 
 class MarkAddUpdatePacket(pokemon: () -> Pokemon?, value: Mark?): SingleUpdatePacket<Mark?, MarkAddUpdatePacket>(pokemon, value) {
     override val id = ID
+    // Each one is a change rather than a new value, so none of them can be dropped.
+    override val coalesceKey: Any? = null
     override fun encodeValue(buffer: RegistryFriendlyByteBuf) {
         buffer.writeNullable(this.value) { _, v -> buffer.writeIdentifier(v.identifier) }
     }
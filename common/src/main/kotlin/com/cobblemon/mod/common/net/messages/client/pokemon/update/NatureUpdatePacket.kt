@@ -22,6 +22,9 @@ import net.minecraft.network.RegistryFriendlyByteBuf
 class NatureUpdatePacket(pokemon: () -> Pokemon?, val nature: Nature?, val minted: Boolean) : PokemonUpdatePacket<NatureUpdatePacket>(pokemon) {
 
     override val id = ID
+    // The nature and the minted nature are sent separately, so one mustn't replace the other.
+    override val coalesceKey: Any
+        get() = id to minted
 
     override fun encodeDetails(buffer: RegistryFriendlyByteBuf) {
         buffer.writeNullable(nature) { _, v -> buffer.writeIdentifier(v.name) }
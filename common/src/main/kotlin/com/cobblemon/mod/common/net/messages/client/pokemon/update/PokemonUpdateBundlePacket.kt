@@ -0,0 +1,86 @@
+/*
+ * Copyright (C) 2023 Cobblemon Contributors
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.cobblemon.mod.common.net.messages.client.pokemon.update
+
+import com.cobblemon.mod.common.CobblemonNetwork
+import com.cobblemon.mod.common.api.net.NetworkPacket
+import com.cobblemon.mod.common.client.net.pokemon.update.PokemonUpdatePacketHandler
+import com.cobblemon.mod.common.net.messages.client.PokemonUpdatePacket
+import com.cobblemon.mod.common.util.cobblemonResource
+import io.netty.buffer.Unpooled
+import java.util.UUID
+import net.minecraft.network.RegistryFriendlyByteBuf
+
+/**
+ * Several [PokemonUpdatePacket]s sent together, grouped by Pokémon so that each store and Pokémon UUID is only
+ * written once. Each update is identified by its position in the list of registered update packets rather than its
+ * full ID, which is why both sides must be running the same version.
+ *
+ * Sent by [com.cobblemon.mod.common.net.PokemonUpdateBatcher], and handled by
+ * [com.cobblemon.mod.common.client.net.pokemon.update.PokemonUpdateBundleHandler].
+ *
+ * @since October 19th, 2026
+ */
+class PokemonUpdateBundlePacket internal constructor(val groups: List<Group>) : NetworkPacket<PokemonUpdateBundlePacket> {
+    /** The updates, in order, for one Pokémon in a store. */
+    class Group(val storeID: UUID, val pokemonID: UUID, val updates: List<PokemonUpdatePacket<*>>)
+
+    override val id = ID
+
+    override fun encode(buffer: RegistryFriendlyByteBuf) {
+        buffer.writeVarInt(groups.size)
+        for (group in groups) {
+            buffer.writeUUID(group.storeID)
+            buffer.writeUUID(group.pokemonID)
+            buffer.writeVarInt(group.updates.size)
+            for (update in group.updates) {
+                buffer.writeVarInt(typeIndices.getValue(update.id))
+                val details = RegistryFriendlyByteBuf(Unpooled.buffer(), buffer.registryAccess())
+                update.encodeDetails(details)
+                buffer.writeVarInt(details.readableBytes())
+                buffer.writeBytes(details)
+                details.release()
+            }
+        }
+    }
+
+    companion object {
+        val ID = cobblemonResource("pokemon_update_bundle")
+
+        /** The update packets that can go in a bundle, in registration order so that it's the same on both sides. */
+        private val types by lazy { CobblemonNetwork.s2cPayloads.filter { it.handler is PokemonUpdatePacketHandler<*> } }
+        private val typeIndices by lazy { types.withIndex().associate { (index, info) -> info.id to index } }
+
+        /** Whether the given update can be sent in a bundle, which is any update registered in the usual way. */
+        fun canBundle(update: PokemonUpdatePacket<*>) = update.id in typeIndices
+
+        fun decode(buffer: RegistryFriendlyByteBuf): PokemonUpdateBundlePacket {
+            val groups = List(buffer.readVarInt()) {
+                val storeID = buffer.readUUID()
+                val pokemonID = buffer.readUUID()
+                val updates = List(buffer.readVarInt()) {
+                    val type = types[buffer.readVarInt()]
+                    val length = buffer.readVarInt()
+                    // The update decoders expect to read the store and Pokémon UUIDs themselves.
+                    val single = RegistryFriendlyByteBuf(Unpooled.buffer(32 + length), buffer.registryAccess())
+                    single.writeUUID(storeID)
+                    single.writeUUID(pokemonID)
+                    single.writeBytes(buffer, length)
+                    try {
+                        type.decoder(single) as PokemonUpdatePacket<*>
+                    } finally {
+                        single.release()
+                    }
+                }
+                Group(storeID, pokemonID, updates)
+            }
+            return PokemonUpdateBundlePacket(groups)
+        }
+    }
+}
@@ -44,6 +44,8 @@ class SpeciesFeatureUpdatePacket(pokemon: () -> Pokemon?, val species: ResourceL
     }
 
     override val id = ID
+    override val coalesceKey: Any
+        get() = id to value.name
     override fun encodeValue(buffer: RegistryFriendlyByteBuf) {
         buffer.writeIdentifier(species)
         buffer.writeString(value.name)
@@ -22,6 +22,8 @@ import net.minecraft.network.RegistryFriendlyByteBuf
 class RemoveEvolutionPacket(pokemon: () -> Pokemon?, value: EvolutionDisplay) : SingleUpdatePacket<EvolutionDisplay, RemoveEvolutionPacket>(pokemon, value) {
 
     override val id = ID
+    // Each one is a change rather than a new value, so none of them can be dropped.
+    override val coalesceKey: Any? = null
 
     constructor(pokemon: Pokemon, value: Evolution, registryAccess: RegistryAccess) : this({ pokemon }, value.convertToDisplay(pokemon, registryAccess))
 
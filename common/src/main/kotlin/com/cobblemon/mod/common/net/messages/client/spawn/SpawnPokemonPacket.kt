@@ -17,7 +17,9 @@ import com.cobblemon.mod.common.client.CobblemonClient
 import com.cobblemon.mod.common.entity.PlatformType
 import com.cobblemon.mod.common.entity.PoseType
 import com.cobblemon.mod.common.entity.pokemon.PokemonEntity
+import com.cobblemon.mod.common.net.AspectDictionary
 import com.cobblemon.mod.common.pokemon.Gender
+import com.cobblemon.mod.common.pokemon.Species
 import com.cobblemon.mod.common.util.*
 import net.minecraft.client.multiplayer.ClientLevel
 import net.minecraft.network.RegistryFriendlyByteBuf
@@ -70,7 +72,8 @@ class SpawnPokemonPacket(
         entity.pokemon.gender,
         entity.pokemon.shiny,
         entity.exposedForm.formOnlyShowdownId(),
-        entity.exposedAspects,
+        // Numbered here, on the server thread, so the client hears about any new IDs before this packet.
+        entity.exposedAspects.also(AspectDictionary::intern),
         entity.battleId,
         entity.phasingTargetId,
         entity.beamMode.toByte(),
@@ -94,38 +97,67 @@ class SpawnPokemonPacket(
     )
 
     override fun encodeEntityData(buffer: RegistryFriendlyByteBuf) {
-        buffer.writeNullable(ownerId) { _, v -> buffer.writeUUID(v) }
+        val species = PokemonSpecies.getByIdentifier(this.speciesId)
+        var flags = 0
+        fun flag(flag: Int, value: Boolean) {
+            if (value) flags = flags or flag
+        }
+        flag(HAS_LABEL_LEVEL, this.labelLevel != -1)
+        flag(HAS_ASPECTS, this.aspects.isNotEmpty())
+        flag(HAS_FORM, this.formName != species?.standardForm?.formOnlyShowdownId())
+        flag(HAS_SCALE_MODIFIER, this.scaleModifier != 1F)
+        flag(HAS_POSE_TYPE, this.poseType != PoseType.STAND)
+        flag(SHINY, this.shiny)
+        flag(HAS_FRIENDSHIP, this.friendship != 0)
+        flag(HAS_OWNER, this.ownerId != null)
+        flag(HAS_STORAGE, this.storageUUID != null)
+        flag(HAS_NICKNAME, this.nickname != null)
+        flag(HAS_CAUGHT_BALL, this.caughtBall != PokeBalls.POKE_BALL.name)
+        flag(HAS_BATTLE, this.battleId != null)
+        flag(HAS_PHASING_TARGET, this.phasingTargetId != -1)
+        flag(HAS_BEAM_MODE, this.beamMode.toInt() != 0)
+        flag(HAS_PLATFORM, this.platform != PlatformType.NONE)
+        flag(HAS_MARK, this.mark != null)
+        flag(UNBATTLEABLE, this.unbattlable)
+        flag(HIDE_LABEL, this.hideLabel)
+        flag(HAS_FREEZE_FRAME, this.freezeFrame != -1F)
+        flag(HAS_PASSENGERS, this.passengers.isNotEmpty())
+        flag(HAS_RIDE_BOOSTS, this.rideBoosts.isNotEmpty())
+        flag(HAS_RIDE_STAMINA, this.rideStamina != 1F)
+        flag(SILENT, this.silent)
+        fun has(flag: Int) = flags and flag != 0
+
+        buffer.writeVarInt(flags)
         buffer.writeUUID(this.pokemonUUID)
-        buffer.writeNullable(this.storageUUID) { pb, value -> pb.writeUUID(value) }
-        buffer.writeFloat(this.scaleModifier)
-        buffer.writeIdentifier(this.speciesId)
+        writeSpecies(buffer, this.speciesId, species)
         buffer.writeEnumConstant(this.gender)
-        buffer.writeBoolean(this.shiny)
-        buffer.writeString(this.formName)
-        buffer.writeCollection(this.aspects) { pb, value -> pb.writeString(value) }
-        buffer.writeNullable(this.battleId) { pb, value -> pb.writeUUID(value) }
-        buffer.writeInt(this.phasingTargetId)
-        buffer.writeByte(this.beamMode.toInt())
-        buffer.writeEnumConstant(this.platform)
-        buffer.writeNullable(this.nickname) { _, v -> buffer.writeText(v) }
-        buffer.writeNullable(this.mark) { _, v -> buffer.writeResourceLocation(v) }
-        buffer.writeInt(this.labelLevel)
-        buffer.writeEnumConstant(this.poseType)
-        buffer.writeBoolean(this.unbattlable)
-        buffer.writeBoolean(this.hideLabel)
-        buffer.writeIdentifier(this.caughtBall)
         buffer.writeFloat(this.spawnYaw)
-        buffer.writeInt(this.friendship)
-        buffer.writeFloat(this.freezeFrame)
-        buffer.writeVarIntArray(this.passengers)
-        buffer.writeInt(this.tickSpawned)
-        buffer.writeMap(
-            rideBoosts,
-            { _, stat -> buffer.writeEnumConstant(stat) },
-            { _, value -> buffer.writeFloat(value) }
-        )
-        buffer.writeFloat(rideStamina)
-        buffer.writeBoolean(silent)
+        buffer.writeVarInt(this.tickSpawned)
+        if (has(HAS_LABEL_LEVEL)) buffer.writeVarInt(this.labelLevel)
+        if (has(HAS_ASPECTS)) AspectDictionary.write(buffer, this.aspects)
+        if (has(HAS_FORM)) buffer.writeString(this.formName)
+        if (has(HAS_SCALE_MODIFIER)) buffer.writeFloat(this.scaleModifier)
+        if (has(HAS_POSE_TYPE)) buffer.writeEnumConstant(this.poseType)
+        if (has(HAS_FRIENDSHIP)) buffer.writeVarInt(this.friendship)
+        this.ownerId?.let { buffer.writeUUID(it) }
+        this.storageUUID?.let { buffer.writeUUID(it) }
+        this.nickname?.let { buffer.writeText(it) }
+        if (has(HAS_CAUGHT_BALL)) writeShortIdentifier(buffer, this.caughtBall)
+        this.battleId?.let { buffer.writeUUID(it) }
+        if (has(HAS_PHASING_TARGET)) buffer.writeVarInt(this.phasingTargetId)
+        if (has(HAS_BEAM_MODE)) buffer.writeByte(this.beamMode.toInt())
+        if (has(HAS_PLATFORM)) buffer.writeEnumConstant(this.platform)
+        this.mark?.let { writeShortIdentifier(buffer, it) }
+        if (has(HAS_FREEZE_FRAME)) buffer.writeFloat(this.freezeFrame)
+        if (has(HAS_PASSENGERS)) buffer.writeVarIntArray(this.passengers)
+        if (has(HAS_RIDE_BOOSTS)) {
+            buffer.writeMap(
+                this.rideBoosts,
+                { _, stat -> buffer.writeEnumConstant(stat) },
+                { _, value -> buffer.writeFloat(value) }
+            )
+        }
+        if (has(HAS_RIDE_STAMINA)) buffer.writeFloat(this.rideStamina)
     }
 
     override fun applyData(entity: PokemonEntity, level: ClientLevel) {
@@ -186,38 +218,97 @@ class SpawnPokemonPacket(
 
     companion object {
         val ID = cobblemonResource("spawn_pokemon_entity")
+
+        // Which of the fields that are usually left at their defaults are written, or the value of boolean fields.
+        // The most common ones for wild Pokémon come first so that the flags usually fit in a single byte.
+        private const val HAS_LABEL_LEVEL = 1
+        private const val HAS_ASPECTS = 1 shl 1
+        private const val HAS_FORM = 1 shl 2
+        private const val HAS_SCALE_MODIFIER = 1 shl 3
+        private const val HAS_POSE_TYPE = 1 shl 4
+        private const val SHINY = 1 shl 5
+        private const val HAS_FRIENDSHIP = 1 shl 6
+        private const val HAS_OWNER = 1 shl 7
+        private const val HAS_STORAGE = 1 shl 8
+        private const val HAS_NICKNAME = 1 shl 9
+        private const val HAS_CAUGHT_BALL = 1 shl 10
+        private const val HAS_BATTLE = 1 shl 11
+        private const val HAS_PHASING_TARGET = 1 shl 12
+        private const val HAS_BEAM_MODE = 1 shl 13
+        private const val HAS_PLATFORM = 1 shl 14
+        private const val HAS_MARK = 1 shl 15
+        private const val UNBATTLEABLE = 1 shl 16
+        private const val HIDE_LABEL = 1 shl 17
+        private const val HAS_FREEZE_FRAME = 1 shl 18
+        private const val HAS_PASSENGERS = 1 shl 19
+        private const val HAS_RIDE_BOOSTS = 1 shl 20
+        private const val HAS_RIDE_STAMINA = 1 shl 21
+        private const val SILENT = 1 shl 22
+
+        /** Writes the Pokédex number if that's enough to find the species, and otherwise a 0 followed by its identifier. */
+        private fun writeSpecies(buffer: RegistryFriendlyByteBuf, speciesId: ResourceLocation, species: Species?) {
+            if (species != null && speciesId.namespace == Cobblemon.MODID && species.nationalPokedexNumber > 0 && PokemonSpecies.hasUniquePokedexNumber(species)) {
+                buffer.writeVarInt(species.nationalPokedexNumber)
+            } else {
+                buffer.writeVarInt(0)
+                writeShortIdentifier(buffer, speciesId)
+            }
+        }
+
+        private fun readSpecies(buffer: RegistryFriendlyByteBuf): ResourceLocation {
+            val dexNumber = buffer.readVarInt()
+            if (dexNumber == 0) {
+                return readShortIdentifier(buffer)
+            }
+            return PokemonSpecies.getByPokedexNumber(dexNumber)?.resourceIdentifier ?: throw IllegalStateException("No species with Pokédex number $dexNumber")
+        }
+
+        /** Writes the identifier, leaving out the namespace if it's ours. */
+        private fun writeShortIdentifier(buffer: RegistryFriendlyByteBuf, identifier: ResourceLocation) {
+            buffer.writeString(if (identifier.namespace == Cobblemon.MODID) identifier.path else identifier.toString())
+        }
+
+        private fun readShortIdentifier(buffer: RegistryFriendlyByteBuf) = buffer.readString().asIdentifierDefaultingNamespace()
+
         fun decode(buffer: RegistryFriendlyByteBuf): SpawnPokemonPacket {
-            val ownerId = buffer.readNullable { buffer.readUUID() }
+            val flags = buffer.readVarInt()
+            fun has(flag: Int) = flags and flag != 0
+
             val pokemonUUID = buffer.readUUID()
-            val storageUUID = buffer.readNullable { buffer.readUUID() }
-            val scaleModifier = buffer.readFloat()
-            val speciesId = buffer.readIdentifier()
+            val speciesId = readSpecies(buffer)
             val gender = buffer.readEnumConstant(Gender::class.java)
-            val shiny = buffer.readBoolean()
-            val formName = buffer.readString()
-            val aspects = buffer.readList { it.readString() }.toSet()
-            val battleId = buffer.readNullable { buffer.readUUID() }
-            val phasingTargetId = buffer.readInt()
-            val beamModeEmitter = buffer.readByte()
-            val platform = buffer.readEnumConstant(PlatformType::class.java)
-            val nickname = buffer.readNullable { buffer.readText().copy() }
-            val mark = buffer.readNullable { buffer.readResourceLocation() }
-            val labelLevel = buffer.readInt()
-            val poseType = buffer.readEnumConstant(PoseType::class.java)
-            val unbattlable = buffer.readBoolean()
-            val hideLabel = buffer.readBoolean()
-            val caughtBall = buffer.readIdentifier()
             val spawnAngle = buffer.readFloat()
-            val friendship = buffer.readInt()
-            val freezeFrame = buffer.readFloat()
-            val passengers = buffer.readVarIntArray()
-            val tickSpawned = buffer.readInt()
-            val rideBoosts = buffer.readMap(
-                { buffer.readEnumConstant(RidingStat::class.java) },
-                { buffer.readFloat() }
-            )
-            val rideStamina = buffer.readFloat()
-            val silent = buffer.readBoolean()
+            val tickSpawned = buffer.readVarInt()
+            val labelLevel = if (has(HAS_LABEL_LEVEL)) buffer.readVarInt() else -1
+            val aspects = if (has(HAS_ASPECTS)) AspectDictionary.read(buffer) else emptySet()
+            val formName = if (has(HAS_FORM)) buffer.readString() else PokemonSpecies.getByIdentifier(speciesId)?.standardForm?.formOnlyShowdownId() ?: ""
+            val scaleModifier = if (has(HAS_SCALE_MODIFIER)) buffer.readFloat() else 1F
+            val poseType = if (has(HAS_POSE_TYPE)) buffer.readEnumConstant(PoseType::class.java) else PoseType.STAND
+            val shiny = has(SHINY)
+            val friendship = if (has(HAS_FRIENDSHIP)) buffer.readVarInt() else 0
+            val ownerId = if (has(HAS_OWNER)) buffer.readUUID() else null
+            val storageUUID = if (has(HAS_STORAGE)) buffer.readUUID() else null
+            val nickname = if (has(HAS_NICKNAME)) buffer.readText().copy() else null
+            val caughtBall = if (has(HAS_CAUGHT_BALL)) readShortIdentifier(buffer) else PokeBalls.POKE_BALL.name
+            val battleId = if (has(HAS_BATTLE)) buffer.readUUID() else null
+            val phasingTargetId = if (has(HAS_PHASING_TARGET)) buffer.readVarInt() else -1
+            val beamModeEmitter = if (has(HAS_BEAM_MODE)) buffer.readByte() else 0.toByte()
+            val platform = if (has(HAS_PLATFORM)) buffer.readEnumConstant(PlatformType::class.java) else PlatformType.NONE
+            val mark = if (has(HAS_MARK)) readShortIdentifier(buffer) else null
+            val unbattlable = has(UNBATTLEABLE)
+            val hideLabel = has(HIDE_LABEL)
+            val freezeFrame = if (has(HAS_FREEZE_FRAME)) buffer.readFloat() else -1F
+            val passengers = if (has(HAS_PASSENGERS)) buffer.readVarIntArray() else IntArray(0)
+            val rideBoosts = if (has(HAS_RIDE_BOOSTS)) {
+                buffer.readMap(
+                    { buffer.readEnumConstant(RidingStat::class.java) },
+                    { buffer.readFloat() }
+                )
+            } else {
+                emptyMap()
+            }
+            val rideStamina = if (has(HAS_RIDE_STAMINA)) buffer.readFloat() else 1F
+            val silent = has(SILENT)
             val vanillaPacket = decodeVanillaPacket(buffer)
 
             return SpawnPokemonPacket(
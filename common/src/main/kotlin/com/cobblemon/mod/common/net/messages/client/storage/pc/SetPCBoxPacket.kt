@@ -25,6 +25,8 @@ import net.minecraft.resources.ResourceLocation
  * during the initial sending of a PC's contents. It's better than sending hundreds of packets
  * for a full PC - this way it's one large-ish packet per box. It's also used when sorting a box.
  *
+ * When made from a [PCBox] with a [RegistryAccess], the box's cached [PCBox.getEncodedContents] are sent as they are.
+ *
  * Handled by [com.cobblemon.mod.common.client.net.storage.pc.SetPCBoxHandler].
  *
  * @author Hiroku
@@ -34,25 +36,44 @@ class SetPCBoxPacket internal constructor(val storeID: UUID, val boxNumber: Int,
 
     override val id = ID
 
+    /** Everything after the store ID and box number, already encoded. */
+    private var encodedContents: ByteArray? = null
+
     constructor(box: PCBox): this(box.pc.uuid, box.boxNumber, box.name?: "", box.wallpaper, box.getNonEmptySlotsForPackets())
 
+    constructor(box: PCBox, registryAccess: RegistryAccess): this(box.pc.uuid, box.boxNumber, box.name ?: "", box.wallpaper, emptyMap()) {
+        encodedContents = box.getEncodedContents(registryAccess)
+    }
+
     override fun encode(buffer: RegistryFriendlyByteBuf) {
         buffer.writeUUID(storeID)
         buffer.writeSizedInt(IntSize.U_SHORT, boxNumber)
-        buffer.writeString(name)
-        buffer.writeString(wallpaper.toString())
-        buffer.writeMapK(map = pokemon) { (slot, pokemon) ->
-            buffer.writeSizedInt(IntSize.U_BYTE, slot)
-            val subBuffer = RegistryFriendlyByteBuf(Unpooled.buffer(), buffer.registryAccess())
-            Pokemon.S2C_CODEC.encode(subBuffer, pokemon(buffer.registryAccess()))
-            buffer.writeInt(subBuffer.readableBytes())
-            buffer.writeBytes(subBuffer)
-            subBuffer.release()
+        val contents = encodedContents
+        if (contents != null) {
+            buffer.writeBytes(contents)
+        } else {
+            encodeContents(buffer, name, wallpaper, pokemon)
         }
     }
 
     companion object {
         val ID = cobblemonResource("set_pc_box")
+        /** The size of the store ID and box number. */
+        const val HEADER_BYTES = 18
+
+        fun encodeContents(buffer: RegistryFriendlyByteBuf, name: String, wallpaper: ResourceLocation, pokemon: Map<Int, (RegistryAccess) -> Pokemon>) {
+            buffer.writeString(name)
+            buffer.writeString(wallpaper.toString())
+            buffer.writeMapK(map = pokemon) { (slot, pokemon) ->
+                buffer.writeSizedInt(IntSize.U_BYTE, slot)
+                val subBuffer = RegistryFriendlyByteBuf(Unpooled.buffer(), buffer.registryAccess())
+                Pokemon.S2C_CODEC.encode(subBuffer, pokemon(buffer.registryAccess()))
+                buffer.writeInt(subBuffer.readableBytes())
+                buffer.writeBytes(subBuffer)
+                subBuffer.release()
+            }
+        }
+
         fun decode(buffer: RegistryFriendlyByteBuf): SetPCBoxPacket {
             val storeID = buffer.readUUID()
             val boxNumber = buffer.readSizedInt(IntSize.U_SHORT)
@@ -0,0 +1,65 @@
+/*
+ * Copyright (C) 2023 Cobblemon Contributors
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.cobblemon.mod.common.net.messages.client.storage.pc
+
+import com.cobblemon.mod.common.api.net.NetworkPacket
+import com.cobblemon.mod.common.api.storage.pc.PCBox
+import com.cobblemon.mod.common.api.storage.pc.PCPokemonSummary
+import com.cobblemon.mod.common.net.IntSize
+import com.cobblemon.mod.common.util.*
+import java.util.UUID
+import net.minecraft.network.RegistryFriendlyByteBuf
+import net.minecraft.resources.ResourceLocation
+
+/**
+ * Sends the name, wallpaper and a [PCPokemonSummary] of each Pokémon for a range of boxes in a PC, starting at
+ * [firstBox]. This is sent up front when a PC is being streamed, so that every box can be shown and searched before
+ * the full boxes arrive in [SetPCBoxPacket]s.
+ *
+ * Handled by [com.cobblemon.mod.common.client.net.storage.pc.SetPCBoxSummariesHandler].
+ *
+ * @since October 19th, 2026
+ */
+class SetPCBoxSummariesPacket internal constructor(val storeID: UUID, val firstBox: Int, val boxes: List<BoxSummary>) : NetworkPacket<SetPCBoxSummariesPacket> {
+    class BoxSummary(val name: String, val wallpaper: ResourceLocation, val pokemon: Map<Int, PCPokemonSummary>) {
+        constructor(box: PCBox): this(box.name ?: "", box.wallpaper, box.getNonEmptySlots().mapValues { PCPokemonSummary.of(it.value) })
+    }
+
+    override val id = ID
+
+    override fun encode(buffer: RegistryFriendlyByteBuf) {
+        buffer.writeUUID(storeID)
+        buffer.writeSizedInt(IntSize.U_SHORT, firstBox)
+        buffer.writeSizedInt(IntSize.U_SHORT, boxes.size)
+        for (box in boxes) {
+            buffer.writeString(box.name)
+            buffer.writeString(box.wallpaper.toString())
+            buffer.writeMapK(map = box.pokemon) { (slot, summary) ->
+                buffer.writeSizedInt(IntSize.U_BYTE, slot)
+                summary.encode(buffer)
+            }
+        }
+    }
+
+    companion object {
+        val ID = cobblemonResource("set_pc_box_summaries")
+        fun decode(buffer: RegistryFriendlyByteBuf): SetPCBoxSummariesPacket {
+            val storeID = buffer.readUUID()
+            val firstBox = buffer.readSizedInt(IntSize.U_SHORT)
+            val boxes = List(buffer.readSizedInt(IntSize.U_SHORT)) {
+                val name = buffer.readString()
+                val wallpaper = ResourceLocation.parse(buffer.readString())
+                val pokemon = mutableMapOf<Int, PCPokemonSummary>()
+                buffer.readMapK(map = pokemon) { buffer.readSizedInt(IntSize.U_BYTE) to PCPokemonSummary.decode(buffer) }
+                BoxSummary(name, wallpaper, pokemon)
+            }
+            return SetPCBoxSummariesPacket(storeID, firstBox, boxes)
+        }
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright (C) 2023 Cobblemon Contributors
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.cobblemon.mod.common.net.messages.server.data
+
+import com.cobblemon.mod.common.api.net.NetworkPacket
+import com.cobblemon.mod.common.util.cobblemonResource
+import net.minecraft.network.RegistryFriendlyByteBuf
+import net.minecraft.resources.ResourceLocation
+
+/**
+ * The client's reply to a [com.cobblemon.mod.common.net.messages.client.data.DataRegistryCacheQueryPacket], listing
+ * the hash of the entries it has cached from this server for each data registry sync packet ID.
+ *
+ * @since October 19th, 2026
+ */
+class DataRegistryCacheContentsPacket(val hashes: Map<ResourceLocation, String>) : NetworkPacket<DataRegistryCacheContentsPacket> {
+    companion object {
+        val ID = cobblemonResource("data_registry_cache_contents")
+        fun decode(buffer: RegistryFriendlyByteBuf) = DataRegistryCacheContentsPacket(
+            buffer.readMap({ buffer.readResourceLocation() }, { buffer.readUtf() })
+        )
+    }
+
+    override val id = ID
+    override fun encode(buffer: RegistryFriendlyByteBuf) {
+        buffer.writeMap(
+            hashes,
+            { _, packetId -> buffer.writeResourceLocation(packetId) },
+            { _, hash -> buffer.writeUtf(hash) }
+        )
+    }
+}
@@ -9,25 +9,25 @@
 package com.cobblemon.mod.common.net.messages.server.pokemon.update
 
 import com.cobblemon.mod.common.api.net.NetworkPacket
-import com.cobblemon.mod.common.api.riding.behaviour.RidingBehaviourState
 import com.cobblemon.mod.common.util.cobblemonResource
-import com.cobblemon.mod.common.util.server
 import net.minecraft.network.RegistryFriendlyByteBuf
 import net.minecraft.resources.ResourceLocation
 
+/**
+ * Sends the driver's changes to a ridden Pokémon's [com.cobblemon.mod.common.api.riding.behaviour.RidingBehaviourState],
+ * as written by [com.cobblemon.mod.common.api.riding.behaviour.RidingBehaviourState.encodeChanges].
+ */
 class ServerboundUpdateRidingStatePacket(
     val entity: Int,
     val behaviour: ResourceLocation,
-    val state: RidingBehaviourState? = null,
-    val data: RegistryFriendlyByteBuf? = null
+    val changes: ByteArray
 ) : NetworkPacket<ServerboundUpdateRidingStatePacket> {
     override val id = ID
 
     override fun encode(buffer: RegistryFriendlyByteBuf) {
-        if (state == null) error("Expected state to be populated for encoding")
         buffer.writeInt(entity)
         buffer.writeResourceLocation(behaviour)
-        state.encode(buffer)
+        buffer.writeByteArray(changes)
     }
 
     companion object {
@@ -35,11 +35,11 @@ class ServerboundUpdateRidingStatePacket(
         fun decode(buffer: RegistryFriendlyByteBuf): ServerboundUpdateRidingStatePacket {
             val entity = buffer.readInt()
             val behaviour = buffer.readResourceLocation()
-            val state = RegistryFriendlyByteBuf(buffer.readBytes(buffer.readableBytes()), server()!!.registryAccess())
+            val changes = buffer.readByteArray()
             return ServerboundUpdateRidingStatePacket(
                 entity = entity,
                 behaviour = behaviour,
-                data = state
+                changes = changes
             )
         }
     }
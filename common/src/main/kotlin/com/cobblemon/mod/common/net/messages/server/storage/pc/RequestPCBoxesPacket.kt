@@ -0,0 +1,46 @@
+/*
+ * Copyright (C) 2023 Cobblemon Contributors
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.cobblemon.mod.common.net.messages.server.storage.pc
+
+import com.cobblemon.mod.common.api.net.NetworkPacket
+import com.cobblemon.mod.common.api.net.UnsplittablePacket
+import com.cobblemon.mod.common.net.IntSize
+import com.cobblemon.mod.common.util.cobblemonResource
+import com.cobblemon.mod.common.util.readSizedInt
+import com.cobblemon.mod.common.util.writeSizedInt
+import java.util.UUID
+import net.minecraft.network.RegistryFriendlyByteBuf
+
+/**
+ * Asks the server to send the given boxes of a PC that is being streamed right away, because the client is looking
+ * at them or about to. Boxes that have already been sent are ignored.
+ *
+ * Handled by [com.cobblemon.mod.common.net.serverhandling.storage.pc.RequestPCBoxesHandler].
+ *
+ * @since October 19th, 2026
+ */
+class RequestPCBoxesPacket internal constructor(val storeID: UUID, val boxes: List<Int>) : NetworkPacket<RequestPCBoxesPacket>, UnsplittablePacket {
+
+    override val id = ID
+
+    override fun encode(buffer: RegistryFriendlyByteBuf) {
+        buffer.writeUUID(storeID)
+        buffer.writeSizedInt(IntSize.U_BYTE, boxes.size)
+        boxes.forEach { buffer.writeSizedInt(IntSize.U_SHORT, it) }
+    }
+
+    companion object {
+        val ID = cobblemonResource("request_pc_boxes")
+        fun decode(buffer: RegistryFriendlyByteBuf): RequestPCBoxesPacket {
+            val storeID = buffer.readUUID()
+            val boxes = List(buffer.readSizedInt(IntSize.U_BYTE)) { buffer.readSizedInt(IntSize.U_SHORT) }
+            return RequestPCBoxesPacket(storeID, boxes)
+        }
+    }
+}
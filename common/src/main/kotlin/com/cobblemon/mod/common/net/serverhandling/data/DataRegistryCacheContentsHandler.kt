@@ -0,0 +1,21 @@
+/*
+ * Copyright (C) 2023 Cobblemon Contributors
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.cobblemon.mod.common.net.serverhandling.data
+
+import com.cobblemon.mod.common.api.net.ServerNetworkPacketHandler
+import com.cobblemon.mod.common.data.CobblemonDataProvider
+import com.cobblemon.mod.common.net.messages.server.data.DataRegistryCacheContentsPacket
+import net.minecraft.server.MinecraftServer
+import net.minecraft.server.level.ServerPlayer
+
+object DataRegistryCacheContentsHandler : ServerNetworkPacketHandler<DataRegistryCacheContentsPacket> {
+    override fun handle(packet: DataRegistryCacheContentsPacket, server: MinecraftServer, player: ServerPlayer) {
+        CobblemonDataProvider.onClientCacheContents(player, packet.hashes)
+    }
+}
@@ -20,11 +20,10 @@ object ServerboundUpdateRidingStateHandler : ServerNetworkPacketHandler<Serverbo
         val entity = player.level().getEntity(packet.entity) ?: return
         if (entity !is PokemonEntity) return
         if (entity.controllingPassenger != player) return
-        val buffer = packet.data ?: return
         if (entity.ridingController?.context?.settings?.key != packet.behaviour) {
             entity.ridingController?.changeBehaviour(packet.behaviour)
         }
-        entity.ridingController?.context?.state?.decode(buffer)
+        entity.ridingController?.context?.state?.decodeChanges(packet.changes)
     }
 
 }
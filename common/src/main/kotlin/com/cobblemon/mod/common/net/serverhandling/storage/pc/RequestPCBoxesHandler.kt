@@ -0,0 +1,22 @@
+/*
+ * Copyright (C) 2023 Cobblemon Contributors
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.cobblemon.mod.common.net.serverhandling.storage.pc
+
+import com.cobblemon.mod.common.api.net.ServerNetworkPacketHandler
+import com.cobblemon.mod.common.api.storage.pc.PCBoxStreamer
+import com.cobblemon.mod.common.net.messages.server.storage.pc.RequestPCBoxesPacket
+import net.minecraft.server.MinecraftServer
+import net.minecraft.server.level.ServerPlayer
+
+object RequestPCBoxesHandler : ServerNetworkPacketHandler<RequestPCBoxesPacket> {
+    override fun handle(packet: RequestPCBoxesPacket, server: MinecraftServer, player: ServerPlayer) {
+        // Only PCs that are already being streamed to this player can be asked for, so there's nothing to validate.
+        PCBoxStreamer.request(player, packet.storeID, packet.boxes)
+    }
+}
@@ -11,7 +11,6 @@ package com.cobblemon.mod.common.net.serverhandling.storage.pc
 import com.cobblemon.mod.common.api.net.ServerNetworkPacketHandler
 import com.cobblemon.mod.common.api.storage.pc.link.PCLinkManager
 import com.cobblemon.mod.common.net.messages.client.storage.pc.ClosePCPacket
-import com.cobblemon.mod.common.net.messages.client.storage.pc.SetPCBoxPacket
 import com.cobblemon.mod.common.net.messages.server.storage.pc.SortPCBoxPacket
 import net.minecraft.server.MinecraftServer
 import net.minecraft.server.level.ServerPlayer
@@ -25,6 +24,6 @@ object SortPCBoxHandler : ServerNetworkPacketHandler<SortPCBoxPacket> {
 
         val box = pc.boxes[packet.boxNumber]
         box.sort(packet.sortMode, packet.descending)
-        SetPCBoxPacket(box).sendToPlayer(player)
+        box.sendTo(player)
     }
 }
\ No newline at end of file
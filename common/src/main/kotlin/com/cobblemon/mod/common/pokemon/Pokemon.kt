@@ -10,7 +10,6 @@ package com.cobblemon.mod.common.pokemon
 
 import com.cobblemon.mod.common.Cobblemon
 import com.cobblemon.mod.common.CobblemonNetwork.sendPacket
-import com.cobblemon.mod.common.CobblemonNetwork.sendPacketToPlayers
 import com.cobblemon.mod.common.CobblemonSounds
 import com.cobblemon.mod.common.api.abilities.Abilities
 import com.cobblemon.mod.common.api.abilities.Ability
@@ -79,6 +78,7 @@ import com.cobblemon.mod.common.entity.PlatformType
 import com.cobblemon.mod.common.entity.npc.NPCEntity
 import com.cobblemon.mod.common.entity.pokemon.PokemonEntity
 import com.cobblemon.mod.common.entity.pokemon.effects.IllusionEffect
+import com.cobblemon.mod.common.net.PokemonUpdateBatcher
 import com.cobblemon.mod.common.net.messages.client.PokemonUpdatePacket
 import com.cobblemon.mod.common.net.messages.client.effect.SpawnSnowstormEntityParticlePacket
 import com.cobblemon.mod.common.net.messages.client.pokemon.update.*
@@ -107,6 +107,7 @@ import com.cobblemon.mod.common.util.cobblemonResource
 import com.cobblemon.mod.common.util.codec.internal.ClientPokemonP1
 import com.cobblemon.mod.common.util.codec.internal.ClientPokemonP2
 import com.cobblemon.mod.common.util.codec.internal.ClientPokemonP3
+import com.cobblemon.mod.common.util.codec.internal.ClientPokemonStreamCodec
 import com.cobblemon.mod.common.util.codec.internal.PokemonP1
 import com.cobblemon.mod.common.util.codec.internal.PokemonP2
 import com.cobblemon.mod.common.util.codec.internal.PokemonP3
@@ -137,7 +138,6 @@ import net.minecraft.nbt.NbtOps
 import net.minecraft.network.RegistryFriendlyByteBuf
 import net.minecraft.network.chat.MutableComponent
 import net.minecraft.network.chat.contents.PlainTextContents
-import net.minecraft.network.codec.ByteBufCodecs
 import net.minecraft.network.codec.StreamCodec
 import net.minecraft.resources.ResourceLocation
 import net.minecraft.server.level.ServerLevel
@@ -684,6 +684,10 @@ open class Pokemon : ShowdownIdentifiable {
     init {
         storeCoordinates.subscribe { if (it != null && it.store !is PCStore && this.tetheringId != null) afterOnServer(seconds = 0.05F) { this.tetheringId = null } }
         storeCoordinates.subscribe {
+            it?.let {
+                Cobblemon.storage.locations.onPlaced(this, it)
+                it.store.onPositionChanged(it.position)
+            }
             it?.store?.getObservingPlayers()?.forEach {
                 CobblemonEvents.POKEMON_GAINED.post(PokemonGainedEvent(it.uuid, this))
             }
@@ -2110,7 +2114,11 @@ open class Pokemon : ShowdownIdentifiable {
     }
 
     fun notify(packet: PokemonUpdatePacket<*>) {
-        storeCoordinates.get()?.run { sendPacketToPlayers(store.getObservingPlayers(), packet) }
+        storeCoordinates.get()?.run {
+            // Anything clients are told about can be part of how the Pokémon is encoded in its PC box.
+            (store as? PCStore)?.invalidateEncoded(this@Pokemon)
+            PokemonUpdateBatcher.queue(store.getObservingPlayers(), packet)
+        }
     }
 
     val struct = ObjectValue<Pokemon>(this)
@@ -2138,6 +2146,7 @@ open class Pokemon : ShowdownIdentifiable {
         }
 
         storeCoordinates.store.onPokemonChanged(pokemon = this)
+        storeCoordinates.store.onPositionChanged(storeCoordinates.position)
     }
 
     /**
@@ -2256,9 +2265,10 @@ open class Pokemon : ShowdownIdentifiable {
         }
 
         /**
-         * A [Codec] for [Pokemon] intended for S2C use.
+         * A [StreamCodec] for [Pokemon] intended for S2C use. It sends what [CLIENT_CODEC] does but in a compact
+         * positional format, see [ClientPokemonStreamCodec].
          */
         @JvmStatic
-        val S2C_CODEC: StreamCodec<RegistryFriendlyByteBuf, Pokemon> = ByteBufCodecs.fromCodecWithRegistries(CLIENT_CODEC)
+        val S2C_CODEC: StreamCodec<RegistryFriendlyByteBuf, Pokemon> = ClientPokemonStreamCodec
     }
 }
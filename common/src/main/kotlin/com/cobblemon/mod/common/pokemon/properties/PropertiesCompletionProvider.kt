@@ -19,6 +19,7 @@ import com.cobblemon.mod.common.api.properties.CustomPokemonProperty
 import com.cobblemon.mod.common.api.reactive.SimpleObservable
 import com.cobblemon.mod.common.api.types.ElementalTypes
 import com.cobblemon.mod.common.api.types.tera.TeraTypes
+import com.cobblemon.mod.common.net.messages.client.data.DataRegistrySyncPacket
 import com.cobblemon.mod.common.net.messages.client.data.PropertiesCompletionRegistrySyncPacket
 import com.cobblemon.mod.common.pokemon.EVs
 import com.cobblemon.mod.common.pokemon.Gender
@@ -53,7 +54,7 @@ internal object PropertiesCompletionProvider : DataRegistry {
     }
 
     override fun sync(player: ServerPlayer) {
-        PropertiesCompletionRegistrySyncPacket(this.providers).sendToPlayer(player)
+        DataRegistrySyncPacket.shared(this) { PropertiesCompletionRegistrySyncPacket(this.providers) }.sendToPlayer(player)
     }
 
     // We only have this because we do not need to have a ResourceManager for a reload to exist, this is invoked each time a custom property is added
@@ -61,6 +62,7 @@ internal object PropertiesCompletionProvider : DataRegistry {
         this.providers.clear()
         this.addDefaults()
         this.addCustom()
+        DataRegistrySyncPacket.invalidateShared(this)
     }
 
     /**
@@ -71,6 +73,7 @@ internal object PropertiesCompletionProvider : DataRegistry {
      */
     fun inject(keys: Iterable<String>, suggestions: Collection<String>) {
         this.providers += SuggestionHolder(keys.toList(), suggestions)
+        DataRegistrySyncPacket.invalidateShared(this)
     }
 
     /**
@@ -0,0 +1,353 @@
+/*
+ * Copyright (C) 2023 Cobblemon Contributors
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.cobblemon.mod.common.util.codec.internal
+
+import com.cobblemon.mod.common.Cobblemon
+import com.cobblemon.mod.common.api.Priority
+import com.cobblemon.mod.common.api.abilities.Abilities
+import com.cobblemon.mod.common.api.abilities.Ability
+import com.cobblemon.mod.common.api.moves.BenchedMove
+import com.cobblemon.mod.common.api.moves.BenchedMoves
+import com.cobblemon.mod.common.api.moves.MoveSet
+import com.cobblemon.mod.common.api.moves.MoveTemplate
+import com.cobblemon.mod.common.api.moves.Moves
+import com.cobblemon.mod.common.api.pokeball.PokeBalls
+import com.cobblemon.mod.common.api.pokemon.Natures
+import com.cobblemon.mod.common.api.pokemon.PokemonSpecies
+import com.cobblemon.mod.common.api.pokemon.status.Statuses
+import com.cobblemon.mod.common.api.riding.stats.RidingStat
+import com.cobblemon.mod.common.api.storage.InvalidSpeciesException
+import com.cobblemon.mod.common.api.types.tera.TeraTypes
+import com.cobblemon.mod.common.pokemon.Gender
+import com.cobblemon.mod.common.pokemon.IVs
+import com.cobblemon.mod.common.pokemon.Nature
+import com.cobblemon.mod.common.pokemon.OriginalTrainerType
+import com.cobblemon.mod.common.pokemon.Pokemon
+import com.cobblemon.mod.common.pokemon.Species
+import com.cobblemon.mod.common.pokemon.activestate.ShoulderedState
+import com.cobblemon.mod.common.pokemon.evolution.controller.ClientEvolutionController
+import com.cobblemon.mod.common.pokemon.status.PersistentStatus
+import com.cobblemon.mod.common.pokemon.status.PersistentStatusContainer
+import java.util.Optional
+import net.minecraft.nbt.CompoundTag
+import net.minecraft.network.RegistryFriendlyByteBuf
+import net.minecraft.network.chat.ComponentSerialization
+import net.minecraft.network.codec.ByteBufCodecs
+import net.minecraft.network.codec.StreamCodec
+import net.minecraft.world.item.ItemStack
+
+/**
+ * The [StreamCodec] behind [Pokemon.S2C_CODEC]. It carries the same fields as [Pokemon.CLIENT_CODEC] but writes them
+ * in a fixed order with no field names, as varints where they're numbers, as one set of flags for the booleans and
+ * the optional fields, and with species and moves written as their Pokédex and numerical IDs where those identify
+ * them on their own. Everything else that's looked up from a registry is written as its identifier.
+ *
+ * The first byte is [FORMAT_VERSION], which must be changed whenever the layout changes so that a mismatched client
+ * fails with a clear error rather than reading garbage.
+ *
+ * @since October 19th, 2026
+ */
+internal object ClientPokemonStreamCodec : StreamCodec<RegistryFriendlyByteBuf, Pokemon> {
+    const val FORMAT_VERSION = 1
+
+    private const val SHINY = 1
+    private const val GMAX_FACTOR = 1 shl 1
+    private const val TRADEABLE = 1 shl 2
+    private const val ABILITY_FORCED = 1 shl 3
+    private const val HELD_ITEM_VISIBLE = 1 shl 4
+    private const val LEFT_SHOULDER = 1 shl 5
+    private const val HAS_NICKNAME = 1 shl 6
+    private const val HAS_SHOULDERED_STATE = 1 shl 7
+    private const val HAS_STATUS = 1 shl 8
+    private const val HAS_MINTED_NATURE = 1 shl 9
+    private const val HAS_TETHERING_ID = 1 shl 10
+    private const val HAS_EVOLUTIONS = 1 shl 11
+    private const val HAS_ORIGINAL_TRAINER = 1 shl 12
+    private const val HAS_ORIGINAL_TRAINER_NAME = 1 shl 13
+    private const val HAS_HELD_ITEM_VISIBLE = 1 shl 14
+    private const val HAS_ACTIVE_MARK = 1 shl 15
+
+    private val EVOLUTIONS_STREAM_CODEC = ByteBufCodecs.fromCodecWithRegistries(ClientEvolutionController.CODEC)
+
+    override fun encode(buffer: RegistryFriendlyByteBuf, pokemon: Pokemon) {
+        val p1 = ClientPokemonP1.from(pokemon)
+        val p2 = ClientPokemonP2.from(pokemon)
+        val p3 = ClientPokemonP3.from(pokemon)
+        val state = p2.state.orElse(null)
+
+        var flags = 0
+        fun flag(flag: Int, value: Boolean) {
+            if (value) flags = flags or flag
+        }
+        flag(SHINY, p2.shiny)
+        flag(GMAX_FACTOR, p2.gmaxFactor)
+        flag(TRADEABLE, p2.tradeable)
+        flag(ABILITY_FORCED, p1.ability.forced)
+        flag(HELD_ITEM_VISIBLE, p3.heldItemVisible.orElse(false))
+        flag(LEFT_SHOULDER, state?.isLeftShoulder == true)
+        flag(HAS_NICKNAME, p1.nickname.isPresent)
+        flag(HAS_SHOULDERED_STATE, state != null)
+        flag(HAS_STATUS, p2.status.isPresent)
+        flag(HAS_MINTED_NATURE, p2.mintedNature.isPresent)
+        flag(HAS_TETHERING_ID, p2.tetheringId.isPresent)
+        flag(HAS_EVOLUTIONS, p2.evolutionController.isPresent)
+        flag(HAS_ORIGINAL_TRAINER, p3.originalTrainer.isPresent)
+        flag(HAS_ORIGINAL_TRAINER_NAME, p3.originalTrainerName.isPresent)
+        flag(HAS_HELD_ITEM_VISIBLE, p3.heldItemVisible.isPresent)
+        flag(HAS_ACTIVE_MARK, p3.activeMark.isPresent)
+
+        buffer.writeByte(FORMAT_VERSION)
+        buffer.writeVarInt(flags)
+
+        // Everything from ClientPokemonP1
+        buffer.writeUUID(p1.uuid)
+        writeSpecies(buffer, p1.species)
+        buffer.writeUtf(p1.form.formOnlyShowdownId())
+        p1.nickname.ifPresent { ComponentSerialization.STREAM_CODEC.encode(buffer, it) }
+        buffer.writeVarInt(p1.level)
+        buffer.writeVarInt(p1.experience)
+        buffer.writeVarInt(p1.friendship)
+        buffer.writeVarInt(p1.currentHealth)
+        buffer.writeByte(p1.gender.ordinal)
+        buffer.writeVarInt(p1.ivs.count())
+        p1.ivs.forEach { (stat, value) ->
+            Cobblemon.statProvider.encode(buffer, stat)
+            buffer.writeVarInt(value)
+        }
+        buffer.writeVarInt(p1.ivs.hyperTrainedIVs.size)
+        p1.ivs.hyperTrainedIVs.forEach { (stat, value) ->
+            Cobblemon.statProvider.encode(buffer, stat)
+            buffer.writeVarInt(value)
+        }
+        buffer.writeVarInt(p1.evs.count())
+        p1.evs.forEach { (stat, value) ->
+            Cobblemon.statProvider.encode(buffer, stat)
+            buffer.writeVarInt(value)
+        }
+        val moves = p1.moveSet.toList()
+        buffer.writeByte(moves.size)
+        moves.forEach { move ->
+            writeMove(buffer, move.template)
+            buffer.writeVarInt(move.currentPp)
+            buffer.writeByte(move.raisedPpStages)
+        }
+        val benchedMoves = p1.benchedMoves.toList()
+        buffer.writeVarInt(benchedMoves.size)
+        benchedMoves.forEach { benchedMove ->
+            writeMove(buffer, benchedMove.moveTemplate)
+            buffer.writeByte(benchedMove.ppRaisedStages)
+        }
+        buffer.writeFloat(p1.scaleModifier)
+        buffer.writeVarInt(p1.features.size)
+        p1.features.forEach { buffer.writeNbt(it) }
+        buffer.writeUtf(p1.ability.template.name)
+        // Shifted up by one because an unset index is -1, which would take five bytes as a varint.
+        buffer.writeVarInt(p1.ability.index + 1)
+        buffer.writeByte(p1.ability.priority.ordinal)
+
+        // Everything from ClientPokemonP2
+        if (state != null) {
+            buffer.writeUUID(state.stateId)
+            buffer.writeUUID(state.playerUUID)
+            buffer.writeUUID(state.pokemonUUID)
+        }
+        p2.status.ifPresent { status ->
+            buffer.writeResourceLocation(status.status.name)
+            buffer.writeVarInt(status.secondsLeft)
+        }
+        buffer.writeResourceLocation(p2.caughtBall.name)
+        buffer.writeVarInt(p2.faintedTimer)
+        buffer.writeVarInt(p2.healTimer)
+        buffer.writeResourceLocation(p2.nature.name)
+        p2.mintedNature.ifPresent { buffer.writeResourceLocation(it.name) }
+        ItemStack.OPTIONAL_STREAM_CODEC.encode(buffer, p2.heldItem)
+        buffer.writeNbt(p2.persistentData)
+        p2.tetheringId.ifPresent { buffer.writeUUID(it) }
+        buffer.writeResourceLocation(p2.teraType.id)
+        buffer.writeVarInt(p2.dmaxLevel)
+        p2.evolutionController.ifPresent { EVOLUTIONS_STREAM_CODEC.encode(buffer, it) }
+
+        // Everything from ClientPokemonP3
+        buffer.writeByte(p3.originalTrainerType.ordinal)
+        p3.originalTrainer.ifPresent { buffer.writeUtf(it) }
+        p3.originalTrainerName.ifPresent { buffer.writeUtf(it) }
+        buffer.writeVarInt(p3.aspects.size)
+        p3.aspects.forEach { buffer.writeUtf(it) }
+        ItemStack.OPTIONAL_STREAM_CODEC.encode(buffer, p3.cosmeticItem.orElse(ItemStack.EMPTY))
+        p3.activeMark.ifPresent { buffer.writeResourceLocation(it) }
+        buffer.writeVarInt(p3.marks.size)
+        p3.marks.forEach { buffer.writeResourceLocation(it) }
+        buffer.writeVarInt(p3.potentialMarks.size)
+        p3.potentialMarks.forEach { buffer.writeResourceLocation(it) }
+        buffer.writeVarInt(p3.markings.size)
+        p3.markings.forEach { buffer.writeVarInt(it) }
+        buffer.writeVarInt(p3.rideBoosts.size)
+        p3.rideBoosts.forEach { (stat, value) ->
+            buffer.writeByte(RidingStat.valueOf(stat).ordinal)
+            buffer.writeFloat(value)
+        }
+        buffer.writeVarInt(p3.currentFullness)
+        buffer.writeVarInt(p3.interactionCooldowns.size)
+        p3.interactionCooldowns.forEach { (id, cooldown) ->
+            buffer.writeResourceLocation(id)
+            buffer.writeVarInt(cooldown)
+        }
+    }
+
+    override fun decode(buffer: RegistryFriendlyByteBuf): Pokemon {
+        val version = buffer.readUnsignedByte().toInt()
+        if (version != FORMAT_VERSION) {
+            throw IllegalStateException("Unsupported Pokémon format version $version, expected $FORMAT_VERSION")
+        }
+        val flags = buffer.readVarInt()
+        fun flag(flag: Int) = flags and flag != 0
+
+        val uuid = buffer.readUUID()
+        val species = readSpecies(buffer)
+        val formId = buffer.readUtf()
+        val form = species.forms.firstOrNull { it.formOnlyShowdownId() == formId } ?: species.standardForm
+        val nickname = if (flag(HAS_NICKNAME)) Optional.of(ComponentSerialization.STREAM_CODEC.decode(buffer)) else Optional.empty()
+        val level = buffer.readVarInt()
+        val experience = buffer.readVarInt()
+        val friendship = buffer.readVarInt()
+        val currentHealth = buffer.readVarInt()
+        val gender = Gender.entries[buffer.readUnsignedByte().toInt()]
+        val ivs = IVs()
+        repeat(buffer.readVarInt()) { ivs[Cobblemon.statProvider.decode(buffer)] = buffer.readVarInt() }
+        repeat(buffer.readVarInt()) { ivs.setHyperTrainedIV(Cobblemon.statProvider.decode(buffer), buffer.readVarInt()) }
+        val evs = Cobblemon.statProvider.createEmptyEVs()
+        repeat(buffer.readVarInt()) { evs[Cobblemon.statProvider.decode(buffer)] = buffer.readVarInt() }
+        // Unknown moves are dropped the same way MoveSet.CODEC and BenchedMoves.CODEC drop them.
+        val moveSet = MoveSet()
+        repeat(buffer.readUnsignedByte().toInt()) {
+            val template = readMove(buffer)
+            val move = template.create(buffer.readVarInt(), buffer.readUnsignedByte().toInt())
+            if (template !is MoveTemplate.Dummy) {
+                moveSet.add(move)
+            }
+        }
+        if (moveSet.getMoves().isEmpty()) {
+            moveSet.add(Moves.getExceptional().create())
+        }
+        val benchedMoves = BenchedMoves()
+        repeat(buffer.readVarInt()) {
+            val template = readMove(buffer)
+            val ppRaisedStages = buffer.readUnsignedByte().toInt()
+            if (template !is MoveTemplate.Dummy) {
+                benchedMoves.add(BenchedMove(template, ppRaisedStages))
+            }
+        }
+        val scaleModifier = buffer.readFloat()
+        val features = List(buffer.readVarInt()) { buffer.readNbt() ?: CompoundTag() }
+        val abilityTemplate = Abilities.getOrDummy(buffer.readUtf())
+        val abilityIndex = buffer.readVarInt() - 1
+        val abilityPriority = Priority.entries[buffer.readUnsignedByte().toInt()]
+        val ability = Ability(abilityTemplate, flag(ABILITY_FORCED), abilityPriority).apply { index = abilityIndex }
+
+        val state = if (flag(HAS_SHOULDERED_STATE)) {
+            val stateId = buffer.readUUID()
+            ShoulderedState(buffer.readUUID(), flag(LEFT_SHOULDER), buffer.readUUID()).also { it.stateId = stateId }
+        } else {
+            null
+        }
+        val status = if (flag(HAS_STATUS)) {
+            val statusId = buffer.readResourceLocation()
+            val persistentStatus = Statuses.getStatus(statusId) as? PersistentStatus ?: throw IllegalStateException("No persistent status for ID $statusId")
+            Optional.of(PersistentStatusContainer(persistentStatus, buffer.readVarInt()))
+        } else {
+            Optional.empty()
+        }
+        val caughtBallId = buffer.readResourceLocation()
+        val caughtBall = PokeBalls.getPokeBall(caughtBallId) ?: throw IllegalStateException("No PokeBall for ID $caughtBallId")
+        val faintedTimer = buffer.readVarInt()
+        val healTimer = buffer.readVarInt()
+        val nature = readNature(buffer)
+        val mintedNature = if (flag(HAS_MINTED_NATURE)) Optional.of(readNature(buffer)) else Optional.empty()
+        val heldItem = ItemStack.OPTIONAL_STREAM_CODEC.decode(buffer)
+        val persistentData = buffer.readNbt() ?: CompoundTag()
+        val tetheringId = if (flag(HAS_TETHERING_ID)) Optional.of(buffer.readUUID()) else Optional.empty()
+        val teraTypeId = buffer.readResourceLocation()
+        val teraType = TeraTypes.get(teraTypeId) ?: throw IllegalStateException("No TeraType for ID $teraTypeId")
+        val dmaxLevel = buffer.readVarInt()
+        val evolutionController = if (flag(HAS_EVOLUTIONS)) Optional.of(EVOLUTIONS_STREAM_CODEC.decode(buffer)) else Optional.empty()
+
+        val originalTrainerType = OriginalTrainerType.entries[buffer.readUnsignedByte().toInt()]
+        val originalTrainer = if (flag(HAS_ORIGINAL_TRAINER)) Optional.of(buffer.readUtf()) else Optional.empty()
+        val originalTrainerName = if (flag(HAS_ORIGINAL_TRAINER_NAME)) Optional.of(buffer.readUtf()) else Optional.empty()
+        val aspects = List(buffer.readVarInt()) { buffer.readUtf() }.toSet()
+        val heldItemVisible = if (flag(HAS_HELD_ITEM_VISIBLE)) Optional.of(flag(HELD_ITEM_VISIBLE)) else Optional.empty()
+        val cosmeticItem = Optional.of(ItemStack.OPTIONAL_STREAM_CODEC.decode(buffer)).filter { !it.isEmpty }
+        val activeMark = if (flag(HAS_ACTIVE_MARK)) Optional.of(buffer.readResourceLocation()) else Optional.empty()
+        val marks = List(buffer.readVarInt()) { buffer.readResourceLocation() }.toSet()
+        val potentialMarks = List(buffer.readVarInt()) { buffer.readResourceLocation() }.toSet()
+        val markings = List(buffer.readVarInt()) { buffer.readVarInt() }
+        val rideBoosts = List(buffer.readVarInt()) { RidingStat.entries[buffer.readUnsignedByte().toInt()].name to buffer.readFloat() }.toMap()
+        val currentFullness = buffer.readVarInt()
+        val interactionCooldowns = List(buffer.readVarInt()) { buffer.readResourceLocation() to buffer.readVarInt() }.toMap()
+
+        val pokemon = Pokemon()
+        pokemon.isClient = true
+        ClientPokemonP1(
+            uuid, species, form, nickname, level, experience, friendship, currentHealth, gender, ivs, evs, moveSet,
+            benchedMoves, scaleModifier, features, ability
+        ).into(pokemon)
+        ClientPokemonP2(
+            Optional.ofNullable(state), status, caughtBall, faintedTimer, healTimer, flag(SHINY), nature, mintedNature,
+            heldItem, persistentData, tetheringId, teraType, dmaxLevel, flag(GMAX_FACTOR), flag(TRADEABLE),
+            evolutionController
+        ).into(pokemon)
+        ClientPokemonP3(
+            originalTrainerType, originalTrainer, originalTrainerName, aspects, heldItemVisible, cosmeticItem,
+            activeMark, marks, potentialMarks, markings, rideBoosts, currentFullness, interactionCooldowns
+        ).into(pokemon)
+        return pokemon.initialize()
+    }
+
+    /** Writes the Pokédex number if that's enough to find the species, and otherwise a 0 followed by its identifier. */
+    private fun writeSpecies(buffer: RegistryFriendlyByteBuf, species: Species) {
+        if (species.resourceIdentifier.namespace == Cobblemon.MODID && species.nationalPokedexNumber > 0 && PokemonSpecies.hasUniquePokedexNumber(species)) {
+            buffer.writeVarInt(species.nationalPokedexNumber)
+        } else {
+            buffer.writeVarInt(0)
+            buffer.writeResourceLocation(species.resourceIdentifier)
+        }
+    }
+
+    private fun readSpecies(buffer: RegistryFriendlyByteBuf): Species {
+        val dexNumber = buffer.readVarInt()
+        if (dexNumber == 0) {
+            val identifier = buffer.readResourceLocation()
+            return PokemonSpecies.getByIdentifier(identifier) ?: throw InvalidSpeciesException(identifier)
+        }
+        return PokemonSpecies.getByPokedexNumber(dexNumber) ?: throw IllegalStateException("No species with Pokédex number $dexNumber")
+    }
+
+    /** Writes the numerical ID plus one if that's enough to find the move, and otherwise a 0 followed by its name. */
+    private fun writeMove(buffer: RegistryFriendlyByteBuf, template: MoveTemplate) {
+        if (template !is MoveTemplate.Dummy && template.num >= 0 && Moves.hasUniqueNumericalId(template)) {
+            buffer.writeVarInt(template.num + 1)
+        } else {
+            buffer.writeVarInt(0)
+            buffer.writeUtf(template.name)
+        }
+    }
+
+    private fun readMove(buffer: RegistryFriendlyByteBuf): MoveTemplate {
+        val id = buffer.readVarInt()
+        if (id == 0) {
+            return Moves.getByNameOrDummy(buffer.readUtf())
+        }
+        return Moves.getByNumericalId(id - 1) ?: throw IllegalStateException("No move with numerical ID ${id - 1}")
+    }
+
+    private fun readNature(buffer: RegistryFriendlyByteBuf): Nature {
+        val id = buffer.readResourceLocation()
+        return Natures.getNature(id) ?: throw IllegalStateException("No nature for ID $id")
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright (C) 2023 Cobblemon Contributors
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.cobblemon.mod.common.net
+
+import com.cobblemon.mod.common.util.cobblemonResource
+import org.junit.jupiter.api.AfterEach
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertTrue
+import org.junit.jupiter.api.Test
+
+internal class NetworkStatsTest {
+
+    @AfterEach
+    fun disable() {
+        NetworkStats.disable()
+    }
+
+    @Test
+    fun `it should total received packets by ID`() {
+        val first = cobblemonResource("first")
+        val second = cobblemonResource("second")
+        NetworkStats.enable()
+        NetworkStats.onReceive(first, 10, 1000)
+        NetworkStats.onReceive(first, 30, 3000)
+        NetworkStats.onReceive(second, 5, 500)
+
+        val received = NetworkStats.received()
+        assertEquals(2L, received.getValue(first).count)
+        assertEquals(40L, received.getValue(first).bytes)
+        assertEquals(4000L, received.getValue(first).nanos)
+        assertEquals(1L, received.getValue(second).count)
+        assertTrue(NetworkStats.sent().isEmpty())
+    }
+
+    @Test
+    fun `it should forget everything when reset`() {
+        NetworkStats.enable()
+        NetworkStats.onReceive(cobblemonResource("first"), 10, 1000)
+        NetworkStats.reset()
+        assertTrue(NetworkStats.received().isEmpty())
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (C) 2023 Cobblemon Contributors
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.cobblemon.mod.common.util.codec.internal
+
+import com.cobblemon.mod.common.Cobblemon
+import com.cobblemon.mod.common.api.pokemon.PokemonSpecies
+import com.cobblemon.mod.common.api.pokemon.stats.Stats
+import com.cobblemon.mod.common.junit.BootstrapMinecraft
+import com.cobblemon.mod.common.pokemon.Gender
+import com.cobblemon.mod.common.pokemon.Pokemon
+import com.cobblemon.mod.common.pokemon.Species
+import com.cobblemon.mod.common.util.cobblemonResource
+import io.netty.buffer.Unpooled
+import net.minecraft.core.RegistryAccess
+import net.minecraft.core.registries.BuiltInRegistries
+import net.minecraft.network.RegistryFriendlyByteBuf
+import net.minecraft.network.chat.Component
+import net.minecraft.network.codec.ByteBufCodecs
+import net.minecraft.network.codec.StreamCodec
+import net.minecraft.world.item.ItemStack
+import net.minecraft.world.item.Items
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertThrows
+import org.junit.jupiter.api.Assertions.assertTrue
+import org.junit.jupiter.api.BeforeAll
+import org.junit.jupiter.api.Test
+
+@BootstrapMinecraft
+internal class ClientPokemonStreamCodecTest {
+
+    private val registryAccess = RegistryAccess.fromRegistryOfRegistries(BuiltInRegistries.REGISTRY)
+    private val legacyCodec = ByteBufCodecs.fromCodecWithRegistries(Pokemon.CLIENT_CODEC)
+
+    @Test
+    fun `it should reject an unknown format version`() {
+        val buffer = RegistryFriendlyByteBuf(Unpooled.buffer(), registryAccess)
+        buffer.writeByte(ClientPokemonStreamCodec.FORMAT_VERSION + 1)
+        assertThrows(IllegalStateException::class.java) { ClientPokemonStreamCodec.decode(buffer) }
+        buffer.release()
+    }
+
+    @Test
+    fun `it should decode the same Pokemon as the codec it replaces in fewer bytes`() {
+        val pokemon = Pokemon().apply {
+            species = PokemonSpecies.getByIdentifier(SPECIES)!!
+            level = 37
+            shiny = true
+            gender = Gender.FEMALE
+            nickname = Component.literal("Sparky")
+            ivs[Stats.SPEED] = 31
+            evs[Stats.ATTACK] = 252
+            heldItem = ItemStack(Items.APPLE)
+            forcedAspects = setOf("alolan")
+        }
+
+        val legacyBytes = encode(legacyCodec, pokemon)
+        val compactBytes = encode(ClientPokemonStreamCodec, pokemon)
+        val fromLegacy = legacyCodec.decode(legacyBytes)
+        val fromCompact = ClientPokemonStreamCodec.decode(compactBytes)
+        assertEquals(0, compactBytes.readableBytes())
+        assertTrue(compactBytes.writerIndex() < legacyBytes.writerIndex())
+        legacyBytes.release()
+        compactBytes.release()
+
+        for (decoded in listOf(fromLegacy, fromCompact)) {
+            assertEquals(pokemon.uuid, decoded.uuid)
+            assertEquals(pokemon.species, decoded.species)
+            assertEquals(pokemon.form.name, decoded.form.name)
+            assertEquals(pokemon.level, decoded.level)
+            assertEquals(pokemon.shiny, decoded.shiny)
+            assertEquals(pokemon.gender, decoded.gender)
+            assertEquals(pokemon.nickname, decoded.nickname)
+            assertEquals(pokemon.nature, decoded.nature)
+            assertEquals(pokemon.ability.name, decoded.ability.name)
+            assertEquals(pokemon.friendship, decoded.friendship)
+            assertEquals(pokemon.currentHealth, decoded.currentHealth)
+            assertEquals(pokemon.forcedAspects, decoded.forcedAspects)
+            assertEquals(pokemon.caughtBall, decoded.caughtBall)
+            assertTrue(ItemStack.matches(pokemon.heldItem(), decoded.heldItem()))
+            Stats.PERMANENT.forEach { stat ->
+                assertEquals(pokemon.ivs[stat], decoded.ivs[stat], "IV for $stat")
+                assertEquals(pokemon.evs[stat], decoded.evs[stat], "EV for $stat")
+            }
+        }
+    }
+
+    private fun encode(codec: StreamCodec<RegistryFriendlyByteBuf, Pokemon>, pokemon: Pokemon): RegistryFriendlyByteBuf {
+        val buffer = RegistryFriendlyByteBuf(Unpooled.buffer(), registryAccess)
+        codec.encode(buffer, pokemon)
+        return buffer
+    }
+
+    companion object {
+        private val SPECIES = cobblemonResource("test_species")
+
+        /** Registers a single species, since species normally come from datapacks that aren't loaded in unit tests. */
+        @JvmStatic
+        @BeforeAll
+        fun loadSpecies() {
+            Cobblemon.loadConfig()
+            val species = Species().apply {
+                name = "Test Species"
+                nationalPokedexNumber = 10000
+                implemented = true
+            }
+            PokemonSpecies.reload(mapOf(SPECIES to species))
+            species.initialize()
+        }
+    }
+}
@@ -60,6 +60,8 @@ dependencies {
     modRuntimeOnly(libs.bundles.fabric.integrations.runtimeOnly)
     modRuntimeOnly(libs.bundles.mongo)
     bundle(libs.bundles.mongo)
+    modRuntimeOnly(libs.bundles.sqlite)
+    bundle(libs.bundles.sqlite)
 
 //    modImplementation(libs.flywheelFabric)
 //    include(libs.flywheelFabric)
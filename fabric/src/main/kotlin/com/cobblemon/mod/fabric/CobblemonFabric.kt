@@ -252,6 +252,7 @@ object CobblemonFabric : CobblemonImplementation {
         EntityDataSerializers.registerSerializer(UUIDSetDataSerializer)
         EntityDataSerializers.registerSerializer(NPCPlayerTextureSerializer)
         EntityDataSerializers.registerSerializer(RideBoostsDataSerializer)
+        EntityDataSerializers.registerSerializer(AspectSetDataSerializer)
     }
 
     override fun registerItems() {
@@ -40,6 +40,7 @@ dependencies {
     modLocalRuntime(libs.neoforge.debugutils)
     modRuntimeOnly(libs.bundles.neoforge.integrations.runtimeOnly)
     modRuntimeOnly(libs.bundles.mongo)
+    modRuntimeOnly(libs.bundles.sqlite)
 
     implementation(libs.neo.kotlin.forge)
 
@@ -61,6 +62,9 @@ dependencies {
 
     forgeRuntimeLibrary(libs.bundles.mongo)
     bundle(libs.bundles.mongo)
+
+    forgeRuntimeLibrary(libs.bundles.sqlite)
+    bundle(libs.bundles.sqlite)
 }
 
 tasks {
@@ -272,6 +272,7 @@ class CobblemonNeoForge : CobblemonImplementation {
                 helper.register(IdentifierDataSerializer.ID, IdentifierDataSerializer)
                 helper.register(UUIDSetDataSerializer.ID, UUIDSetDataSerializer)
                 helper.register(NPCPlayerTextureSerializer.ID, NPCPlayerTextureSerializer)
+                helper.register(AspectSetDataSerializer.ID, AspectSetDataSerializer)
             }
         }
     }
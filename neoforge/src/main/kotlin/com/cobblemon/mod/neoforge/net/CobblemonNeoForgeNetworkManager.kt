@@ -12,6 +12,7 @@ import com.cobblemon.mod.common.Cobblemon
 import com.cobblemon.mod.common.CobblemonNetwork
 import com.cobblemon.mod.common.NetworkManager
 import com.cobblemon.mod.common.api.net.NetworkPacket
+import com.cobblemon.mod.common.client.net.data.CachedDataRegistrySyncHandler
 import com.cobblemon.mod.common.client.net.data.DataRegistrySyncPacketHandler
 import net.minecraft.client.Minecraft
 import net.minecraft.resources.ResourceLocation
@@ -37,7 +38,7 @@ object CobblemonNeoForgeNetworkManager : NetworkManager {
         val asyncPackets = HashSet<ResourceLocation>()
 
         CobblemonNetwork.s2cPayloads.map { NeoForgePacketInfo(it) }.forEach {
-            val handleAsync = it.info.handler is DataRegistrySyncPacketHandler<*, *>
+            val handleAsync = it.info.handler is DataRegistrySyncPacketHandler<*, *> || it.info.handler is CachedDataRegistrySyncHandler
             if (handleAsync) asyncPackets += it.info.id
             else syncPackets += it.info.id
 